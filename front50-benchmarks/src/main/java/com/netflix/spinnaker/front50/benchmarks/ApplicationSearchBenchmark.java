@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.front50.benchmarks;
+
+import com.netflix.spinnaker.front50.model.SearchIndexer;
+import com.netflix.spinnaker.front50.model.SearchUtils;
+import com.netflix.spinnaker.front50.model.application.Application;
+import com.netflix.spinnaker.front50.model.application.ApplicationDAO;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Measures application search (filtering and ranking) and the scoring it relies on. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApplicationSearchBenchmark {
+
+  @Param({"1000", "10000"})
+  public int applications;
+
+  /** A name substring matching roughly 10% of the applications. */
+  @Param({"name=app1"})
+  public String query;
+
+  private List<Application> dataset;
+  private Map<String, String> attributes;
+  private Application scored;
+  private SearchIndexer<Application> searchIndexer;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    dataset = SyntheticData.applications(applications);
+    String[] attribute = query.split("=", 2);
+    attributes = Map.of(attribute[0], attribute[1]);
+    scored = dataset.get(dataset.size() - 1);
+    searchIndexer = new SearchIndexer<>(ApplicationDAO.Searcher::attributes);
+  }
+
+  /** Searches without a retained index, i.e. every search extracts the attributes of every item. */
+  @Benchmark
+  public Collection<Application> search() {
+    return ApplicationDAO.Searcher.search(dataset, attributes);
+  }
+
+  /** Searches a cache that did not change since the previous search. */
+  @Benchmark
+  public Collection<Application> indexedSearch() {
+    return ApplicationDAO.Searcher.search(searchIndexer.indexFor(dataset), attributes);
+  }
+
+  @Benchmark
+  public int score() {
+    return SearchUtils.score(scored, attributes);
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.front50.benchmarks;
+
+import com.netflix.spectator.api.NoopRegistry;
+import com.netflix.spinnaker.front50.api.model.pipeline.Pipeline;
+import com.netflix.spinnaker.front50.config.StorageServiceConfigurationProperties;
+import com.netflix.spinnaker.front50.model.CacheSnapshot;
+import com.netflix.spinnaker.front50.model.DefaultObjectKeyLoader;
+import com.netflix.spinnaker.front50.model.InMemoryStorageService;
+import com.netflix.spinnaker.front50.model.ObjectType;
+import com.netflix.spinnaker.front50.model.StorageService;
+import com.netflix.spinnaker.front50.model.pipeline.DefaultPipelineDAO;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import rx.schedulers.Schedulers;
+
+/**
+ * Measures a single cache refresh of {@code pipelines} cached pipelines, {@code modified} of which
+ * changed since the previous refresh.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheRefreshBenchmark {
+
+  @Param({"1000", "10000"})
+  public int pipelines;
+
+  @Param({"0", "10"})
+  public int modified;
+
+  @Param({"10"})
+  public int stagesPerPipeline;
+
+  @Param({"false", "true"})
+  public boolean optimizeCacheRefreshes;
+
+  private InMemoryStorageService storageService;
+  private RefreshablePipelineDAO pipelineDAO;
+  private List<Pipeline> dataset;
+  private int nextModified;
+  private long lastModified = 1;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    storageService = new InMemoryStorageService(SyntheticData.objectMapper(), Clock.systemUTC());
+    dataset = SyntheticData.pipelines(pipelines, stagesPerPipeline);
+    storageService.storeObjects(ObjectType.PIPELINE, dataset);
+
+    pipelineDAO =
+        new RefreshablePipelineDAO(
+            storageService,
+            new StorageServiceConfigurationProperties.PerObjectType()
+                .setThreadPool(2)
+                .setOptimizeCacheRefreshes(optimizeCacheRefreshes));
+    pipelineDAO.forceRefresh();
+  }
+
+  @Setup(Level.Invocation)
+  public void modify() {
+    for (int i = 0; i < modified; i++) {
+      Pipeline pipeline = dataset.get(nextModified++ % dataset.size());
+      // strictly increasing, refreshes only pick up modifications newer than what they've seen
+      lastModified = Math.max(System.currentTimeMillis(), lastModified + 1);
+      pipeline.setLastModified(lastModified);
+      storageService.storeObject(ObjectType.PIPELINE, pipeline.getId().toLowerCase(), pipeline);
+    }
+  }
+
+  @Benchmark
+  public CacheSnapshot<Pipeline> refresh() {
+    pipelineDAO.forceRefresh();
+    return pipelineDAO.getCacheSnapshot(false);
+  }
+
+  /** Exposes an unconditional refresh, {@code all(true)} skips refreshes when nothing changed. */
+  static class RefreshablePipelineDAO extends DefaultPipelineDAO {
+    RefreshablePipelineDAO(
+        StorageService storageService,
+        StorageServiceConfigurationProperties.PerObjectType configurationProperties) {
+      super(
+          storageService,
+          Schedulers.immediate(),
+          new DefaultObjectKeyLoader(storageService),
+          configurationProperties,
+          new NoopRegistry(),
+          CircuitBreakerRegistry.ofDefaults());
+    }
+
+    void forceRefresh() {
+      refresh();
+    }
+  }
+}
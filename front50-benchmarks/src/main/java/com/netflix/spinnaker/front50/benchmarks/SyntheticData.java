@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.front50.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.netflix.spinnaker.front50.api.model.pipeline.Pipeline;
+import com.netflix.spinnaker.front50.api.model.pipeline.Trigger;
+import com.netflix.spinnaker.front50.jackson.Front50ApiModule;
+import com.netflix.spinnaker.front50.model.application.Application;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Generates deterministic (seeded) datasets, so results of different runs remain comparable.
+ *
+ * <p>Shapes loosely follow production data: a handful of pipelines per application, a few triggers
+ * and a configurable number of stages per pipeline.
+ */
+final class SyntheticData {
+  static final long SEED = 42;
+
+  private static final String[] STAGE_TYPES = {
+    "bake", "deploy", "manualJudgment", "wait", "runJob", "checkPreconditions"
+  };
+  private static final String[] TRIGGER_TYPES = {"git", "jenkins", "docker", "cron", "pipeline"};
+
+  private SyntheticData() {}
+
+  static ObjectMapper objectMapper() {
+    return new ObjectMapper().registerModule(new Front50ApiModule());
+  }
+
+  static List<Application> applications(int count) {
+    Random random = new Random(SEED);
+    List<Application> applications = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      Application application = new Application();
+      application.setName(applicationName(i));
+      application.setEmail("team" + random.nextInt(count / 10 + 1) + "@example.com");
+      application.setDescription("Synthetic application " + i + " owned by team " + i % 97);
+      application.set("repoProjectKey", "project" + random.nextInt(100));
+      application.set("repoSlug", applicationName(i) + "-service");
+      application.set("cloudProviders", "aws,kubernetes");
+      application.setLastModified(1L);
+      applications.add(application);
+    }
+    return applications;
+  }
+
+  static List<Pipeline> pipelines(int count, int stagesPerPipeline) {
+    Random random = new Random(SEED);
+    int applications = Math.max(1, count / 5);
+    List<Pipeline> pipelines = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      Pipeline pipeline = new Pipeline();
+      pipeline.setId(new UUID(random.nextLong(), random.nextLong()).toString());
+      pipeline.setName("pipeline-" + i);
+      pipeline.setApplication(applicationName(random.nextInt(applications)));
+      pipeline.setIndex(i % 5);
+      pipeline.setKeepWaitingPipelines(false);
+      pipeline.setLimitConcurrent(true);
+      pipeline.setLastModified(1L);
+
+      int triggerCount = random.nextInt(3);
+      List<Trigger> triggers = new ArrayList<>(triggerCount);
+      for (int t = 0; t < triggerCount; t++) {
+        Trigger trigger = new Trigger();
+        trigger.put("type", TRIGGER_TYPES[random.nextInt(TRIGGER_TYPES.length)]);
+        trigger.put("enabled", random.nextBoolean());
+        trigger.put("branch", "main");
+        triggers.add(trigger);
+      }
+      pipeline.setTriggers(triggers);
+
+      List<Map<String, Object>> stages = new ArrayList<>(stagesPerPipeline);
+      for (int s = 0; s < stagesPerPipeline; s++) {
+        Map<String, Object> stage = new HashMap<>();
+        stage.put("refId", String.valueOf(s + 1));
+        stage.put("requisiteStageRefIds", s == 0 ? List.of() : List.of(String.valueOf(s)));
+        stage.put("type", STAGE_TYPES[random.nextInt(STAGE_TYPES.length)]);
+        stage.put("name", "Stage " + s);
+        stage.put("account", "account" + random.nextInt(20));
+        stage.put("cloudProvider", "aws");
+        stage.put("regions", List.of("us-east-1", "us-west-2"));
+        stage.put("timeoutMinutes", random.nextInt(120));
+        stages.add(stage);
+      }
+      pipeline.setStages(stages);
+      pipelines.add(pipeline);
+    }
+    return pipelines;
+  }
+
+  static String applicationName(int i) {
+    return "app" + i;
+  }
+}
@@ -17,6 +17,7 @@
 package com.netflix.spinnaker.front50.config;
 
 import com.netflix.spectator.api.Registry;
+import com.netflix.spinnaker.front50.model.CacheRefreshScheduler;
 import com.netflix.spinnaker.front50.model.DefaultObjectKeyLoader;
 import com.netflix.spinnaker.front50.model.ObjectKeyLoader;
 import com.netflix.spinnaker.front50.model.StorageService;
@@ -47,12 +48,10 @@ import com.netflix.spinnaker.front50.model.snapshot.SnapshotDAO;
 import com.netflix.spinnaker.front50.model.tag.DefaultEntityTagsDAO;
 import com.netflix.spinnaker.front50.model.tag.EntityTagsDAO;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
-import java.util.concurrent.Executors;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import rx.schedulers.Schedulers;
 
 @Configuration
 @ConditionalOnProperty(
@@ -60,6 +59,20 @@ import rx.schedulers.Schedulers;
     havingValue = "false",
     matchIfMissing = true)
 public class CommonStorageServiceDAOConfig {
+  @Bean
+  @ConditionalOnMissingBean
+  CacheRefreshScheduler cacheRefreshScheduler(
+      StorageServiceConfigurationProperties storageServiceConfigurationProperties,
+      Registry registry) {
+    StorageServiceConfigurationProperties.RefreshScheduler refreshScheduler =
+        storageServiceConfigurationProperties.getRefreshScheduler();
+    return new CacheRefreshScheduler(
+        registry,
+        refreshScheduler.getMaxConcurrentRefreshes(),
+        refreshScheduler.getThreadPool(),
+        refreshScheduler.getJitter());
+  }
+
   @Bean
   @ConditionalOnMissingBean(ObjectKeyLoader.class)
   ObjectKeyLoader defaultObjectKeyLoader(StorageService storageService) {
@@ -71,13 +84,12 @@ public class CommonStorageServiceDAOConfig {
       StorageService storageService,
       StorageServiceConfigurationProperties storageServiceConfigurationProperties,
       ObjectKeyLoader objectKeyLoader,
+      CacheRefreshScheduler cacheRefreshScheduler,
       Registry registry,
       CircuitBreakerRegistry circuitBreakerRegistry) {
     return new DefaultApplicationDAO(
         storageService,
-        Schedulers.from(
-            Executors.newFixedThreadPool(
-                storageServiceConfigurationProperties.getApplication().getThreadPool())),
+        cacheRefreshScheduler.getScheduler(),
         objectKeyLoader,
         storageServiceConfigurationProperties.getApplication(),
         registry,
@@ -90,13 +102,12 @@ public class CommonStorageServiceDAOConfig {
       StorageService storageService,
       StorageServiceConfigurationProperties storageServiceConfigurationProperties,
       ObjectKeyLoader objectKeyLoader,
+      CacheRefreshScheduler cacheRefreshScheduler,
       Registry registry,
       CircuitBreakerRegistry circuitBreakerRegistry) {
     return new DefaultApplicationPermissionDAO(
         storageService,
-        Schedulers.from(
-            Executors.newFixedThreadPool(
-                storageServiceConfigurationProperties.getApplicationPermission().getThreadPool())),
+        cacheRefreshScheduler.getScheduler(),
         objectKeyLoader,
         storageServiceConfigurationProperties.getApplicationPermission(),
         registry,
@@ -108,13 +119,12 @@ public class CommonStorageServiceDAOConfig {
       StorageService storageService,
       StorageServiceConfigurationProperties storageServiceConfigurationProperties,
       ObjectKeyLoader objectKeyLoader,
+      CacheRefreshScheduler cacheRefreshScheduler,
       Registry registry,
       CircuitBreakerRegistry circuitBreakerRegistry) {
     return new DefaultServiceAccountDAO(
         storageService,
-        Schedulers.from(
-            Executors.newFixedThreadPool(
-                storageServiceConfigurationProperties.getServiceAccount().getThreadPool())),
+        cacheRefreshScheduler.getScheduler(),
         objectKeyLoader,
         storageServiceConfigurationProperties.getServiceAccount(),
         registry,
@@ -126,13 +136,12 @@ public class CommonStorageServiceDAOConfig {
       StorageService storageService,
       StorageServiceConfigurationProperties storageServiceConfigurationProperties,
       ObjectKeyLoader objectKeyLoader,
+      CacheRefreshScheduler cacheRefreshScheduler,
       Registry registry,
       CircuitBreakerRegistry circuitBreakerRegistry) {
     return new DefaultProjectDAO(
         storageService,
-        Schedulers.from(
-            Executors.newFixedThreadPool(
-                storageServiceConfigurationProperties.getProject().getThreadPool())),
+        cacheRefreshScheduler.getScheduler(),
         objectKeyLoader,
         storageServiceConfigurationProperties.getProject(),
         registry,
@@ -144,13 +153,12 @@ public class CommonStorageServiceDAOConfig {
       StorageService storageService,
       StorageServiceConfigurationProperties storageServiceConfigurationProperties,
       ObjectKeyLoader objectKeyLoader,
+      CacheRefreshScheduler cacheRefreshScheduler,
       Registry registry,
       CircuitBreakerRegistry circuitBreakerRegistry) {
     return new DefaultNotificationDAO(
         storageService,
-        Schedulers.from(
-            Executors.newFixedThreadPool(
-                storageServiceConfigurationProperties.getNotification().getThreadPool())),
+        cacheRefreshScheduler.getScheduler(),
         objectKeyLoader,
         storageServiceConfigurationProperties.getNotification(),
         registry,
@@ -162,13 +170,12 @@ public class CommonStorageServiceDAOConfig {
       StorageService storageService,
       StorageServiceConfigurationProperties storageServiceConfigurationProperties,
       ObjectKeyLoader objectKeyLoader,
+      CacheRefreshScheduler cacheRefreshScheduler,
       Registry registry,
       CircuitBreakerRegistry circuitBreakerRegistry) {
     return new DefaultPipelineStrategyDAO(
         storageService,
-        Schedulers.from(
-            Executors.newFixedThreadPool(
-                storageServiceConfigurationProperties.getPipelineStrategy().getThreadPool())),
+        cacheRefreshScheduler.getScheduler(),
         objectKeyLoader,
         storageServiceConfigurationProperties.getPipelineStrategy(),
         registry,
@@ -180,13 +187,12 @@ public class CommonStorageServiceDAOConfig {
       StorageService storageService,
       StorageServiceConfigurationProperties storageServiceConfigurationProperties,
       ObjectKeyLoader objectKeyLoader,
+      CacheRefreshScheduler cacheRefreshScheduler,
       Registry registry,
       CircuitBreakerRegistry circuitBreakerRegistry) {
     return new DefaultPipelineDAO(
         storageService,
-        Schedulers.from(
-            Executors.newFixedThreadPool(
-                storageServiceConfigurationProperties.getPipeline().getThreadPool())),
+        cacheRefreshScheduler.getScheduler(),
         objectKeyLoader,
         storageServiceConfigurationProperties.getPipeline(),
         registry,
@@ -198,13 +204,12 @@ public class CommonStorageServiceDAOConfig {
       StorageService storageService,
       StorageServiceConfigurationProperties storageServiceConfigurationProperties,
       ObjectKeyLoader objectKeyLoader,
+      CacheRefreshScheduler cacheRefreshScheduler,
       Registry registry,
       CircuitBreakerRegistry circuitBreakerRegistry) {
     return new DefaultPipelineTemplateDAO(
         storageService,
-        Schedulers.from(
-            Executors.newFixedThreadPool(
-                storageServiceConfigurationProperties.getPipelineTemplate().getThreadPool())),
+        cacheRefreshScheduler.getScheduler(),
         objectKeyLoader,
         storageServiceConfigurationProperties.getPipelineTemplate(),
         registry,
@@ -216,13 +221,12 @@ public class CommonStorageServiceDAOConfig {
       StorageService storageService,
       StorageServiceConfigurationProperties storageServiceConfigurationProperties,
       ObjectKeyLoader objectKeyLoader,
+      CacheRefreshScheduler cacheRefreshScheduler,
       Registry registry,
       CircuitBreakerRegistry circuitBreakerRegistry) {
     return new DefaultSnapshotDAO(
         storageService,
-        Schedulers.from(
-            Executors.newFixedThreadPool(
-                storageServiceConfigurationProperties.getSnapshot().getThreadPool())),
+        cacheRefreshScheduler.getScheduler(),
         objectKeyLoader,
         storageServiceConfigurationProperties.getSnapshot(),
         registry,
@@ -234,13 +238,12 @@ public class CommonStorageServiceDAOConfig {
       StorageService storageService,
       StorageServiceConfigurationProperties storageServiceConfigurationProperties,
       ObjectKeyLoader objectKeyLoader,
+      CacheRefreshScheduler cacheRefreshScheduler,
       Registry registry,
       CircuitBreakerRegistry circuitBreakerRegistry) {
     return new DefaultEntityTagsDAO(
         storageService,
-        Schedulers.from(
-            Executors.newFixedThreadPool(
-                storageServiceConfigurationProperties.getEntityTags().getThreadPool())),
+        cacheRefreshScheduler.getScheduler(),
         objectKeyLoader,
         storageServiceConfigurationProperties.getEntityTags(),
         registry,
@@ -252,13 +255,12 @@ public class CommonStorageServiceDAOConfig {
       StorageService storageService,
       StorageServiceConfigurationProperties storageServiceConfigurationProperties,
       ObjectKeyLoader objectKeyLoader,
+      CacheRefreshScheduler cacheRefreshScheduler,
       Registry registry,
       CircuitBreakerRegistry circuitBreakerRegistry) {
     return new DefaultDeliveryRepository(
         storageService,
-        Schedulers.from(
-            Executors.newFixedThreadPool(
-                storageServiceConfigurationProperties.getDeliveryConfig().getThreadPool())),
+        cacheRefreshScheduler.getScheduler(),
         objectKeyLoader,
         storageServiceConfigurationProperties.getDeliveryConfig(),
         registry,
@@ -270,13 +272,12 @@ public class CommonStorageServiceDAOConfig {
       StorageService storageService,
       StorageServiceConfigurationProperties storageServiceConfigurationProperties,
       ObjectKeyLoader objectKeyLoader,
+      CacheRefreshScheduler cacheRefreshScheduler,
       Registry registry,
       CircuitBreakerRegistry circuitBreakerRegistry) {
     return new DefaultPluginInfoRepository(
         storageService,
-        Schedulers.from(
-            Executors.newFixedThreadPool(
-                storageServiceConfigurationProperties.getPluginInfo().getThreadPool())),
+        cacheRefreshScheduler.getScheduler(),
         objectKeyLoader,
         storageServiceConfigurationProperties.getPluginInfo(),
         registry,
@@ -288,13 +289,12 @@ public class CommonStorageServiceDAOConfig {
       StorageService storageService,
       StorageServiceConfigurationProperties storageServiceConfigurationProperties,
       ObjectKeyLoader objectKeyLoader,
+      CacheRefreshScheduler cacheRefreshScheduler,
       Registry registry,
       CircuitBreakerRegistry circuitBreakerRegistry) {
     return new DefaultPluginVersionPinningRepository(
         storageService,
-        Schedulers.from(
-            Executors.newFixedThreadPool(
-                storageServiceConfigurationProperties.getPluginInfo().getThreadPool())),
+        cacheRefreshScheduler.getScheduler(),
         objectKeyLoader,
         storageServiceConfigurationProperties.getPluginInfo(),
         registry,
@@ -17,6 +17,8 @@ package com.netflix.spinnaker.front50.config;
 
 import com.fasterxml.jackson.databind.Module;
 import com.netflix.spinnaker.front50.jackson.Front50ApiModule;
+import com.netflix.spinnaker.front50.locks.KeyedLockManager;
+import com.netflix.spinnaker.front50.locks.StripedKeyedLockManager;
 import com.netflix.spinnaker.moniker.Namer;
 import com.netflix.spinnaker.moniker.frigga.FriggaReflectiveNamer;
 import java.util.List;
@@ -43,6 +45,12 @@ public class Front50CoreConfiguration {
     return new FriggaReflectiveNamer();
   }
 
+  /** Local to this instance, storage backends may provide a (primary) cross-instance variant. */
+  @Bean
+  public KeyedLockManager stripedKeyedLockManager() {
+    return new StripedKeyedLockManager(1024);
+  }
+
   @Bean
   Jackson2ObjectMapperBuilderCustomizer defaultObjectMapperCustomizer(List<Module> modules) {
     return jacksonObjectMapperBuilder -> {
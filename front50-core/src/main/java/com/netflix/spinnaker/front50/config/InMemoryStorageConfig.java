@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.front50.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.netflix.spinnaker.front50.api.model.Timestamped;
+import com.netflix.spinnaker.front50.api.model.pipeline.Pipeline;
+import com.netflix.spinnaker.front50.jackson.mixins.PipelineMixins;
+import com.netflix.spinnaker.front50.jackson.mixins.TimestampedMixins;
+import com.netflix.spinnaker.front50.model.InMemoryStorageService;
+import java.time.Clock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Stores everything in memory, nothing survives a restart. Not suitable for production use.
+ *
+ * <p>{@link InMemoryStorageProperties} can be used to simulate the latency and error rate of a
+ * remote backend.
+ */
+@Configuration
+@ConditionalOnExpression("${spinnaker.in-memory.enabled:false}")
+@EnableConfigurationProperties(InMemoryStorageProperties.class)
+public class InMemoryStorageConfig {
+
+  private static final Logger log = LoggerFactory.getLogger(InMemoryStorageConfig.class);
+
+  @Bean
+  public InMemoryStorageService inMemoryStorageService(InMemoryStorageProperties properties) {
+    log.warn(
+        "Using in-memory storage (latency: {}, latencyJitter: {}, errorRate: {}), "
+            + "nothing will be persisted",
+        properties.getLatency(),
+        properties.getLatencyJitter(),
+        properties.getErrorRate());
+
+    return new InMemoryStorageService(
+        new ObjectMapper()
+            .addMixIn(Timestamped.class, TimestampedMixins.class)
+            .addMixIn(Pipeline.class, PipelineMixins.class),
+        Clock.systemUTC(),
+        properties.getLatency(),
+        properties.getLatencyJitter(),
+        properties.getErrorRate());
+  }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.front50.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/** Controls the in-memory storage service, intended for tests, benchmarks and local development. */
+@Data
+@ConfigurationProperties("spinnaker.in-memory")
+public class InMemoryStorageProperties {
+  /** Delay added to every storage operation. */
+  private Duration latency = Duration.ZERO;
+
+  /** Upper bound of a random delay added on top of {@code latency}. */
+  private Duration latencyJitter = Duration.ZERO;
+
+  /** Probability (between 0 and 1) of a storage operation failing. */
+  private double errorRate = 0;
+}
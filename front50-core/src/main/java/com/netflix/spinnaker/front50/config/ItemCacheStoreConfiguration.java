@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.front50.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.netflix.spinnaker.front50.model.ItemCacheStore;
+import com.netflix.spinnaker.front50.model.LocalDiskItemCacheStore;
+import java.nio.file.Paths;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty("storage-service.persistent-cache.enabled")
+public class ItemCacheStoreConfiguration {
+
+  @Bean
+  @ConditionalOnMissingBean(ItemCacheStore.class)
+  ItemCacheStore itemCacheStore(
+      ObjectMapper objectMapper,
+      StorageServiceConfigurationProperties storageServiceConfigurationProperties) {
+    StorageServiceConfigurationProperties.PersistentCache persistentCache =
+        storageServiceConfigurationProperties.getPersistentCache();
+    return new LocalDiskItemCacheStore(
+        objectMapper,
+        Paths.get(persistentCache.getDirectory()),
+        persistentCache.getPersistIntervalMs());
+  }
+}
@@ -19,6 +19,7 @@ import com.netflix.spinnaker.front50.plugins.CachingPluginBinaryStorageService;
 import com.netflix.spinnaker.front50.plugins.PluginBinaryStorageService;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -26,12 +27,15 @@ import org.springframework.context.annotation.Primary;
 @Configuration
 @ConditionalOnBean(PluginBinaryStorageService.class)
 @ConditionalOnProperty(value = "plugin-binary-cache.enabled", matchIfMissing = true)
+@EnableConfigurationProperties(PluginBinaryCacheProperties.class)
 public class PluginBinaryCacheConfiguration {
 
   @Primary
   @Bean
   PluginBinaryStorageService cachingPluginBinaryStorageService(
-      PluginBinaryStorageService pluginBinaryStorageService) {
-    return new CachingPluginBinaryStorageService(pluginBinaryStorageService);
+      PluginBinaryStorageService pluginBinaryStorageService,
+      PluginBinaryCacheProperties properties) {
+    return new CachingPluginBinaryStorageService(
+        pluginBinaryStorageService, properties.getMaxSizeBytes());
   }
 }
@@ -0,0 +1,31 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.front50.config;
+
+import com.netflix.spinnaker.front50.plugins.CachingPluginBinaryStorageService;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties("plugin-binary-cache")
+public class PluginBinaryCacheProperties {
+  /** Whether plugin binaries are cached on local disk. */
+  private boolean enabled = true;
+
+  /** The maximum total size of cached plugin binaries, least recently used ones are evicted. */
+  private long maxSizeBytes = CachingPluginBinaryStorageService.DEFAULT_MAX_SIZE_BYTES;
+}
@@ -1,5 +1,6 @@
 package com.netflix.spinnaker.front50.config;
 
+import com.netflix.spinnaker.front50.model.CacheRefreshScheduler.Priority;
 import java.util.concurrent.TimeUnit;
 import lombok.Data;
 import lombok.experimental.Accessors;
@@ -13,17 +14,20 @@ public class StorageServiceConfigurationProperties {
       new PerObjectType()
           .setThreadPool(20)
           .setRefreshMs(TimeUnit.MINUTES.toMillis(1))
-          .setShouldWarmCache(true);
+          .setShouldWarmCache(true)
+          .setRefreshPriority(Priority.HIGH);
   private PerObjectType applicationPermission =
       new PerObjectType()
           .setThreadPool(20)
           .setRefreshMs(TimeUnit.MINUTES.toMillis(1))
-          .setShouldWarmCache(true);
+          .setShouldWarmCache(true)
+          .setRefreshPriority(Priority.HIGH);
   private PerObjectType serviceAccount =
       new PerObjectType()
           .setThreadPool(20)
           .setRefreshMs(TimeUnit.MINUTES.toMillis(1))
-          .setShouldWarmCache(true);
+          .setShouldWarmCache(true)
+          .setRefreshPriority(Priority.HIGH);
   private PerObjectType project =
       new PerObjectType()
           .setThreadPool(20)
@@ -43,7 +47,8 @@ public class StorageServiceConfigurationProperties {
       new PerObjectType()
           .setThreadPool(20)
           .setRefreshMs(TimeUnit.MINUTES.toMillis(1))
-          .setShouldWarmCache(true);
+          .setShouldWarmCache(true)
+          .setRefreshPriority(Priority.HIGH);
   private PerObjectType pipelineTemplate =
       new PerObjectType()
           .setThreadPool(20)
@@ -53,7 +58,8 @@ public class StorageServiceConfigurationProperties {
       new PerObjectType()
           .setThreadPool(2)
           .setRefreshMs(TimeUnit.MINUTES.toMillis(1))
-          .setShouldWarmCache(true);
+          .setShouldWarmCache(true)
+          .setRefreshPriority(Priority.LOW);
   private PerObjectType deliveryConfig =
       new PerObjectType()
           .setThreadPool(20)
@@ -65,13 +71,48 @@ public class StorageServiceConfigurationProperties {
           .setRefreshMs(TimeUnit.MINUTES.toMillis(1))
           .setShouldWarmCache(true);
   private PerObjectType entityTags =
-      new PerObjectType().setThreadPool(2).setRefreshMs(TimeUnit.MINUTES.toMillis(5));
+      new PerObjectType()
+          .setThreadPool(2)
+          .setRefreshMs(TimeUnit.MINUTES.toMillis(5))
+          .setRefreshPriority(Priority.LOW);
+
+  private PersistentCache persistentCache = new PersistentCache();
+
+  private RefreshScheduler refreshScheduler = new RefreshScheduler();
 
   @Data
   @Accessors(chain = true)
   public static class PerObjectType {
+    /**
+     * No longer used, object types share the threads of the refresh scheduler (see {@link
+     * RefreshScheduler#threadPool}).
+     */
     private int threadPool;
+
+    /**
+     * How frequently the cache is refreshed. Must be more frequent than the cache health timeout,
+     * even once varied by the refresh scheduler's jitter. Leave a margin on top of that for
+     * refreshes queued behind others (see RefreshScheduler#maxConcurrentRefreshes), in particular
+     * for object types with a low refreshPriority.
+     */
     private long refreshMs;
+
+    /**
+     * When greater than zero, refreshes of an object type become more frequent (down to this
+     * interval) while it is changing, see maxRefreshMs.
+     */
+    private long minRefreshMs;
+
+    /**
+     * When greater than zero, refreshes of an object type become less frequent (up to this
+     * interval) while it is not changing. Like refreshMs, must be more frequent than the cache
+     * health timeout even once jittered.
+     */
+    private long maxRefreshMs;
+
+    /** Due refreshes of object types with a higher priority are started first. */
+    private Priority refreshPriority = Priority.NORMAL;
+
     private boolean shouldWarmCache;
     private long cacheHealthCheckTimeoutSeconds = 90L;
 
@@ -88,6 +129,35 @@ public class StorageServiceConfigurationProperties {
      */
     private boolean optimizeCacheRefreshes;
 
+    /**
+     * When true, and the storage service records a change log (see ChangeLogStorageService), cache
+     * refreshes only load the objects recorded in the change log since the last refresh. Takes
+     * precedence over optimizeCacheRefreshes.
+     */
+    private boolean tailChangeLog;
+
+    /**
+     * How long a sequence number missing from the change log is waited for before assuming the
+     * transaction that claimed it rolled back.
+     */
+    private long changeLogGapTimeoutMs = TimeUnit.MINUTES.toMillis(1);
+
+    /**
+     * When changes are being pushed by an ObjectChangeNotifier, scheduled refreshes are skipped
+     * unless the cache has not been refreshed for this long.
+     */
+    private long notifiedRefreshMs = TimeUnit.MINUTES.toMillis(10);
+
+    /**
+     * When greater than zero, and the storage service supports bulk writes, concurrent updates are
+     * collected for up to this long and stored as a single batch. Trades a little latency for
+     * throughput when many objects are saved at once.
+     */
+    private long writeBatchWindowMs;
+
+    /** The maximum number of updates stored in a single batch. */
+    private int writeBatchMaxSize = 100;
+
     public PerObjectType setThreadPool(int threadPool) {
       if (threadPool <= 1) {
         throw new IllegalArgumentException("threadPool must be >= 1");
@@ -97,4 +167,33 @@ public class StorageServiceConfigurationProperties {
       return this;
     }
   }
+
+  @Data
+  public static class PersistentCache {
+    /**
+     * When true, item caches are periodically persisted to local disk. On startup they are used to
+     * warm the cache, such that only objects modified since need to be fetched.
+     */
+    private boolean enabled;
+
+    private String directory = System.getProperty("java.io.tmpdir") + "/front50-item-cache";
+
+    /** How frequently a (changed) item cache is persisted. */
+    private long persistIntervalMs = TimeUnit.MINUTES.toMillis(5);
+  }
+
+  @Data
+  public static class RefreshScheduler {
+    /** The maximum number of object types refreshed concurrently. */
+    private int maxConcurrentRefreshes = 4;
+
+    /** The number of threads shared by all object types to load objects with. */
+    private int threadPool = 20;
+
+    /**
+     * Refresh intervals are randomly varied by up to this fraction of the interval, so that
+     * replicas don't all refresh at the same time.
+     */
+    private double jitter = 0.1;
+  }
 }
@@ -43,4 +43,7 @@ public class AnyProviderExceptRedisCondition extends AnyNestedCondition {
 
   @ConditionalOnProperty("spinnaker.swift.enabled")
   static class SwiftEnabled {}
+
+  @ConditionalOnProperty("spinnaker.in-memory.enabled")
+  static class InMemoryEnabled {}
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.front50.locks;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Mutual exclusion for arbitrary (string) keys, e.g. to guard a check-then-act sequence such as
+ * verifying that a pipeline name is not taken before saving it.
+ *
+ * <p>Keys are compared case-insensitively.
+ */
+public interface KeyedLockManager {
+
+  /**
+   * Run {@code action} while holding the locks of every key. Locks are acquired in a consistent
+   * order, so callers locking overlapping sets of keys cannot deadlock.
+   *
+   * @return the result of {@code action}
+   */
+  <T> T withLocks(Collection<String> keys, Supplier<T> action);
+
+  default <T> T withLock(String key, Supplier<T> action) {
+    return withLocks(List.of(key), action);
+  }
+
+  /** @return a key made of {@code parts}, e.g. an application and a pipeline name */
+  static String key(String... parts) {
+    return String.join(":", parts).toLowerCase();
+  }
+}
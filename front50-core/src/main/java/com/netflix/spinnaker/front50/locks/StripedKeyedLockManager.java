@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.front50.locks;
+
+import com.google.common.util.concurrent.Striped;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Supplier;
+
+/**
+ * A {@link KeyedLockManager} local to this instance, backed by a fixed number of lock stripes.
+ *
+ * <p>Unrelated keys may share a stripe, so callers occasionally wait on each other even though
+ * their keys differ, but never on every other caller.
+ */
+public class StripedKeyedLockManager implements KeyedLockManager {
+  private final Striped<Lock> locks;
+
+  public StripedKeyedLockManager(int stripes) {
+    this.locks = Striped.lazyWeakLock(stripes);
+  }
+
+  @Override
+  public <T> T withLocks(Collection<String> keys, Supplier<T> action) {
+    List<String> normalizedKeys = new ArrayList<>(keys.size());
+    keys.forEach(key -> normalizedKeys.add(key.toLowerCase()));
+
+    // bulkGet orders the stripes consistently (and the locks are reentrant, should two keys share
+    // a stripe), which is what makes overlapping acquisitions deadlock free
+    List<Lock> acquired = new ArrayList<>();
+    try {
+      for (Lock lock : locks.bulkGet(normalizedKeys)) {
+        lock.lock();
+        acquired.add(lock);
+      }
+      return action.get();
+    } finally {
+      for (int i = acquired.size() - 1; i >= 0; i--) {
+        acquired.get(i).unlock();
+      }
+    }
+  }
+}
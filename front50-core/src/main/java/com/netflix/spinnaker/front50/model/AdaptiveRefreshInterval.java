@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.front50.model;
+
+import com.netflix.spectator.api.Registry;
+
+/**
+ * The interval between two scheduled cache refreshes of an {@link ObjectType}, adapted to how
+ * frequently objects of that type change.
+ *
+ * <p>Every scheduled refresh reports the number of changed objects it observed, along with how far
+ * the storage last modified watermark advanced. The interval is halved after a refresh that saw
+ * changes, so busy types are refreshed more frequently, and grows by half after a refresh that saw
+ * none, so idle types stop costing listings. The interval never leaves its configured bounds, equal
+ * bounds make for a fixed interval.
+ */
+class AdaptiveRefreshInterval {
+  private final long minIntervalMs;
+  private final long maxIntervalMs;
+
+  private volatile long intervalMs;
+
+  AdaptiveRefreshInterval(
+      ObjectType objectType,
+      long initialIntervalMs,
+      long minIntervalMs,
+      long maxIntervalMs,
+      Registry registry) {
+    if (minIntervalMs > initialIntervalMs || initialIntervalMs > maxIntervalMs) {
+      throw new IllegalArgumentException(
+          "Refresh interval bounds of "
+              + objectType
+              + " must include the refresh interval (refreshMs: "
+              + initialIntervalMs
+              + ", minRefreshMs: "
+              + minIntervalMs
+              + ", maxRefreshMs: "
+              + maxIntervalMs
+              + ")");
+    }
+    this.minIntervalMs = minIntervalMs;
+    this.maxIntervalMs = maxIntervalMs;
+    this.intervalMs = initialIntervalMs;
+
+    registry.gauge(
+        registry.createId("storageServiceSupport.refreshInterval", "objectType", objectType.name()),
+        this,
+        AdaptiveRefreshInterval::getIntervalMs);
+  }
+
+  long getIntervalMs() {
+    return intervalMs;
+  }
+
+  /**
+   * @param changes the number of added, updated and removed objects observed by a refresh
+   * @param storageLastModifiedDelta how far the storage last modified watermark advanced
+   */
+  void observe(long changes, long storageLastModifiedDelta) {
+    long current = intervalMs;
+    long next = changes > 0 || storageLastModifiedDelta > 0 ? current / 2 : current + current / 2;
+    intervalMs = Math.max(minIntervalMs, Math.min(maxIntervalMs, next));
+  }
+}
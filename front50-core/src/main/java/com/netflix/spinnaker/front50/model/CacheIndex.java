@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.front50.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A secondary index over the items cached by a {@link StorageServiceSupport}.
+ *
+ * <p>Indexes are declared by DAOs (see {@link StorageServiceSupport#registerIndex(CacheIndex)})
+ * and rebuilt whenever the item cache is replaced, so lookups never observe an index that is out
+ * of sync with the cached items. Index keys are compared case-insensitively.
+ */
+public class CacheIndex<T> {
+  private final String name;
+  private final Function<T, Collection<String>> keysFunction;
+
+  private CacheIndex(String name, Function<T, Collection<String>> keysFunction) {
+    this.name = Objects.requireNonNull(name);
+    this.keysFunction = Objects.requireNonNull(keysFunction);
+  }
+
+  /**
+   * @param name the name lookups refer to this index by
+   * @param keyFunction extracts the (single) key of an item, items with a null key are not indexed
+   */
+  public static <T> CacheIndex<T> of(String name, Function<T, String> keyFunction) {
+    return new CacheIndex<>(
+        name,
+        item -> {
+          String key = keyFunction.apply(item);
+          return key == null ? Collections.emptyList() : Collections.singletonList(key);
+        });
+  }
+
+  /**
+   * @param name the name lookups refer to this index by
+   * @param keysFunction extracts every key an item should be reachable by
+   */
+  public static <T> CacheIndex<T> ofMany(
+      String name, Function<T, Collection<String>> keysFunction) {
+    return new CacheIndex<>(name, keysFunction);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  static String normalize(String key) {
+    return key == null ? null : key.toLowerCase();
+  }
+
+  /** @return every (normalized) key that {@code item} is indexed under */
+  Collection<String> keysOf(T item) {
+    Collection<String> keys = keysFunction.apply(item);
+    if (keys == null || keys.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    List<String> normalized = new ArrayList<>(keys.size());
+    for (String key : keys) {
+      if (key != null) {
+        normalized.add(normalize(key));
+      }
+    }
+    return normalized;
+  }
+
+  /**
+   * Build an immutable view of this index over {@code items}.
+   *
+   * @return normalized key -> items indexed under that key
+   */
+  Map<String, List<T>> build(Collection<T> items) {
+    Map<String, List<T>> index = new HashMap<>();
+    for (T item : items) {
+      for (String key : keysOf(item)) {
+        index.computeIfAbsent(key, k -> new ArrayList<>()).add(item);
+      }
+    }
+
+    index.replaceAll((key, values) -> Collections.unmodifiableList(values));
+    return Collections.unmodifiableMap(index);
+  }
+}
@@ -0,0 +1,304 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.front50.model;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.netflix.spectator.api.Counter;
+import com.netflix.spectator.api.Registry;
+import com.netflix.spectator.api.Timer;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import javax.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import rx.Scheduler;
+import rx.schedulers.Schedulers;
+
+/**
+ * Schedules the periodic cache refreshes of every {@link ObjectType}, and provides the threads
+ * that {@link StorageServiceSupport}s load objects with.
+ *
+ * <p>At most {@code maxConcurrentRefreshes} refreshes run at a time, due refreshes are started in
+ * order of {@link Priority} and then of when they became due. Every refresh interval is randomly
+ * varied by up to {@code jitter} (a fraction of the interval) so that replicas which started
+ * together don't keep hitting the backing store in lockstep. A refresh that has not completed
+ * within an interval of becoming due counts as a missed deadline.
+ *
+ * <p>Refreshes only run on the refresh threads, never on the loader threads. A refresh waits for
+ * loads queued to the loader threads, and would starve them if it occupied one itself.
+ */
+public class CacheRefreshScheduler {
+  private static final Logger log = LoggerFactory.getLogger(CacheRefreshScheduler.class);
+
+  public enum Priority {
+    HIGH,
+    NORMAL,
+    LOW
+  }
+
+  private final Registry registry;
+  private final double jitter;
+  private final ScheduledExecutorService timer;
+  private final ThreadPoolExecutor refreshExecutor;
+  private final ThreadPoolExecutor loadExecutor;
+  private final Scheduler scheduler;
+  private final AtomicLong sequence = new AtomicLong();
+
+  /**
+   * @param maxConcurrentRefreshes the maximum number of object types refreshed concurrently
+   * @param threadPool the number of threads shared by all object types to load objects with
+   * @param jitter the fraction of the interval by which refresh intervals are randomly varied
+   */
+  public CacheRefreshScheduler(
+      Registry registry, int maxConcurrentRefreshes, int threadPool, double jitter) {
+    if (maxConcurrentRefreshes < 1) {
+      throw new IllegalArgumentException("maxConcurrentRefreshes must be >= 1");
+    }
+    if (threadPool < 1) {
+      throw new IllegalArgumentException("threadPool must be >= 1");
+    }
+    if (jitter < 0 || jitter >= 1) {
+      throw new IllegalArgumentException("jitter must be >= 0 and < 1");
+    }
+    this.registry = registry;
+    this.jitter = jitter;
+
+    this.timer =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                .setNameFormat(CacheRefreshScheduler.class.getSimpleName() + "-timer-%d")
+                .setDaemon(true)
+                .build());
+    // due refreshes are queued by priority, the queue is unbounded so the pool never grows
+    this.refreshExecutor =
+        new ThreadPoolExecutor(
+            maxConcurrentRefreshes,
+            maxConcurrentRefreshes,
+            1,
+            TimeUnit.MINUTES,
+            new PriorityBlockingQueue<>(),
+            new ThreadFactoryBuilder()
+                .setNameFormat(CacheRefreshScheduler.class.getSimpleName() + "-%d")
+                .setDaemon(true)
+                .build());
+    this.refreshExecutor.allowCoreThreadTimeOut(true);
+    this.loadExecutor =
+        new ThreadPoolExecutor(
+            threadPool,
+            threadPool,
+            1,
+            TimeUnit.MINUTES,
+            new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder()
+                .setNameFormat(CacheRefreshScheduler.class.getSimpleName() + "-loader-%d")
+                .setDaemon(true)
+                .build());
+    this.loadExecutor.allowCoreThreadTimeOut(true);
+    this.scheduler = Schedulers.from(loadExecutor);
+
+    registry.gauge(
+        registry.createId("cacheRefreshScheduler.queuedRefreshes"),
+        refreshExecutor,
+        e -> e.getQueue().size());
+    registry.gauge(
+        registry.createId("cacheRefreshScheduler.activeRefreshes"),
+        refreshExecutor,
+        ThreadPoolExecutor::getActiveCount);
+  }
+
+  /** @return the scheduler shared by all object types to load (and bulk import) objects with */
+  public Scheduler getScheduler() {
+    return scheduler;
+  }
+
+  /**
+   * Periodically refresh {@code objectType}, starting one (jittered) interval from now.
+   *
+   * @param intervalMs the interval between two refreshes, evaluated before every refresh
+   */
+  public void register(
+      ObjectType objectType, Priority priority, LongSupplier intervalMs, Runnable refresh) {
+    schedule(new RegisteredRefresh(objectType, priority, intervalMs, refresh));
+  }
+
+  /**
+   * Refresh {@code objectType} once, as soon as a refresh thread is available (e.g. after being
+   * notified of a change). Started ahead of due refreshes of a lower priority, and doesn't affect
+   * periodic refreshes.
+   */
+  public void refreshNow(ObjectType objectType, Priority priority, Runnable refresh) {
+    try {
+      refreshExecutor.execute(
+          new DueRefresh(objectType, priority, refresh, sequence.incrementAndGet()));
+    } catch (RejectedExecutionException e) {
+      log.debug("Not refreshing {}, the scheduler is shut down", objectType);
+    }
+  }
+
+  public void shutdown() {
+    timer.shutdownNow();
+    refreshExecutor.shutdownNow();
+    loadExecutor.shutdownNow();
+  }
+
+  private void schedule(RegisteredRefresh registered) {
+    long intervalMs = registered.intervalMs.getAsLong();
+    try {
+      timer.schedule(
+          () -> {
+            try {
+              long dueTime = System.currentTimeMillis();
+              refreshExecutor.execute(
+                  new DueRefresh(registered, dueTime, intervalMs, sequence.incrementAndGet()));
+            } catch (RejectedExecutionException e) {
+              log.debug("Not refreshing {}, the scheduler is shut down", registered.objectType);
+            }
+          },
+          jittered(intervalMs),
+          TimeUnit.MILLISECONDS);
+    } catch (RejectedExecutionException e) {
+      log.debug("Not scheduling {} refresh, the scheduler is shut down", registered.objectType);
+    }
+  }
+
+  /**
+   * @return the longest {@code intervalMs} may become once jittered, refreshes may still be delayed
+   *     beyond it while queued behind other refreshes
+   */
+  public long maxJittered(long intervalMs) {
+    return intervalMs + (long) (intervalMs * jitter);
+  }
+
+  long jittered(long intervalMs) {
+    long spread = (long) (intervalMs * jitter);
+    if (spread <= 0) {
+      return intervalMs;
+    }
+    return intervalMs - spread + ThreadLocalRandom.current().nextLong(2 * spread + 1);
+  }
+
+  private class RegisteredRefresh {
+    private final ObjectType objectType;
+    private final Priority priority;
+    private final LongSupplier intervalMs;
+    private final Runnable refresh;
+    private final Timer delayTimer;
+    private final Counter missedDeadlines;
+
+    RegisteredRefresh(
+        ObjectType objectType, Priority priority, LongSupplier intervalMs, Runnable refresh) {
+      this.objectType = objectType;
+      this.priority = priority;
+      this.intervalMs = intervalMs;
+      this.refresh = refresh;
+      this.delayTimer =
+          registry.timer(
+              registry.createId(
+                  "cacheRefreshScheduler.refreshDelay", "objectType", objectType.name()));
+      this.missedDeadlines =
+          registry.counter(
+              registry.createId(
+                  "cacheRefreshScheduler.missedDeadlines", "objectType", objectType.name()));
+    }
+  }
+
+  private class DueRefresh implements Runnable, Comparable<DueRefresh> {
+    private final ObjectType objectType;
+    private final Priority priority;
+    private final Runnable refresh;
+    @Nullable private final RegisteredRefresh registered;
+    private final long dueTime;
+    private final long intervalMs;
+    private final long sequence;
+
+    /** A due occurrence of a periodic refresh. */
+    DueRefresh(RegisteredRefresh registered, long dueTime, long intervalMs, long sequence) {
+      this(
+          registered.objectType,
+          registered.priority,
+          registered.refresh,
+          registered,
+          dueTime,
+          intervalMs,
+          sequence);
+    }
+
+    /** A one-off refresh. */
+    DueRefresh(ObjectType objectType, Priority priority, Runnable refresh, long sequence) {
+      this(objectType, priority, refresh, null, System.currentTimeMillis(), 0, sequence);
+    }
+
+    private DueRefresh(
+        ObjectType objectType,
+        Priority priority,
+        Runnable refresh,
+        @Nullable RegisteredRefresh registered,
+        long dueTime,
+        long intervalMs,
+        long sequence) {
+      this.objectType = objectType;
+      this.priority = priority;
+      this.refresh = refresh;
+      this.registered = registered;
+      this.dueTime = dueTime;
+      this.intervalMs = intervalMs;
+      this.sequence = sequence;
+    }
+
+    @Override
+    public void run() {
+      if (registered != null) {
+        registered.delayTimer.record(System.currentTimeMillis() - dueTime, TimeUnit.MILLISECONDS);
+      }
+      try {
+        refresh.run();
+      } catch (Exception e) {
+        log.error("Unable to refresh {}: ", objectType, e);
+      } finally {
+        if (registered != null) {
+          long elapsedMs = System.currentTimeMillis() - dueTime;
+          if (elapsedMs > intervalMs) {
+            registered.missedDeadlines.increment();
+            log.warn(
+                "Refresh of {} missed its deadline (interval: {}ms, completed after: {}ms)",
+                objectType,
+                intervalMs,
+                elapsedMs);
+          }
+          schedule(registered);
+        }
+      }
+    }
+
+    @Override
+    public int compareTo(DueRefresh other) {
+      int result = priority.compareTo(other.priority);
+      if (result == 0) {
+        result = Long.compare(dueTime, other.dueTime);
+      }
+      return result != 0 ? result : Long.compare(sequence, other.sequence);
+    }
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.front50.model;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * An immutable, versioned view of the items cached by a {@link StorageServiceSupport}, along with
+ * the secondary indexes built from them.
+ *
+ * <p>A new snapshot is published every time the cache is refreshed. Snapshots are shared between
+ * readers rather than copied, so neither the snapshot nor the items it contains may be modified.
+ * The version increases monotonically with every published snapshot, which allows consumers to
+ * cheaply detect whether anything they derived from a previous snapshot is stale.
+ */
+public final class CacheSnapshot<T> implements Iterable<T> {
+  private final long version;
+  private final Set<T> items;
+  private final Map<String, Map<String, List<T>>> indexes;
+  private final Map<String, SortedCacheIndex.Sorted<T>> sortedIndexes;
+
+  CacheSnapshot(
+      long version,
+      Set<T> items,
+      Collection<CacheIndex<T>> indexes,
+      Collection<SortedCacheIndex<T>> sortedIndexes) {
+    this.version = version;
+    this.items = Collections.unmodifiableSet(items);
+
+    Map<String, Map<String, List<T>>> builtIndexes = new HashMap<>();
+    for (CacheIndex<T> index : indexes) {
+      builtIndexes.put(index.getName(), index.build(items));
+    }
+    this.indexes = Collections.unmodifiableMap(builtIndexes);
+
+    Map<String, SortedCacheIndex.Sorted<T>> builtSortedIndexes = new HashMap<>();
+    for (SortedCacheIndex<T> index : sortedIndexes) {
+      builtSortedIndexes.put(index.getName(), index.build(items));
+    }
+    this.sortedIndexes = Collections.unmodifiableMap(builtSortedIndexes);
+  }
+
+  public long getVersion() {
+    return version;
+  }
+
+  /** @return an unmodifiable view of every cached item */
+  public Set<T> getItems() {
+    return items;
+  }
+
+  public int size() {
+    return items.size();
+  }
+
+  public Stream<T> stream() {
+    return items.stream();
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    return items.iterator();
+  }
+
+  /**
+   * @param indexName name of a {@link CacheIndex} registered when this snapshot was built
+   * @param key key to look up (compared case-insensitively)
+   * @return an unmodifiable list of every item indexed under {@code key}, possibly empty
+   */
+  public List<T> lookup(String indexName, String key) {
+    Map<String, List<T>> index = indexes.get(indexName);
+    if (index == null) {
+      throw new IllegalArgumentException("No cache index registered with name " + indexName);
+    }
+    if (key == null) {
+      return Collections.emptyList();
+    }
+    return index.getOrDefault(CacheIndex.normalize(key), Collections.emptyList());
+  }
+
+  /**
+   * @param indexName name of a {@link SortedCacheIndex} registered when this snapshot was built
+   * @param prefix key prefix to look up (compared case-sensitively)
+   * @return an unmodifiable list, in key order, of every item whose key starts with {@code prefix}
+   */
+  public List<T> lookupPrefix(String indexName, String prefix) {
+    SortedCacheIndex.Sorted<T> index = sortedIndex(indexName);
+    return prefix == null ? Collections.emptyList() : index.withPrefix(prefix);
+  }
+
+  private SortedCacheIndex.Sorted<T> sortedIndex(String indexName) {
+    SortedCacheIndex.Sorted<T> index = sortedIndexes.get(indexName);
+    if (index == null) {
+      throw new IllegalArgumentException(
+          "No sorted cache index registered with name " + indexName);
+    }
+    return index;
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.front50.model;
+
+import java.util.List;
+
+/**
+ * A storage service that records every write and delete in a change log, identifying each change
+ * by a sequence number. Sequence numbers are shared by every object type.
+ *
+ * <p>Sequence numbers increase monotonically in the order they are assigned, which is not
+ * necessarily the order in which changes become visible (concurrent transactions may commit out of
+ * order). Consumers are expected to revisit sequence numbers they have not observed yet, see
+ * {@link ChangeLogTailer}.
+ */
+public interface ChangeLogStorageService {
+
+  /** @return the highest sequence number recorded (for any object type), 0 if there is none */
+  long getLatestChangeSequence();
+
+  /**
+   * @param sequences ranges of sequence numbers (inclusive) to fetch changes for
+   * @param limit maximum number of changes to return
+   * @return changes (of every object type) with a sequence number within any of {@code sequences},
+   *     ordered by sequence number
+   */
+  List<ObjectChange> loadChanges(List<SequenceRange> sequences, int limit);
+
+  class ObjectChange {
+    private final long sequence;
+    private final ObjectType objectType;
+    private final String objectKey;
+
+    public ObjectChange(long sequence, ObjectType objectType, String objectKey) {
+      this.sequence = sequence;
+      this.objectType = objectType;
+      this.objectKey = objectKey;
+    }
+
+    public long getSequence() {
+      return sequence;
+    }
+
+    public ObjectType getObjectType() {
+      return objectType;
+    }
+
+    public String getObjectKey() {
+      return objectKey;
+    }
+  }
+
+  class SequenceRange {
+    private final long from;
+    private final long to;
+
+    public SequenceRange(long from, long to) {
+      this.from = from;
+      this.to = to;
+    }
+
+    public long getFrom() {
+      return from;
+    }
+
+    public long getTo() {
+      return to;
+    }
+
+    @Override
+    public String toString() {
+      return "[" + from + ", " + to + "]";
+    }
+  }
+}
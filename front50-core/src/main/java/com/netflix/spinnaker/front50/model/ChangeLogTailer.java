@@ -0,0 +1,279 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.front50.model;
+
+import com.netflix.spinnaker.front50.model.ChangeLogStorageService.ObjectChange;
+import com.netflix.spinnaker.front50.model.ChangeLogStorageService.SequenceRange;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Follows the change log of a {@link ChangeLogStorageService} for a single {@link ObjectType}.
+ *
+ * <p>Sequence numbers are shared by every object type, so the tailer follows the changes of all of
+ * them (a change of another type is not a gap) and only reports the keys of its own.
+ *
+ * <p>Sequence numbers are assigned before the writing transaction commits, so a change may become
+ * visible after changes with a higher sequence number. Sequence numbers that are skipped over are
+ * therefore remembered as gaps and revisited on every poll, until either a change fills them or
+ * {@code gapTimeoutMs} elapses (sequence numbers of rolled back transactions are never filled).
+ *
+ * <p>Polling does not advance the tailer, a {@link Batch} has to be {@link #acknowledge(Batch)
+ * acknowledged} once its changes have been applied. An unacknowledged batch is simply polled again.
+ */
+class ChangeLogTailer {
+  private static final Logger log = LoggerFactory.getLogger(ChangeLogTailer.class);
+
+  static final int BATCH_SIZE = 1000;
+
+  /** How many sequence numbers below the end of the change log are checked for gaps on start. */
+  static final int INITIAL_GAP_WINDOW = 1000;
+
+  /** Upper bound on the number of tracked gaps, the oldest ones are dropped beyond it. */
+  static final int MAX_GAPS = 1000;
+
+  private final ChangeLogStorageService service;
+  private final ObjectType objectType;
+  private final long gapTimeoutMs;
+  private final Clock clock;
+
+  private Position position;
+
+  ChangeLogTailer(
+      ChangeLogStorageService service, ObjectType objectType, long gapTimeoutMs, Clock clock) {
+    this.service = service;
+    this.objectType = objectType;
+    this.gapTimeoutMs = gapTimeoutMs;
+    this.clock = clock;
+  }
+
+  synchronized boolean isStarted() {
+    return position != null;
+  }
+
+  /**
+   * Determine the current end of the change log. This must happen <em>before</em> loading the items
+   * subsequent changes are applied to, and the returned (empty) batch acknowledged afterwards.
+   */
+  Batch begin() {
+    long now = clock.millis();
+    long latest = service.getLatestChangeSequence();
+    long from = Math.max(1, latest - INITIAL_GAP_WINDOW + 1);
+
+    Position start = new Position(from - 1, Collections.emptyList());
+    if (latest >= from) {
+      // the changes themselves are reflected by the subsequent load, only find out what's missing
+      for (ObjectChange change : loadAll(from, latest)) {
+        start = start.advance(change.getSequence(), now);
+      }
+      start = start.skipTo(latest, now);
+    }
+    return new Batch(start, Collections.emptySet());
+  }
+
+  /** @return every change recorded since the last acknowledged batch */
+  Batch poll() {
+    Position current;
+    synchronized (this) {
+      if (position == null) {
+        throw new IllegalStateException("Tailing " + objectType + " changes has not started");
+      }
+      current = position;
+    }
+
+    long now = clock.millis();
+    current = current.expireGaps(now, gapTimeoutMs);
+
+    Set<String> objectKeys = new LinkedHashSet<>();
+    List<ObjectChange> changes;
+    do {
+      changes = service.loadChanges(current.ranges(), BATCH_SIZE);
+      for (ObjectChange change : changes) {
+        if (change.getObjectType() == objectType) {
+          objectKeys.add(change.getObjectKey());
+        }
+        current = current.advance(change.getSequence(), now);
+      }
+    } while (changes.size() >= BATCH_SIZE);
+
+    return new Batch(current, objectKeys);
+  }
+
+  /**
+   * Cheaper than {@link #poll()}, only the end of the change log is read.
+   *
+   * @return whether anything (of any object type) was recorded past the last acknowledged batch, or
+   *     gaps are pending
+   */
+  boolean hasChanges() {
+    Position current;
+    synchronized (this) {
+      if (position == null) {
+        throw new IllegalStateException("Tailing " + objectType + " changes has not started");
+      }
+      current = position;
+    }
+
+    return !current.gaps.isEmpty() || service.getLatestChangeSequence() > current.maxSeen;
+  }
+
+  /** Advance past the changes of {@code batch}, they have been applied. */
+  synchronized void acknowledge(Batch batch) {
+    if (position == null || batch.position.maxSeen >= position.maxSeen) {
+      position = batch.position;
+    }
+  }
+
+  private List<ObjectChange> loadAll(long from, long to) {
+    List<ObjectChange> all = new ArrayList<>();
+    List<ObjectChange> changes;
+    long next = from;
+    do {
+      changes = service.loadChanges(List.of(new SequenceRange(next, to)), BATCH_SIZE);
+      all.addAll(changes);
+      if (!changes.isEmpty()) {
+        next = changes.get(changes.size() - 1).getSequence() + 1;
+      }
+    } while (changes.size() >= BATCH_SIZE);
+    return all;
+  }
+
+  static class Batch {
+    private final Position position;
+    private final Set<String> objectKeys;
+
+    private Batch(Position position, Set<String> objectKeys) {
+      this.position = position;
+      this.objectKeys = objectKeys;
+    }
+
+    /** @return keys of every object that changed (was created, updated or deleted) */
+    Set<String> getObjectKeys() {
+      return objectKeys;
+    }
+
+    long getMaxSeen() {
+      return position.maxSeen;
+    }
+
+    List<SequenceRange> getGaps() {
+      List<SequenceRange> gaps = new ArrayList<>();
+      for (Gap gap : position.gaps) {
+        gaps.add(new SequenceRange(gap.from, gap.to));
+      }
+      return gaps;
+    }
+  }
+
+  /** Immutable position within the change log. */
+  private class Position {
+    private final long maxSeen;
+    private final List<Gap> gaps;
+
+    private Position(long maxSeen, List<Gap> gaps) {
+      this.maxSeen = maxSeen;
+      this.gaps = gaps;
+    }
+
+    List<SequenceRange> ranges() {
+      List<SequenceRange> ranges = new ArrayList<>();
+      for (Gap gap : gaps) {
+        ranges.add(new SequenceRange(gap.from, gap.to));
+      }
+      ranges.add(new SequenceRange(maxSeen + 1, Long.MAX_VALUE));
+      return ranges;
+    }
+
+    /** @return the position after skipping over everything up to {@code sequence} (inclusive) */
+    Position skipTo(long sequence, long now) {
+      if (sequence <= maxSeen) {
+        return this;
+      }
+      List<Gap> newGaps = new ArrayList<>(gaps);
+      newGaps.add(new Gap(maxSeen + 1, sequence, now));
+      return new Position(sequence, newGaps);
+    }
+
+    /** @return the position after observing {@code sequence} */
+    Position advance(long sequence, long now) {
+      List<Gap> newGaps = new ArrayList<>(gaps.size() + 1);
+      if (sequence > maxSeen) {
+        newGaps.addAll(gaps);
+        if (sequence > maxSeen + 1) {
+          newGaps.add(new Gap(maxSeen + 1, sequence - 1, now));
+        }
+        while (newGaps.size() > MAX_GAPS) {
+          Gap dropped = newGaps.remove(0);
+          log.warn("Too many pending {} change log gaps, dropping {}", objectType, dropped);
+        }
+        return new Position(sequence, newGaps);
+      }
+
+      // a change that was not visible when it was skipped over
+      for (Gap gap : gaps) {
+        if (sequence < gap.from || sequence > gap.to) {
+          newGaps.add(gap);
+          continue;
+        }
+        if (sequence > gap.from) {
+          newGaps.add(new Gap(gap.from, sequence - 1, gap.firstSeen));
+        }
+        if (sequence < gap.to) {
+          newGaps.add(new Gap(sequence + 1, gap.to, gap.firstSeen));
+        }
+      }
+      return new Position(maxSeen, newGaps);
+    }
+
+    Position expireGaps(long now, long timeoutMs) {
+      List<Gap> newGaps = new ArrayList<>(gaps);
+      Iterator<Gap> iterator = newGaps.iterator();
+      while (iterator.hasNext()) {
+        Gap gap = iterator.next();
+        if (now - gap.firstSeen > timeoutMs) {
+          log.debug("Giving up on {} change log gap {}", objectType, gap);
+          iterator.remove();
+        }
+      }
+      return newGaps.size() == gaps.size() ? this : new Position(maxSeen, newGaps);
+    }
+  }
+
+  private static class Gap {
+    private final long from;
+    private final long to;
+    private final long firstSeen;
+
+    private Gap(long from, long to, long firstSeen) {
+      this.from = from;
+      this.to = to;
+      this.firstSeen = firstSeen;
+    }
+
+    @Override
+    public String toString() {
+      return "[" + from + ", " + to + "]";
+    }
+  }
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.front50.model;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.netflix.spinnaker.front50.api.model.Timestamped;
+import com.netflix.spinnaker.kork.exceptions.SystemException;
+import com.netflix.spinnaker.kork.web.exceptions.NotFoundException;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link StorageService} that keeps every object in memory.
+ *
+ * <p>Objects are stored in their serialized form (like any other storage service), so callers
+ * never share instances with the store. Deletes are soft and every version of an object is kept.
+ *
+ * <p>To approximate a remote backend, every operation can be delayed by a fixed latency (plus a
+ * random jitter) and fail with a configurable probability. Bulk operations are charged a single
+ * round trip, just like they would be against a real backend.
+ */
+public class InMemoryStorageService implements StorageService, BulkStorageService {
+  private final ObjectMapper objectMapper;
+  private final Clock clock;
+  private final long latencyMs;
+  private final long latencyJitterMs;
+  private final double errorRate;
+
+  private final Map<ObjectType, Map<String, List<StoredObject>>> objectsByType =
+      new ConcurrentHashMap<>();
+  private final Map<ObjectType, AtomicLong> lastModifiedByType = new ConcurrentHashMap<>();
+
+  public InMemoryStorageService(ObjectMapper objectMapper, Clock clock) {
+    this(objectMapper, clock, Duration.ZERO, Duration.ZERO, 0);
+  }
+
+  /**
+   * @param latency delay added to every operation
+   * @param latencyJitter upper bound of a random delay added on top of {@code latency}
+   * @param errorRate probability (between 0 and 1) of an operation failing
+   */
+  public InMemoryStorageService(
+      ObjectMapper objectMapper,
+      Clock clock,
+      Duration latency,
+      Duration latencyJitter,
+      double errorRate) {
+    if (errorRate < 0 || errorRate > 1) {
+      throw new IllegalArgumentException(
+          "errorRate must be between 0 and 1 (was " + errorRate + ")");
+    }
+    this.objectMapper = objectMapper;
+    this.clock = clock;
+    this.latencyMs = latency.toMillis();
+    this.latencyJitterMs = latencyJitter.toMillis();
+    this.errorRate = errorRate;
+  }
+
+  @Override
+  public boolean supportsVersioning() {
+    return true;
+  }
+
+  @Override
+  public <T extends Timestamped> T loadObject(ObjectType objectType, String objectKey)
+      throws NotFoundException {
+    roundTrip("loadObject");
+    StoredObject current = current(objectType, objectKey);
+    if (current == null || current.deleted) {
+      throw new NotFoundException("Object not found (key: " + objectKey + ")");
+    }
+    return deserialize(objectType, current);
+  }
+
+  @Override
+  public <T extends Timestamped> List<T> loadObjects(
+      ObjectType objectType, List<String> objectKeys) {
+    roundTrip("loadObjects");
+    List<T> objects = new ArrayList<>(objectKeys.size());
+    for (String objectKey : objectKeys) {
+      StoredObject current = current(objectType, objectKey);
+      if (current != null && !current.deleted) {
+        objects.add(deserialize(objectType, current));
+      }
+    }
+    return objects;
+  }
+
+  @Override
+  public <T extends Timestamped> Map<String, List<T>> loadObjectsNewerThan(
+      ObjectType objectType, long lastModifiedThreshold) {
+    roundTrip("loadObjectsNewerThan");
+    List<T> notDeleted = new ArrayList<>();
+    List<T> deleted = new ArrayList<>();
+    for (List<StoredObject> versions : objects(objectType).values()) {
+      StoredObject current = versions.get(versions.size() - 1);
+      if (current.lastModified > lastModifiedThreshold) {
+        (current.deleted ? deleted : notDeleted).add(deserialize(objectType, current));
+      }
+    }
+
+    Map<String, List<T>> result = new HashMap<>();
+    result.put("not_deleted", notDeleted);
+    result.put("deleted", deleted);
+    return result;
+  }
+
+  @Override
+  public void deleteObject(ObjectType objectType, String objectKey) {
+    roundTrip("deleteObject");
+    long now = clock.millis();
+    delete(objectType, objectKey, now);
+    touch(objectType, now);
+  }
+
+  @Override
+  public void bulkDeleteObjects(ObjectType objectType, Collection<String> objectKeys) {
+    roundTrip("bulkDeleteObjects");
+    long now = clock.millis();
+    for (String objectKey : objectKeys) {
+      delete(objectType, objectKey, now);
+    }
+    touch(objectType, now);
+  }
+
+  @Override
+  public <T extends Timestamped> void storeObject(
+      ObjectType objectType, String objectKey, T item) {
+    roundTrip("storeObject");
+    store(objectType, objectKey, item);
+  }
+
+  @Override
+  public <T extends Timestamped> void storeObjects(ObjectType objectType, Collection<T> items) {
+    roundTrip("storeObjects");
+    for (T item : items) {
+      store(objectType, item.getId().toLowerCase(), item);
+    }
+  }
+
+  private <T extends Timestamped> void store(ObjectType objectType, String objectKey, T item) {
+    long lastModified = item.getLastModified() != null ? item.getLastModified() : clock.millis();
+    byte[] body = serialize(item);
+    objects(objectType)
+        .compute(
+            objectKey,
+            (key, versions) -> {
+              StoredObject current = versions == null ? null : versions.get(versions.size() - 1);
+              boolean created = current == null || current.deleted;
+              long createdAt = created ? lastModified : current.createdAt;
+              return append(versions, new StoredObject(body, lastModified, createdAt, false));
+            });
+    touch(objectType, lastModified);
+  }
+
+  @Override
+  public Map<String, Long> listObjectKeys(ObjectType objectType) {
+    roundTrip("listObjectKeys");
+    Map<String, Long> objectKeys = new HashMap<>();
+    objects(objectType)
+        .forEach(
+            (objectKey, versions) -> {
+              StoredObject current = versions.get(versions.size() - 1);
+              if (!current.deleted) {
+                objectKeys.put(objectKey, current.lastModified);
+              }
+            });
+    return objectKeys;
+  }
+
+  @Override
+  public <T extends Timestamped> Collection<T> listObjectVersions(
+      ObjectType objectType, String objectKey, int maxResults) throws NotFoundException {
+    if (maxResults == 1) {
+      return List.of(loadObject(objectType, objectKey));
+    }
+
+    roundTrip("listObjectVersions");
+    List<StoredObject> versions = objects(objectType).getOrDefault(objectKey, List.of());
+    List<T> result = new ArrayList<>();
+    for (int i = versions.size() - 1; i >= 0 && result.size() < maxResults; i--) {
+      if (!versions.get(i).deleted) {
+        result.add(deserialize(objectType, versions.get(i)));
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public long getLastModified(ObjectType objectType) {
+    roundTrip("getLastModified");
+    AtomicLong lastModified = lastModifiedByType.get(objectType);
+    return lastModified == null ? 0 : lastModified.get();
+  }
+
+  private void delete(ObjectType objectType, String objectKey, long now) {
+    objects(objectType)
+        .computeIfPresent(
+            objectKey,
+            (key, versions) -> {
+              StoredObject current = versions.get(versions.size() - 1);
+              if (current.deleted) {
+                return versions;
+              }
+              return append(versions, new StoredObject(current.body, now, current.createdAt, true));
+            });
+  }
+
+  /** Simulates a request against a remote backend, applying the configured latency and errors. */
+  private void roundTrip(String operation) {
+    long delayMs = latencyMs;
+    if (latencyJitterMs > 0) {
+      delayMs += ThreadLocalRandom.current().nextLong(latencyJitterMs + 1);
+    }
+    if (delayMs > 0) {
+      try {
+        Thread.sleep(delayMs);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new SystemException("Interrupted during " + operation, e);
+      }
+    }
+
+    if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+      throw new SystemException("Injected failure during " + operation).setRetryable(true);
+    }
+  }
+
+  private Map<String, List<StoredObject>> objects(ObjectType objectType) {
+    return objectsByType.computeIfAbsent(objectType, t -> new ConcurrentHashMap<>());
+  }
+
+  private StoredObject current(ObjectType objectType, String objectKey) {
+    List<StoredObject> versions = objects(objectType).get(objectKey);
+    return versions == null ? null : versions.get(versions.size() - 1);
+  }
+
+  private void touch(ObjectType objectType, long lastModified) {
+    lastModifiedByType
+        .computeIfAbsent(objectType, t -> new AtomicLong())
+        .accumulateAndGet(lastModified, Math::max);
+  }
+
+  /** Versions are replaced rather than modified, so readers can iterate them without locking. */
+  private static List<StoredObject> append(List<StoredObject> versions, StoredObject version) {
+    List<StoredObject> appended = new ArrayList<>(versions == null ? List.of() : versions);
+    appended.add(version);
+    return appended;
+  }
+
+  private byte[] serialize(Timestamped item) {
+    try {
+      return objectMapper.writeValueAsBytes(item);
+    } catch (JsonProcessingException e) {
+      throw new SystemException("Unable to serialize " + item.getId(), e);
+    }
+  }
+
+  private <T extends Timestamped> T deserialize(ObjectType objectType, StoredObject stored) {
+    try {
+      T item = (T) objectMapper.readValue(stored.body, objectType.clazz);
+      item.setLastModified(stored.lastModified);
+      item.setCreatedAt(stored.createdAt);
+      return item;
+    } catch (IOException e) {
+      throw new SystemException("Unable to deserialize " + objectType + " object", e);
+    }
+  }
+
+  private static class StoredObject {
+    private final byte[] body;
+    private final long lastModified;
+    private final long createdAt;
+    private final boolean deleted;
+
+    private StoredObject(byte[] body, long lastModified, long createdAt, boolean deleted) {
+      this.body = body;
+      this.lastModified = lastModified;
+      this.createdAt = createdAt;
+      this.deleted = deleted;
+    }
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.front50.model;
+
+import com.netflix.spinnaker.front50.api.model.Timestamped;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Persists the item cache of a {@link StorageServiceSupport} so that a freshly started instance
+ * can warm its cache from a local copy and only fetch what changed since.
+ *
+ * <p>Every persisted cache is paired with the storage last-modified watermark observed when it
+ * was built. Warming from an older watermark is always safe, the subsequent refresh will simply
+ * fetch a larger delta.
+ */
+public interface ItemCacheStore {
+
+  /** @return the previously persisted cache for {@code objectType}, if one is available */
+  <T extends Timestamped> Optional<PersistedItems<T>> load(ObjectType objectType);
+
+  /**
+   * @param objectType the type of the items
+   * @param items every cached item
+   * @param lastModified the storage last-modified watermark the items are current as of
+   */
+  <T extends Timestamped> void save(ObjectType objectType, Collection<T> items, long lastModified);
+
+  /** How frequently a changed cache should be persisted. */
+  long getPersistIntervalMs();
+
+  class PersistedItems<T> {
+    private final Collection<T> items;
+    private final long lastModified;
+
+    public PersistedItems(Collection<T> items, long lastModified) {
+      this.items = items;
+      this.lastModified = lastModified;
+    }
+
+    public Collection<T> getItems() {
+      return items;
+    }
+
+    public long getLastModified() {
+      return lastModified;
+    }
+  }
+}
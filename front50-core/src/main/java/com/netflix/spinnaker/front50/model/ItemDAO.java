@@ -2,11 +2,33 @@ package com.netflix.spinnaker.front50.model;
 
 import com.netflix.spinnaker.kork.web.exceptions.NotFoundException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 public interface ItemDAO<T> {
   T findById(String id) throws NotFoundException;
 
+  /**
+   * Batch variant of {@link #findById(String)}.
+   *
+   * @param ids ids of the objects to look up
+   * @param refresh true to refresh the cache (if necessary) before the lookup
+   * @return every object that was found, in the order of {@code ids}; unknown ids are skipped
+   */
+  default Collection<T> findAllByIds(Collection<String> ids, boolean refresh) {
+    List<T> items = new ArrayList<>(ids.size());
+    for (String id : ids) {
+      try {
+        items.add(findById(id));
+      } catch (NotFoundException e) {
+        // unknown ids are skipped
+      }
+    }
+    return items;
+  }
+
   Collection<T> all();
 
   /**
@@ -18,6 +40,17 @@ public interface ItemDAO<T> {
    */
   Collection<T> all(boolean refresh);
 
+  /**
+   * Like {@link #all(boolean)}, but implementations may return a view that is shared between
+   * callers instead of a copy.
+   *
+   * @param refresh true to refresh
+   * @return an unmodifiable collection of every object, neither it nor its objects may be modified
+   */
+  default Collection<T> allReadOnly(boolean refresh) {
+    return Collections.unmodifiableCollection(all(refresh));
+  }
+
   Collection<T> history(String id, int maxResults);
 
   T create(String id, T item);
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.front50.model;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.netflix.spinnaker.front50.api.model.Timestamped;
+import com.netflix.spinnaker.kork.exceptions.SystemException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link ItemCacheStore} that keeps one gzipped JSON document per {@link ObjectType} in a local
+ * directory.
+ *
+ * <p>Documents are written to a temporary file and atomically moved into place, so a crash while
+ * persisting leaves the previous copy intact. Unreadable or incompatible documents are ignored,
+ * falling back to a regular (cold) cache load.
+ */
+public class LocalDiskItemCacheStore implements ItemCacheStore {
+  private static final Logger log = LoggerFactory.getLogger(LocalDiskItemCacheStore.class);
+
+  private static final int FORMAT_VERSION = 1;
+
+  private final ObjectMapper objectMapper;
+  private final Path directory;
+  private final long persistIntervalMs;
+
+  public LocalDiskItemCacheStore(
+      ObjectMapper objectMapper, Path directory, long persistIntervalMs) {
+    this.objectMapper = objectMapper;
+    this.directory = directory;
+    this.persistIntervalMs = persistIntervalMs;
+
+    try {
+      Files.createDirectories(directory);
+    } catch (IOException e) {
+      throw new SystemException("Failed to create item cache directory " + directory, e);
+    }
+  }
+
+  @Override
+  public <T extends Timestamped> Optional<PersistedItems<T>> load(ObjectType objectType) {
+    Path path = pathFor(objectType);
+    if (!Files.exists(path)) {
+      return Optional.empty();
+    }
+
+    try (InputStream inputStream = new GZIPInputStream(Files.newInputStream(path))) {
+      JsonNode document = objectMapper.readTree(inputStream);
+      if (document.path("formatVersion").asInt() != FORMAT_VERSION
+          || !objectType.name().equals(document.path("objectType").asText())) {
+        log.warn("Ignoring incompatible persisted {} cache at {}", objectType, path);
+        return Optional.empty();
+      }
+
+      List<T> items = new ArrayList<>();
+      for (JsonNode entry : document.path("items")) {
+        T item = (T) objectMapper.treeToValue(entry.get("item"), objectType.clazz);
+        // timestamps are not necessarily part of the serialized form of an item (see mixins)
+        if (entry.hasNonNull("lastModified")) {
+          item.setLastModified(entry.get("lastModified").asLong());
+        }
+        if (entry.hasNonNull("createdAt")) {
+          item.setCreatedAt(entry.get("createdAt").asLong());
+        }
+        items.add(item);
+      }
+      long lastModified = document.path("lastModified").asLong();
+
+      log.info(
+          "Loaded {} persisted {} objects (lastModified: {}) from {}",
+          items.size(),
+          objectType,
+          lastModified,
+          path);
+      return Optional.of(new PersistedItems<>(items, lastModified));
+    } catch (IOException | IllegalArgumentException e) {
+      log.warn("Unable to load persisted {} cache from {}, ignoring it", objectType, path, e);
+      return Optional.empty();
+    }
+  }
+
+  @Override
+  public <T extends Timestamped> void save(
+      ObjectType objectType, Collection<T> items, long lastModified) {
+    Path path = pathFor(objectType);
+    Path tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+
+    ObjectNode document = objectMapper.createObjectNode();
+    document.put("formatVersion", FORMAT_VERSION);
+    document.put("objectType", objectType.name());
+    document.put("lastModified", lastModified);
+    ArrayNode itemsNode = document.putArray("items");
+    for (T item : items) {
+      ObjectNode entry = itemsNode.addObject();
+      if (item.getLastModified() != null) {
+        entry.put("lastModified", item.getLastModified());
+      }
+      if (item.getCreatedAt() != null) {
+        entry.put("createdAt", item.getCreatedAt());
+      }
+      entry.set("item", objectMapper.valueToTree(item));
+    }
+
+    try {
+      try (OutputStream outputStream = new GZIPOutputStream(Files.newOutputStream(tempPath))) {
+        objectMapper.writeValue(outputStream, document);
+      }
+      Files.move(
+          tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      log.debug("Persisted {} {} objects to {}", items.size(), objectType, path);
+    } catch (IOException e) {
+      log.warn("Unable to persist {} cache to {}", objectType, path, e);
+    }
+  }
+
+  @Override
+  public long getPersistIntervalMs() {
+    return persistIntervalMs;
+  }
+
+  private Path pathFor(ObjectType objectType) {
+    return directory.resolve(objectType.name().toLowerCase() + ".json.gz");
+  }
+}
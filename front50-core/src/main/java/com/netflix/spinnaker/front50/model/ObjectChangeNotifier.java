@@ -0,0 +1,38 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.front50.model;
+
+/**
+ * Pushes notifications about changed objects, allowing a {@link StorageServiceSupport} to refresh
+ * as soon as something changes rather than polling for changes.
+ *
+ * <p>While connected, every change is expected to be notified. Notifications carry no details, the
+ * subsequent refresh determines what actually changed.
+ */
+public interface ObjectChangeNotifier {
+
+  /**
+   * @param objectType type of the objects to be notified about
+   * @param listener invoked whenever objects of {@code objectType} may have changed, including after
+   *     (re)connecting as changes may have been missed in the meantime. Listeners are invoked from
+   *     the notifier's own thread and must not block.
+   */
+  void subscribe(ObjectType objectType, Runnable listener);
+
+  /** @return true if changes are currently being notified */
+  boolean isConnected();
+}
@@ -0,0 +1,320 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.front50.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * An immutable, inverted trigram index supporting case-insensitive substring searches (and {@link
+ * SearchUtils} ranking) over the attributes of a collection of items.
+ *
+ * <p>The searchable attributes of every item are extracted once, when the index is built, rather
+ * than on every search. The trigram postings of an attribute are built the first time that
+ * attribute is searched. Queries shorter than a trigram fall back to scanning the extracted
+ * attribute values.
+ *
+ * @see SearchIndexer
+ */
+public final class SearchIndex<T> {
+  private static final int GRAM_LENGTH = 3;
+
+  private final Collection<T> source;
+  private final List<T> items;
+  private final List<Map<String, List<String>>> documents;
+  private final Map<T, Integer> ordinals;
+  private final Map<String, Map<String, int[]>> postingsByAttribute = new ConcurrentHashMap<>();
+
+  /**
+   * @param items the items to index, the index is tied to this collection (see {@link
+   *     #isBuiltFrom(Collection)})
+   * @param attributesFunction extracts the searchable attributes of an item
+   * @param previous a previously built index whose extracted attributes may be reused for items
+   *     that are still present (compared by identity), may be null
+   */
+  SearchIndex(
+      Collection<T> items, BiConsumer<T, Attributes> attributesFunction, SearchIndex<T> previous) {
+    this.source = items;
+    this.items = new ArrayList<>(items);
+    this.documents = new ArrayList<>(items.size());
+    this.ordinals = new IdentityHashMap<>(items.size());
+
+    for (T item : this.items) {
+      Map<String, List<String>> document = previous == null ? null : previous.documentOf(item);
+      if (document == null) {
+        Attributes attributes = new Attributes();
+        attributesFunction.accept(item, attributes);
+        document = attributes.values;
+      }
+      ordinals.putIfAbsent(item, documents.size());
+      documents.add(document);
+    }
+  }
+
+  /** Build a one-off index over {@code items}. */
+  public static <T> SearchIndex<T> of(
+      Collection<T> items, BiConsumer<T, Attributes> attributesFunction) {
+    return new SearchIndex<>(items, attributesFunction, null);
+  }
+
+  /** @return true if this index was built from (the very same instance of) {@code items} */
+  public boolean isBuiltFrom(Collection<T> items) {
+    return source == items;
+  }
+
+  /**
+   * @return every item with a value of {@code attribute} containing {@code value} (ignoring case),
+   *     in the order of the indexed collection
+   */
+  public List<T> matching(String attribute, String value) {
+    return itemsOf(ordinalsMatching(attribute, value));
+  }
+
+  /**
+   * @return every item matching all {@code attributes} with a non-empty value, in the order of the
+   *     indexed collection
+   */
+  public List<T> matchingAll(Map<String, String> attributes) {
+    BitSet matches = new BitSet();
+    matches.set(0, items.size());
+    for (Map.Entry<String, String> attribute : attributes.entrySet()) {
+      if (attribute.getValue() == null || attribute.getValue().isEmpty()) {
+        continue;
+      }
+      matches.and(ordinalsMatching(attribute.getKey(), attribute.getValue()));
+      if (matches.isEmpty()) {
+        break;
+      }
+    }
+    return itemsOf(matches);
+  }
+
+  /**
+   * @return every item matching any of the {@code attributes} with a non-empty value, in the order
+   *     of the indexed collection
+   */
+  public List<T> matchingAny(Map<String, String> attributes) {
+    BitSet matches = new BitSet();
+    for (Map.Entry<String, String> attribute : attributes.entrySet()) {
+      if (attribute.getValue() == null || attribute.getValue().isEmpty()) {
+        continue;
+      }
+      matches.or(ordinalsMatching(attribute.getKey(), attribute.getValue()));
+    }
+    return itemsOf(matches);
+  }
+
+  /**
+   * Sort indexed {@code items} by descending relevance (see {@link SearchUtils#score(String,
+   * String)}), every item is scored exactly once.
+   *
+   * <p>An attribute with several values scores as its best matching value.
+   */
+  public List<T> rank(Collection<T> items, Map<String, String> attributes) {
+    Map<T, Integer> scores = new IdentityHashMap<>(items.size());
+    for (T item : items) {
+      scores.put(item, score(item, attributes));
+    }
+
+    List<T> ranked = new ArrayList<>(items);
+    ranked.sort(Comparator.comparingInt((T item) -> scores.get(item)).reversed());
+    return ranked;
+  }
+
+  int score(T item, Map<String, String> attributes) {
+    Map<String, List<String>> document = documentOf(item);
+    if (document == null) {
+      return 0;
+    }
+
+    int score = 0;
+    for (Map.Entry<String, String> attribute : attributes.entrySet()) {
+      if (attribute.getValue() == null) {
+        continue;
+      }
+      int best = 0;
+      for (String value : document.getOrDefault(attribute.getKey(), Collections.emptyList())) {
+        best = Math.max(best, SearchUtils.score(value, attribute.getValue()));
+      }
+      score += best;
+    }
+    return score;
+  }
+
+  private Map<String, List<String>> documentOf(T item) {
+    Integer ordinal = ordinals.get(item);
+    return ordinal == null ? null : documents.get(ordinal);
+  }
+
+  private BitSet ordinalsMatching(String attribute, String value) {
+    String query = value.toLowerCase();
+    BitSet matches = new BitSet();
+
+    if (query.length() < GRAM_LENGTH) {
+      for (int ordinal = 0; ordinal < documents.size(); ordinal++) {
+        if (contains(ordinal, attribute, query)) {
+          matches.set(ordinal);
+        }
+      }
+      return matches;
+    }
+
+    Map<String, int[]> postings = postingsByAttribute.computeIfAbsent(attribute, this::postings);
+    Set<String> grams = grams(query);
+    int[][] candidates = new int[grams.size()][];
+    int i = 0;
+    for (String gram : grams) {
+      int[] posting = postings.get(gram);
+      if (posting == null) {
+        return matches;
+      }
+      candidates[i++] = posting;
+    }
+
+    // intersecting the shortest postings first keeps the intermediate results small
+    Arrays.sort(candidates, Comparator.comparingInt(posting -> posting.length));
+    int[] intersection = candidates[0];
+    for (int j = 1; j < candidates.length && intersection.length > 0; j++) {
+      intersection = intersect(intersection, candidates[j]);
+    }
+
+    // sharing every trigram with the query is necessary but not sufficient to contain it
+    for (int ordinal : intersection) {
+      if (contains(ordinal, attribute, query)) {
+        matches.set(ordinal);
+      }
+    }
+    return matches;
+  }
+
+  private boolean contains(int ordinal, String attribute, String query) {
+    for (String value : documents.get(ordinal).getOrDefault(attribute, Collections.emptyList())) {
+      if (value.contains(query)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** @return trigram -> ascending ordinals of the items with a value of {@code attribute} */
+  private Map<String, int[]> postings(String attribute) {
+    Map<String, IntList> postings = new HashMap<>();
+    for (int ordinal = 0; ordinal < documents.size(); ordinal++) {
+      Set<String> grams = new HashSet<>();
+      for (String value : documents.get(ordinal).getOrDefault(attribute, Collections.emptyList())) {
+        grams.addAll(grams(value));
+      }
+      for (String gram : grams) {
+        postings.computeIfAbsent(gram, g -> new IntList()).add(ordinal);
+      }
+    }
+
+    Map<String, int[]> built = new HashMap<>(postings.size());
+    postings.forEach((gram, ordinals) -> built.put(gram, ordinals.toArray()));
+    return built;
+  }
+
+  private static Set<String> grams(String value) {
+    Set<String> grams = new HashSet<>();
+    for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+      grams.add(value.substring(i, i + GRAM_LENGTH));
+    }
+    return grams;
+  }
+
+  private static int[] intersect(int[] a, int[] b) {
+    int[] intersection = new int[Math.min(a.length, b.length)];
+    int size = 0;
+    for (int i = 0, j = 0; i < a.length && j < b.length; ) {
+      if (a[i] < b[j]) {
+        i++;
+      } else if (a[i] > b[j]) {
+        j++;
+      } else {
+        intersection[size++] = a[i];
+        i++;
+        j++;
+      }
+    }
+    return Arrays.copyOf(intersection, size);
+  }
+
+  private List<T> itemsOf(BitSet ordinals) {
+    List<T> matches = new ArrayList<>(ordinals.cardinality());
+    for (int ordinal = ordinals.nextSetBit(0);
+        ordinal >= 0;
+        ordinal = ordinals.nextSetBit(ordinal + 1)) {
+      matches.add(items.get(ordinal));
+    }
+    return matches;
+  }
+
+  /** The searchable attributes of an item, values are compared case-insensitively. */
+  public static final class Attributes {
+    private final Map<String, List<String>> values = new HashMap<>();
+
+    /** Add a value to {@code name}, null values are ignored. */
+    public Attributes add(String name, Object value) {
+      if (value != null) {
+        values.computeIfAbsent(name, n -> new ArrayList<>(1)).add(value.toString().toLowerCase());
+      }
+      return this;
+    }
+
+    /** Add every value to {@code name}, null collections and values are ignored. */
+    public Attributes addAll(String name, Collection<?> values) {
+      if (values != null) {
+        for (Object value : values) {
+          add(name, value);
+        }
+      }
+      return this;
+    }
+
+    public boolean contains(String name) {
+      return values.containsKey(name);
+    }
+  }
+
+  private static class IntList {
+    private int[] values = new int[4];
+    private int size;
+
+    void add(int value) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = value;
+    }
+
+    int[] toArray() {
+      return Arrays.copyOf(values, size);
+    }
+  }
+}
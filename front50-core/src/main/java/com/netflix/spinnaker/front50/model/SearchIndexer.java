@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.front50.model;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+
+/**
+ * Maintains a {@link SearchIndex} over the items of a cache.
+ *
+ * <p>The index is rebuilt lazily, by the first search after the cache has been refreshed (i.e.
+ * after {@link StorageServiceSupport#allReadOnly(boolean)} started returning a new snapshot). The
+ * attributes extracted from items that did not change are carried over from the previous index.
+ */
+public class SearchIndexer<T> {
+  private final BiConsumer<T, SearchIndex.Attributes> attributesFunction;
+  private final AtomicReference<SearchIndex<T>> current = new AtomicReference<>();
+
+  public SearchIndexer(BiConsumer<T, SearchIndex.Attributes> attributesFunction) {
+    this.attributesFunction = attributesFunction;
+  }
+
+  /** @return an index over {@code items}, reused for as long as the same collection is passed */
+  public SearchIndex<T> indexFor(Collection<T> items) {
+    SearchIndex<T> index = current.get();
+    if (index != null && index.isBuiltFrom(items)) {
+      return index;
+    }
+
+    // concurrent rebuilds are harmless, whichever finishes last is kept
+    SearchIndex<T> rebuilt = new SearchIndex<>(items, attributesFunction, index);
+    current.set(rebuilt);
+    return rebuilt;
+  }
+}
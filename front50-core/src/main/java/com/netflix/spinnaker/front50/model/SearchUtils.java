@@ -44,7 +44,17 @@ public class SearchUtils {
       return 0;
     }
 
-    String attribute = treeMap.get(attributeName).toLowerCase();
+    return score(treeMap.get(attributeName), attributeValue);
+  }
+
+  /**
+   * @param attribute the value of an attribute
+   * @param attributeValue the value searched for
+   * @return how well {@code attributeValue} matches {@code attribute} (ignoring case), 0 when it
+   *     is not contained at all
+   */
+  public static int score(String attribute, String attributeValue) {
+    attribute = attribute.toLowerCase();
     int indexOf = attribute.indexOf(attributeValue.toLowerCase());
 
     // what percentage of the value matched
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.front50.model;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A secondary index over the items cached by a {@link StorageServiceSupport} that keeps them sorted
+ * by a single key, answering prefix lookups with a binary search.
+ *
+ * <p>Unlike a {@link CacheIndex}, keys are compared case-sensitively and the index is backed by two
+ * parallel arrays rather than a hash map, which keeps it compact for caches holding hundreds of
+ * thousands of items. Like a {@link CacheIndex}, it is rebuilt whenever the item cache is replaced.
+ */
+public class SortedCacheIndex<T> {
+  private final String name;
+  private final Function<T, String> keyFunction;
+
+  private SortedCacheIndex(String name, Function<T, String> keyFunction) {
+    this.name = Objects.requireNonNull(name);
+    this.keyFunction = Objects.requireNonNull(keyFunction);
+  }
+
+  /**
+   * @param name the name lookups refer to this index by
+   * @param keyFunction extracts the key of an item, items with a null key are not indexed
+   */
+  public static <T> SortedCacheIndex<T> of(String name, Function<T, String> keyFunction) {
+    return new SortedCacheIndex<>(name, keyFunction);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  /** Build an immutable view of this index over {@code items}. */
+  Sorted<T> build(Collection<T> items) {
+    List<Map.Entry<String, T>> entries = new ArrayList<>(items.size());
+    for (T item : items) {
+      String key = keyFunction.apply(item);
+      if (key != null) {
+        entries.add(Map.entry(key, item));
+      }
+    }
+    entries.sort(Map.Entry.comparingByKey(Comparator.naturalOrder()));
+
+    String[] keys = new String[entries.size()];
+    Object[] values = new Object[entries.size()];
+    for (int i = 0; i < keys.length; i++) {
+      keys[i] = entries.get(i).getKey();
+      values[i] = entries.get(i).getValue();
+    }
+    return new Sorted<>(keys, values);
+  }
+
+  static final class Sorted<T> {
+    private final String[] keys;
+    private final Object[] items;
+
+    private Sorted(String[] keys, Object[] items) {
+      this.keys = keys;
+      this.items = items;
+    }
+
+    /** @return every item whose key starts with {@code prefix}, in key order */
+    List<T> withPrefix(String prefix) {
+      // keys sharing a prefix are contiguous, and sort no lower than the prefix itself
+      int from = lowerBound(prefix);
+      int to = from;
+      while (to < keys.length && keys[to].startsWith(prefix)) {
+        to++;
+      }
+      return range(from, to);
+    }
+
+    /** @return the position of the first key that is not less than {@code key} */
+    private int lowerBound(String key) {
+      int low = 0;
+      int high = keys.length;
+      while (low < high) {
+        int mid = (low + high) >>> 1;
+        if (keys[mid].compareTo(key) < 0) {
+          low = mid + 1;
+        } else {
+          high = mid;
+        }
+      }
+      return low;
+    }
+
+    private List<T> range(int from, int to) {
+      if (from == to) {
+        return Collections.emptyList();
+      }
+      return new AbstractList<T>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+          Objects.checkIndex(index, to - from);
+          return (T) items[from + index];
+        }
+
+        @Override
+        public int size() {
+          return to - from;
+        }
+      };
+    }
+  }
+}
@@ -32,17 +32,23 @@ import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.core.SupplierUtils;
+import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
@@ -50,14 +56,19 @@ import java.util.function.Supplier;
 import java.util.function.ToDoubleFunction;
 import java.util.stream.Collectors;
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import rx.Observable;
 import rx.Scheduler;
 
 public abstract class StorageServiceSupport<T extends Timestamped> {
   private final Logger log = LoggerFactory.getLogger(getClass());
-  protected final AtomicReference<Set<T>> allItemsCache = new AtomicReference<>();
+  private final AtomicReference<CacheSnapshot<T>> allItemsCache = new AtomicReference<>();
+  private final List<CacheIndex<T>> indexes = new CopyOnWriteArrayList<>();
+  private final List<SortedCacheIndex<T>> sortedIndexes = new CopyOnWriteArrayList<>();
+  private final AtomicReference<ItemsByKey<T>> itemsByKey = new AtomicReference<>();
 
   private final ObjectType objectType;
   private final StorageService service;
@@ -66,6 +77,11 @@ public abstract class StorageServiceSupport<T extends Timestamped> {
   private final Registry registry;
   private final CircuitBreakerRegistry circuitBreakerRegistry;
   private StorageServiceConfigurationProperties.PerObjectType configProperties;
+  private ItemCacheStore itemCacheStore;
+  private CacheRefreshScheduler refreshScheduler;
+  private final ChangeLogTailer changeLogTailer;
+  private final WriteBatcher<T> writeBatcher;
+  private ObjectChangeNotifier objectChangeNotifier;
 
   private final Timer autoRefreshTimer; // Only spontaneous refreshes in all()
   private final Timer scheduledRefreshTimer; // Only refreshes from scheduler
@@ -73,9 +89,17 @@ public abstract class StorageServiceSupport<T extends Timestamped> {
   private final Counter removeCounter; // Deletes discovered during refresh
   private final Counter updateCounter; // Updates discovered during refresh
   private final Counter mismatchedIdCounter; // Items whose id does not match its cache key
+  private final Counter unloadableCounter; // Listed items that could not be loaded during refresh
 
   private final AtomicLong lastRefreshedTime = new AtomicLong();
   private final AtomicLong lastSeenStorageTime = new AtomicLong();
+  private final AtomicLong lastStorageRefreshTime = new AtomicLong(); // last actual (not skipped)
+  private final AtomicBoolean notifiedRefreshPending = new AtomicBoolean();
+  private final AtomicLong lastPersistedTime = new AtomicLong();
+  private final AtomicLong lastPersistedVersion = new AtomicLong();
+  private final AtomicLong observedChanges = new AtomicLong(); // since the last scheduled refresh
+  private final AdaptiveRefreshInterval refreshInterval;
+  private long publishedStorageTime; // storage watermark of the published cache, guarded by this
 
   AtomicReference<CountDownLatch> globalLatch = new AtomicReference<>(null);
 
@@ -115,6 +139,9 @@ public abstract class StorageServiceSupport<T extends Timestamped> {
     this.mismatchedIdCounter =
         registry.counter(
             registry.createId("storageServiceSupport.mismatchedIds", "objectType", typeName));
+    this.unloadableCounter =
+        registry.counter(
+            registry.createId("storageServiceSupport.numUnloadable", "objectType", typeName));
 
     registry.gauge(
         registry.createId("storageServiceSupport.cacheSize", "objectType", typeName),
@@ -122,7 +149,7 @@ public abstract class StorageServiceSupport<T extends Timestamped> {
         new ToDoubleFunction() {
           @Override
           public double applyAsDouble(Object ignore) {
-            Set<T> itemCache = allItemsCache.get();
+            CacheSnapshot<T> itemCache = allItemsCache.get();
             return itemCache != null ? itemCache.size() : 0;
           }
         });
@@ -131,6 +158,15 @@ public abstract class StorageServiceSupport<T extends Timestamped> {
         lastRefreshedTime,
         (lrt) -> Long.valueOf(System.currentTimeMillis() - lrt.get()).doubleValue());
 
+    long refreshMs = configProperties.getRefreshMs();
+    this.refreshInterval =
+        new AdaptiveRefreshInterval(
+            objectType,
+            refreshMs,
+            configProperties.getMinRefreshMs() > 0 ? configProperties.getMinRefreshMs() : refreshMs,
+            configProperties.getMaxRefreshMs() > 0 ? configProperties.getMaxRefreshMs() : refreshMs,
+            registry);
+
     if (configProperties.isOptimizeCacheRefreshes()) {
       if (!service.supportsVersioning()) {
         log.warn(
@@ -141,16 +177,56 @@ public abstract class StorageServiceSupport<T extends Timestamped> {
         log.info("Optimized refreshes are now enabled for versioned {} objects.", objectType);
       }
     }
+
+    if (configProperties.isTailChangeLog() && service instanceof ChangeLogStorageService) {
+      log.info("Change log refreshes are now enabled for {} objects.", objectType);
+      this.changeLogTailer =
+          new ChangeLogTailer(
+              (ChangeLogStorageService) service,
+              objectType,
+              configProperties.getChangeLogGapTimeoutMs(),
+              Clock.systemUTC());
+    } else {
+      if (configProperties.isTailChangeLog()) {
+        log.warn(
+            "Change log refreshes are not available to {} objects, {} does not record changes.",
+            objectType,
+            service.getClass().getSimpleName());
+      }
+      this.changeLogTailer = null;
+    }
+
+    if (configProperties.getWriteBatchWindowMs() > 0 && service instanceof BulkStorageService) {
+      log.info("Write batching is now enabled for {} objects.", objectType);
+      this.writeBatcher =
+          new WriteBatcher<>(
+              objectType,
+              service,
+              configProperties.getWriteBatchWindowMs(),
+              configProperties.getWriteBatchMaxSize(),
+              registry);
+    } else {
+      this.writeBatcher = null;
+    }
   }
 
   @PostConstruct
   void startRefresh() {
-    if (configProperties.getRefreshMs() >= getHealthMillis()) {
+    if (maxJitteredRefreshMs(configProperties.getRefreshMs()) >= getHealthMillis()
+        || maxJitteredRefreshMs(configProperties.getMaxRefreshMs()) >= getHealthMillis()) {
       throw new IllegalArgumentException(
-          "Cache refresh time must be more frequent than cache health timeout");
+          "Cache refresh time (including jitter) must be more frequent than cache health timeout");
     }
 
     if (configProperties.getRefreshMs() > 0) {
+      if (itemCacheStore != null) {
+        try {
+          loadPersistedCache();
+        } catch (Exception e) {
+          log.error("Unable to load persisted cache: ", e);
+        }
+      }
+
       if (configProperties.isShouldWarmCache()) {
         try {
           log.info("Warming Cache");
@@ -160,19 +236,176 @@ public abstract class StorageServiceSupport<T extends Timestamped> {
         }
       }
 
-      Observable.timer(configProperties.getRefreshMs(), TimeUnit.MILLISECONDS, scheduler)
-          .repeat()
-          .subscribe(
-              interval -> {
-                try {
-                  long startTime = System.nanoTime();
-                  refresh();
-                  long elapsed = System.nanoTime() - startTime;
-                  scheduledRefreshTimer.record(elapsed, TimeUnit.NANOSECONDS);
-                } catch (Exception e) {
-                  log.error("Unable to refresh: ", e);
-                }
-              });
+      if (refreshScheduler != null) {
+        refreshScheduler.register(
+            objectType,
+            configProperties.getRefreshPriority(),
+            refreshInterval::getIntervalMs,
+            this::scheduledRefresh);
+      } else {
+        Observable.defer(
+                () ->
+                    Observable.timer(
+                        refreshInterval.getIntervalMs(), TimeUnit.MILLISECONDS, scheduler))
+            .repeat()
+            .subscribe(interval -> scheduledRefresh());
+      }
+    }
+  }
+
+  /** @return the longest a refresh interval of {@code intervalMs} may become once jittered */
+  private long maxJitteredRefreshMs(long intervalMs) {
+    return refreshScheduler == null ? intervalMs : refreshScheduler.maxJittered(intervalMs);
+  }
+
+  private void scheduledRefresh() {
+    try {
+      if (isRefreshNotified()) {
+        // nothing changed since the last (notified) refresh
+        lastRefreshedTime.set(System.currentTimeMillis());
+      } else {
+        long startTime = System.nanoTime();
+        long storageTime = lastSeenStorageTime.get();
+        refresh();
+        long elapsed = System.nanoTime() - startTime;
+        scheduledRefreshTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        refreshInterval.observe(
+            observedChanges.getAndSet(0), lastSeenStorageTime.get() - storageTime);
+      }
+    } catch (Exception e) {
+      log.error("Unable to refresh: ", e);
+    }
+
+    if (itemCacheStore != null
+        && System.currentTimeMillis() - lastPersistedTime.get()
+            >= itemCacheStore.getPersistIntervalMs()) {
+      persistCache();
+    }
+  }
+
+  /**
+   * Optional scheduler shared by every object type. When present, scheduled (and notified)
+   * refreshes are run by it rather than by a timer of this object type's own.
+   */
+  @Autowired(required = false)
+  public void setRefreshScheduler(CacheRefreshScheduler refreshScheduler) {
+    this.refreshScheduler = refreshScheduler;
+  }
+
+  /**
+   * Optional store used to warm the cache on startup (only fetching what changed since it was
+   * persisted) and to periodically persist the cache.
+   */
+  @Autowired(required = false)
+  public void setItemCacheStore(ItemCacheStore itemCacheStore) {
+    this.itemCacheStore = itemCacheStore;
+  }
+
+  /**
+   * Optional source of change notifications. Changes are refreshed as soon as they're notified,
+   * scheduled refreshes are mostly skipped while notifications are flowing.
+   */
+  @Autowired(required = false)
+  public void setObjectChangeNotifier(ObjectChangeNotifier objectChangeNotifier) {
+    this.objectChangeNotifier = objectChangeNotifier;
+    objectChangeNotifier.subscribe(objectType, this::onObjectsChanged);
+  }
+
+  /** Refresh (asynchronously) after being notified of a change, coalescing notifications. */
+  private void onObjectsChanged() {
+    if (!notifiedRefreshPending.compareAndSet(false, true)) {
+      return;
+    }
+
+    Runnable notifiedRefresh =
+        () -> {
+          try {
+            // notifications arriving from here on warrant another refresh
+            notifiedRefreshPending.set(false);
+            refresh();
+          } catch (Exception e) {
+            // don't skip the next scheduled refresh
+            lastStorageRefreshTime.set(0);
+            log.error("Unable to refresh {} after change notification: ", objectType, e);
+          }
+        };
+
+    if (refreshScheduler != null) {
+      // the scheduler's loader threads are shared, a refresh must not block one of them
+      refreshScheduler.refreshNow(
+          objectType, configProperties.getRefreshPriority(), notifiedRefresh);
+    } else {
+      Scheduler.Worker worker = scheduler.createWorker();
+      worker.schedule(
+          () -> {
+            try {
+              notifiedRefresh.run();
+            } finally {
+              worker.unsubscribe();
+            }
+          });
+    }
+  }
+
+  private boolean isRefreshNotified() {
+    return objectChangeNotifier != null
+        && objectChangeNotifier.isConnected()
+        && allItemsCache.get() != null
+        && System.currentTimeMillis() - lastStorageRefreshTime.get()
+            < configProperties.getNotifiedRefreshMs();
+  }
+
+  /** Seed the cache with previously persisted items so the first refresh only fetches a delta. */
+  private void loadPersistedCache() {
+    Optional<ItemCacheStore.PersistedItems<T>> persisted = itemCacheStore.load(objectType);
+    persisted.ifPresent(
+        p -> {
+          Set<T> items = new HashSet<>();
+          for (T item : p.getItems()) {
+            if (isIdNotNull(item)) {
+              items.add(item);
+            }
+          }
+          synchronized (this) {
+            if (allItemsCache.get() == null) {
+              lastSeenStorageTime.set(p.getLastModified());
+              publish(items);
+              lastPersistedVersion.set(allItemsCache.get().getVersion());
+              lastPersistedTime.set(System.currentTimeMillis());
+            }
+          }
+        });
+  }
+
+  /** Persist the cache (if it changed since it was last persisted). */
+  @PreDestroy
+  void persistCache() {
+    if (itemCacheStore == null) {
+      return;
+    }
+
+    CacheSnapshot<T> snapshot;
+    long lastModified;
+    synchronized (this) {
+      snapshot = allItemsCache.get();
+      lastModified = publishedStorageTime;
+    }
+    if (snapshot == null || snapshot.getVersion() == lastPersistedVersion.get()) {
+      return;
+    }
+
+    try {
+      long startTime = System.nanoTime();
+      itemCacheStore.save(objectType, snapshot.getItems(), lastModified);
+      lastPersistedVersion.set(snapshot.getVersion());
+      lastPersistedTime.set(System.currentTimeMillis());
+      log.debug(
+          "Persisted {} cache (version: {}) in {}ms",
+          objectType,
+          snapshot.getVersion(),
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+    } catch (Exception e) {
+      log.error("Unable to persist {} cache: ", objectType, e);
     }
   }
 
@@ -180,20 +413,89 @@ public abstract class StorageServiceSupport<T extends Timestamped> {
     return all(true);
   }
 
+  /**
+   * @return a mutable copy of every cached item, prefer {@link #allReadOnly(boolean)} or {@link
+   *     #getCacheSnapshot(boolean)} when the result is only going to be read
+   */
   public Collection<T> all(boolean refresh) {
-    if (!refresh) {
-      return new ArrayList<>(allItemsCache.get());
+    return new ArrayList<>(getCacheSnapshot(refresh).getItems());
+  }
+
+  /** @return an unmodifiable view of every cached item, shared rather than copied */
+  public Collection<T> allReadOnly(boolean refresh) {
+    return getCacheSnapshot(refresh).getItems();
+  }
+
+  /**
+   * Register a secondary index over the cached items.
+   *
+   * <p>Indexes should be registered from the constructor of a DAO, i.e. before the cache is first
+   * populated. An index registered afterwards becomes available on the next refresh.
+   */
+  protected void registerIndex(CacheIndex<T> index) {
+    if (indexes.stream().anyMatch(i -> i.getName().equals(index.getName()))) {
+      throw new IllegalArgumentException("Duplicate cache index: " + index.getName());
     }
+    indexes.add(index);
+  }
 
-    log.debug(
-        "performing cache refresh with synchronization: {}",
-        configProperties.isSynchronizeCacheRefresh());
-    if (configProperties.isSynchronizeCacheRefresh()) {
-      doSynchronizedRefresh();
-    } else {
-      doRefresh();
+  /**
+   * Register a sorted secondary index over the cached items, supporting prefix lookups.
+   *
+   * @see #registerIndex(CacheIndex)
+   */
+  protected void registerIndex(SortedCacheIndex<T> index) {
+    if (sortedIndexes.stream().anyMatch(i -> i.getName().equals(index.getName()))) {
+      throw new IllegalArgumentException("Duplicate sorted cache index: " + index.getName());
     }
-    return new ArrayList<>(allItemsCache.get());
+    sortedIndexes.add(index);
+  }
+
+  /**
+   * Look up cached items via a previously registered {@link CacheIndex}.
+   *
+   * @param indexName name of the index to consult
+   * @param key key to look up (compared case-insensitively)
+   * @param refresh true to refresh the cache (if necessary) before the lookup
+   * @return every cached item indexed under {@code key}, possibly empty
+   */
+  protected List<T> findAllByIndex(String indexName, String key, boolean refresh) {
+    return getCacheSnapshot(refresh).lookup(indexName, key);
+  }
+
+  /**
+   * Look up cached items via a previously registered {@link SortedCacheIndex}.
+   *
+   * @param indexName name of the index to consult
+   * @param prefix key prefix to look up (compared case-sensitively)
+   * @param refresh true to refresh the cache (if necessary) before the lookup
+   * @return every cached item whose key starts with {@code prefix}, in key order
+   */
+  protected List<T> findAllByPrefix(String indexName, String prefix, boolean refresh) {
+    return getCacheSnapshot(refresh).lookupPrefix(indexName, prefix);
+  }
+
+  /**
+   * @param refresh true to refresh the cache (if necessary) before returning
+   * @return the most recently published snapshot of the cache
+   */
+  public CacheSnapshot<T> getCacheSnapshot(boolean refresh) {
+    if (refresh) {
+      log.debug(
+          "performing cache refresh with synchronization: {}",
+          configProperties.isSynchronizeCacheRefresh());
+      if (configProperties.isSynchronizeCacheRefresh()) {
+        doSynchronizedRefresh();
+      } else {
+        doRefresh();
+      }
+    }
+
+    CacheSnapshot<T> snapshot = allItemsCache.get();
+    if (snapshot == null) {
+      throw new IllegalStateException(objectType + " cache has not been populated");
+    }
+    return snapshot;
   }
 
   public Collection<T> history(String id, int maxResults) {
@@ -273,7 +575,10 @@ public abstract class StorageServiceSupport<T extends Timestamped> {
         SupplierUtils.recover(
             () -> service.loadObject(objectType, buildObjectKey(id)),
             e ->
-                Optional.ofNullable(allItemsCache.get()).orElseGet(HashSet::new).stream()
+                Optional.ofNullable(allItemsCache.get())
+                    .map(CacheSnapshot::getItems)
+                    .orElseGet(HashSet::new)
+                    .stream()
                     .filter(this::isIdNotNull)
                     .filter(item -> item.getId().equalsIgnoreCase(id))
                     .findFirst()
@@ -287,6 +592,96 @@ public abstract class StorageServiceSupport<T extends Timestamped> {
     return breaker.executeSupplier(recoverableSupplier);
   }
 
+  /**
+   * Batch variant of {@link #findById(String)}.
+   *
+   * <p>Ids are resolved against the cache in a single pass, only those that are not cached are
+   * read from storage, with one {@link StorageService#loadObjects(ObjectType, List)} call where
+   * supported. Cached items are returned as is, so they may lag storage by up to one refresh.
+   *
+   * @param ids ids of the items to look up (compared case-insensitively)
+   * @param refresh true to refresh the cache (if necessary) before the lookup
+   * @return every item that was found, in the order of {@code ids}; unknown ids are skipped
+   */
+  public List<T> findAllByIds(Collection<String> ids, boolean refresh) {
+    CacheSnapshot<T> snapshot = refresh ? getCacheSnapshot(true) : allItemsCache.get();
+    Map<String, T> cachedItems =
+        snapshot == null ? Collections.emptyMap() : cachedItemsByKey(snapshot);
+
+    // null values are placeholders for ids that are not cached, preserving the requested order
+    Map<String, T> found = new LinkedHashMap<>();
+    List<String> missingKeys = new ArrayList<>();
+    for (String id : ids) {
+      if (id == null) {
+        continue;
+      }
+      String key = buildObjectKey(id);
+      if (!found.containsKey(key)) {
+        T item = cachedItems.get(key);
+        found.put(key, item);
+        if (item == null) {
+          missingKeys.add(key);
+        }
+      }
+    }
+
+    if (!missingKeys.isEmpty()) {
+      for (T item : loadUncachedObjects(missingKeys)) {
+        if (isIdNotNull(item)) {
+          found.replace(buildObjectKey(item), item);
+        }
+      }
+    }
+
+    return found.values().stream().filter(Objects::nonNull).collect(Collectors.toList());
+  }
+
+  /**
+   * The key -> item lookup is only built once per snapshot, and only for DAOs that are queried by
+   * {@link #findAllByIds(Collection, boolean)}.
+   */
+  private Map<String, T> cachedItemsByKey(CacheSnapshot<T> snapshot) {
+    ItemsByKey<T> current = itemsByKey.get();
+    if (current != null && current.version == snapshot.getVersion()) {
+      return current.items;
+    }
+
+    Map<String, T> items = new HashMap<>(snapshot.size() * 2);
+    for (T item : snapshot) {
+      if (isIdNotNull(item)) {
+        items.putIfAbsent(buildObjectKey(item), item);
+      }
+    }
+    ItemsByKey<T> built = new ItemsByKey<>(snapshot.getVersion(), items);
+    itemsByKey.set(built);
+    return built.items;
+  }
+
+  /**
+   * Lookups are best effort, items that cannot be read from storage are treated as unknown (as
+   * {@link #findById(String)} does when storage is unavailable and an item is not cached).
+   */
+  private List<T> loadUncachedObjects(List<String> objectKeys) {
+    try {
+      try {
+        return service.loadObjects(objectType, objectKeys);
+      } catch (UnsupportedOperationException e) {
+        List<T> objects = new ArrayList<>(objectKeys.size());
+        for (String objectKey : objectKeys) {
+          try {
+            objects.add(service.loadObject(objectType, objectKey));
+          } catch (NotFoundException ignored) {
+            // unknown keys are skipped
+          }
+        }
+        return objects;
+      }
+    } catch (Exception e) {
+      log.warn("Unable to load {} uncached {} objects", objectKeys.size(), objectType, e);
+      return Collections.emptyList();
+    }
+  }
+
   public void update(String id, T item) {
     // We're in this unfortunate situation where there's an id in the item as
     // well as the separate id argument.  Or at least there's supposed to be.
@@ -304,7 +699,12 @@ public abstract class StorageServiceSupport<T extends Timestamped> {
     }
     item.setLastModifiedBy(AuthenticatedRequest.getSpinnakerUser().orElse("anonymous"));
     item.setLastModified(System.currentTimeMillis());
-    service.storeObject(objectType, buildObjectKey(id), item);
+    if (writeBatcher != null && id.equalsIgnoreCase(item.getId())) {
+      // bulk writes are keyed by item id, which only works when it agrees with the id argument
+      writeBatcher.write(item);
+    } else {
+      service.storeObject(objectType, buildObjectKey(id), item);
+    }
   }
 
   public void delete(String id) {
@@ -357,19 +757,48 @@ public abstract class StorageServiceSupport<T extends Timestamped> {
   }
 
   public void bulkDelete(Collection<String> ids) {
-    service.bulkDeleteObjects(objectType, ids);
+    service.bulkDeleteObjects(
+        objectType, ids.stream().map(this::buildObjectKey).collect(Collectors.toList()));
   }
 
   /** Update local cache with any recently modified items. */
   protected void refresh() {
     long startTime = System.nanoTime();
-    if (configProperties.isOptimizeCacheRefreshes()) {
-      log.debug("Running optimized cache refresh");
-      allItemsCache.set(fetchAllItemsOptimized(allItemsCache.get()));
+    long refreshTime = System.currentTimeMillis();
+    CacheSnapshot<T> existing = allItemsCache.get();
+    Set<T> existingItems = existing == null ? null : existing.getItems();
+    Set<T> items;
+    ChangeLogTailer.Batch changes = null;
+    if (isTailingChangeLog(existing)) {
+      log.debug("Running change log cache refresh");
+      changes = changeLogTailer.poll();
+      if (changes.getObjectKeys().isEmpty()) {
+        // nothing changed, keep the published snapshot (and its indexes)
+        items = null;
+        lastRefreshedTime.set(refreshTime);
+      } else {
+        items = fetchChangedItems(existingItems, changes.getObjectKeys());
+      }
     } else {
-      log.debug("Running unoptimized cache refresh");
-      allItemsCache.set(fetchAllItems(allItemsCache.get()));
+      if (changeLogTailer != null) {
+        // anything recorded from here on is picked up by the first change log refresh
+        changes = changeLogTailer.begin();
+      }
+      if (configProperties.isOptimizeCacheRefreshes()) {
+        log.debug("Running optimized cache refresh");
+        items = fetchAllItemsOptimized(existingItems);
+      } else {
+        log.debug("Running unoptimized cache refresh");
+        items = fetchAllItems(existingItems);
+      }
+    }
+    if (items != null) {
+      publish(items);
     }
+    if (changes != null) {
+      changeLogTailer.acknowledge(changes);
+    }
+    lastStorageRefreshTime.set(refreshTime);
     long elapsed = System.nanoTime() - startTime;
     registry
         .timer("storageServiceSupport.cacheRefreshTime", "objectType", objectType.name())
@@ -378,6 +807,30 @@ public abstract class StorageServiceSupport<T extends Timestamped> {
     log.debug("Refreshed (" + TimeUnit.NANOSECONDS.toMillis(elapsed) + "ms)");
   }
 
+  /**
+   * Whether the next refresh can apply the change log to {@code existing}, rather than scanning the
+   * storage service. The change log's sequence numbers take the place of the storage service's last
+   * modified time then, which is neither read nor advanced.
+   */
+  private boolean isTailingChangeLog(CacheSnapshot<T> existing) {
+    return changeLogTailer != null
+        && changeLogTailer.isStarted()
+        && existing != null
+        // the change log is pruned eventually, a cache that fell too far behind starts over
+        && System.currentTimeMillis() - lastRefreshedTime.get() < getHealthMillis();
+  }
+
+  /**
+   * Items and their secondary indexes are published together so that readers never observe an
+   * index that disagrees with the item cache.
+   */
+  private synchronized void publish(Set<T> items) {
+    CacheSnapshot<T> current = allItemsCache.get();
+    long version = current == null ? 1 : current.getVersion() + 1;
+    allItemsCache.set(new CacheSnapshot<>(version, items, indexes, sortedIndexes));
+    publishedStorageTime = lastSeenStorageTime.get();
+  }
+
   private String buildObjectKey(T item) {
     return buildObjectKey(item.getId());
   }
@@ -459,6 +912,12 @@ public abstract class StorageServiceSupport<T extends Timestamped> {
       for (String objectKey : objectKeys) {
         if (objectsById.containsKey(objectKey)) {
           resultMap.put(objectKey, objectsById.get(objectKey));
+        } else if (resultMap.containsKey(objectKey)) {
+          // the object is still listed, so it failed to load (e.g. it is malformed). Keep the
+          // cached copy, it is dropped once the object is no longer listed.
+          numUpdated.getAndDecrement();
+          unloadableCounter.increment();
+          log.warn("Unable to load {}:{}, keeping the cached copy", objectType, objectKey);
         } else {
           // equivalent to the NotFoundException handling in the exceptional case below
           resultMap.remove(keyToId.get(objectKey));
@@ -511,9 +970,11 @@ public abstract class StorageServiceSupport<T extends Timestamped> {
     this.lastSeenStorageTime.set(storageLastModified);
 
     int resultSize = result.size();
+    long numDeleted = existingSize + numAdded.get() - resultSize;
     addCounter.increment(numAdded.get());
     updateCounter.increment(numUpdated.get());
-    removeCounter.increment(existingSize + numAdded.get() - resultSize);
+    removeCounter.increment(numDeleted);
+    observedChanges.addAndGet(numAdded.get() + numUpdated.get() + numDeleted);
     if (numAdded.get() > 0 || numUpdated.get() > 0 || numRemoved.get() > 0) {
       log.info(
           "Fetched {} {} objects after adding {} objects, updating {} objects and removing {} objects with a delta of {}.",
@@ -600,6 +1061,7 @@ public abstract class StorageServiceSupport<T extends Timestamped> {
     addCounter.increment(numAdded.get());
     updateCounter.increment(numUpdated.get());
     removeCounter.increment(numRemoved.get());
+    observedChanges.addAndGet(numAdded.get() + numUpdated.get() + numRemoved.get());
     if (numAdded.get() > 0 || numUpdated.get() > 0 || numRemoved.get() > 0) {
       log.info(
           "Fetched {} {} objects after adding {} objects, updating {} objects and removing {} objects with a delta of {}.",
@@ -613,6 +1075,68 @@ public abstract class StorageServiceSupport<T extends Timestamped> {
     return result;
   }
 
+  /**
+   * Reload the objects recorded in the change log since the last refresh, an object that no longer
+   * exists has been deleted.
+   *
+   * @param existingItems Previously cached items
+   * @param objectKeys Keys of the changed objects
+   * @return Refreshed items
+   */
+  @VisibleForTesting
+  Set<T> fetchChangedItems(Set<T> existingItems, Set<String> objectKeys) {
+    long refreshTime = System.currentTimeMillis();
+
+    Map<String, T> resultMap = new HashMap<>();
+    for (T item : existingItems) {
+      resultMap.put(buildObjectKey(item), item);
+    }
+
+    int numAdded = 0;
+    int numUpdated = 0;
+    int numRemoved = 0;
+    if (!objectKeys.isEmpty()) {
+      List<String> keys = new ArrayList<>(objectKeys);
+      Map<String, T> objectsByKey =
+          service.<T>loadObjects(objectType, keys).stream()
+              .filter(this::isIdNotNull)
+              .collect(Collectors.toMap(this::buildObjectKey, Function.identity(), (o1, o2) -> o1));
+
+      for (String objectKey : keys) {
+        T object = objectsByKey.get(objectKey);
+        if (object == null) {
+          if (resultMap.remove(objectKey) != null) {
+            numRemoved++;
+          }
+        } else if (resultMap.put(objectKey, object) == null) {
+          numAdded++;
+        } else {
+          numUpdated++;
+        }
+      }
+      log.debug("Changed object keys: {}", value("keys", objectKeys));
+    }
+
+    Set<T> result = new HashSet<>(resultMap.values());
+    this.lastRefreshedTime.set(refreshTime);
+
+    addCounter.increment(numAdded);
+    updateCounter.increment(numUpdated);
+    removeCounter.increment(numRemoved);
+    observedChanges.addAndGet(numAdded + numUpdated + numRemoved);
+    if (numAdded > 0 || numUpdated > 0 || numRemoved > 0) {
+      log.info(
+          "Fetched {} {} objects after adding {} objects, updating {} objects and removing {} objects with a delta of {}.",
+          value("resultSize", result.size()),
+          value("objectType", objectType.group),
+          value("numAdded", numAdded),
+          value("numUpdated", numUpdated),
+          value("numRemoved", numRemoved),
+          value("delta", result.size() - existingItems.size()));
+    }
+    return result;
+  }
+
   private Long readLastModified() {
     return service.getLastModified(objectType);
   }
@@ -687,16 +1211,33 @@ public abstract class StorageServiceSupport<T extends Timestamped> {
     log.debug("Synchronized refresh completed");
   }
 
-  /** Refresh if the data store is empty, or has been modified since the last refresh */
+  /**
+   * Refresh if the data store is empty, or has been modified (according to its last modified time
+   * or change log) since the last refresh
+   */
   private void doRefresh() {
-    long lastModified = readLastModified();
-    if (lastModified > lastSeenStorageTime.get() || allItemsCache.get() == null) {
+    boolean refreshRequired;
+    if (isTailingChangeLog(allItemsCache.get())) {
+      refreshRequired = changeLogTailer.hasChanges();
+      if (refreshRequired) {
+        log.debug(
+            "all() forcing change log refresh (lastRefreshed: {})",
+            value("lastRefreshed", new Date(lastRefreshedTime.get())));
+      }
+    } else {
+      long lastModified = readLastModified();
+      refreshRequired = lastModified > lastSeenStorageTime.get() || allItemsCache.get() == null;
+      if (refreshRequired) {
+        log.debug(
+            "all() forcing refresh (lastModified: {}, lastRefreshed: {}, lastSeenStorageTime: {})",
+            value("lastModified", new Date(lastModified)),
+            value("lastRefreshed", new Date(lastRefreshedTime.get())),
+            value("lastSeenStorageTime", new Date(lastSeenStorageTime.get())));
+      }
+    }
+
+    if (refreshRequired) {
       // only refresh if there was a modification since our last refresh cycle
-      log.debug(
-          "all() forcing refresh (lastModified: {}, lastRefreshed: {}, lastSeenStorageTime: {})",
-          value("lastModified", new Date(lastModified)),
-          value("lastRefreshed", new Date(lastRefreshedTime.get())),
-          value("lastSeenStorageTime", new Date(lastSeenStorageTime.get())));
       long startTime = System.nanoTime();
       refresh();
       long elapsed = System.nanoTime() - startTime;
@@ -705,4 +1246,14 @@ public abstract class StorageServiceSupport<T extends Timestamped> {
       log.info("refresh not required");
     }
   }
+
+  private static class ItemsByKey<T> {
+    private final long version;
+    private final Map<String, T> items;
+
+    private ItemsByKey(long version, Map<String, T> items) {
+      this.version = version;
+      this.items = items;
+    }
+  }
 }
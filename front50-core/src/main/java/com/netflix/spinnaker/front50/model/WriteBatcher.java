@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.front50.model;
+
+import com.google.common.base.Throwables;
+import com.netflix.spectator.api.DistributionSummary;
+import com.netflix.spectator.api.Registry;
+import com.netflix.spinnaker.front50.api.model.Timestamped;
+import com.netflix.spinnaker.kork.exceptions.SystemException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Coalesces concurrent writes of a single {@link ObjectType} into batches stored via {@link
+ * BulkStorageService#storeObjects(ObjectType, java.util.Collection)} (group commit).
+ *
+ * <p>The first writer to arrive opens a batch and waits (for up to the batch window, or until the
+ * batch is full) for other writers to join before committing it on behalf of everyone. Every
+ * writer blocks until its own item has been stored, and observes its own failure. Should a batch
+ * fail as a whole, its items are retried individually so that one bad item does not fail the
+ * writes it happened to be batched with.
+ */
+class WriteBatcher<T extends Timestamped> {
+  private static final Logger log = LoggerFactory.getLogger(WriteBatcher.class);
+
+  private final ObjectType objectType;
+  private final StorageService service;
+  private final long windowMs;
+  private final int maxSize;
+  private final DistributionSummary batchSizes;
+
+  private List<PendingWrite<T>> openBatch; // guarded by this
+
+  WriteBatcher(
+      ObjectType objectType,
+      StorageService service,
+      long windowMs,
+      int maxSize,
+      Registry registry) {
+    if (!(service instanceof BulkStorageService)) {
+      throw new IllegalArgumentException(
+          service.getClass().getSimpleName() + " does not support bulk writes");
+    }
+    this.objectType = objectType;
+    this.service = service;
+    this.windowMs = windowMs;
+    this.maxSize = Math.max(1, maxSize);
+    this.batchSizes =
+        registry.distributionSummary(
+            registry.createId(
+                "storageServiceSupport.writeBatchSize", "objectType", objectType.name()));
+  }
+
+  /** Store {@code item} (under the key derived from its id), blocking until it has been stored. */
+  void write(T item) {
+    PendingWrite<T> write = new PendingWrite<>(item);
+
+    List<PendingWrite<T>> batch = null;
+    synchronized (this) {
+      if (openBatch == null || openBatch.size() >= maxSize) {
+        openBatch = new ArrayList<>();
+        batch = openBatch;
+      }
+      openBatch.add(write);
+      if (openBatch.size() >= maxSize) {
+        notifyAll();
+      }
+    }
+
+    if (batch != null) {
+      // this writer opened the batch and is responsible for committing it
+      awaitBatch(batch);
+      try {
+        commit(batch);
+      } finally {
+        // never leave a writer waiting, whatever went wrong
+        for (PendingWrite<T> pending : batch) {
+          if (!pending.result.isDone()) {
+            pending.result.completeExceptionally(
+                new SystemException("Write batch was not committed"));
+          }
+        }
+      }
+    }
+
+    try {
+      write.result.join();
+    } catch (CompletionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new SystemException(e.getCause());
+    }
+  }
+
+  private synchronized void awaitBatch(List<PendingWrite<T>> batch) {
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(windowMs);
+    try {
+      long remainingNanos;
+      while (batch.size() < maxSize && (remainingNanos = deadline - System.nanoTime()) > 0) {
+        TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+      }
+    } catch (InterruptedException e) {
+      // commit what has been collected so far rather than leaving other writers waiting
+      Thread.currentThread().interrupt();
+    }
+    if (openBatch == batch) {
+      openBatch = null;
+    }
+  }
+
+  private void commit(List<PendingWrite<T>> batch) {
+    batchSizes.record(batch.size());
+
+    List<T> items = new ArrayList<>(batch.size());
+    batch.forEach(write -> items.add(write.item));
+    try {
+      ((BulkStorageService) service).storeObjects(objectType, items);
+      batch.forEach(write -> write.result.complete(null));
+      return;
+    } catch (Exception e) {
+      if (batch.size() == 1) {
+        batch.get(0).result.completeExceptionally(e);
+        return;
+      }
+      log.warn(
+          "Unable to store batch of {} {} objects, storing them individually",
+          batch.size(),
+          objectType,
+          e);
+    }
+
+    for (PendingWrite<T> write : batch) {
+      try {
+        service.storeObject(objectType, write.item.getId().toLowerCase(), write.item);
+        write.result.complete(null);
+      } catch (Exception e) {
+        write.result.completeExceptionally(e);
+      }
+    }
+  }
+
+  private static class PendingWrite<T> {
+    private final T item;
+    private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+    private PendingWrite(T item) {
+      this.item = item;
+    }
+  }
+}
@@ -17,12 +17,10 @@
 package com.netflix.spinnaker.front50.model.application;
 
 import com.google.common.base.Strings;
-import com.netflix.spinnaker.front50.UntypedUtils;
 import com.netflix.spinnaker.front50.model.ItemDAO;
-import com.netflix.spinnaker.front50.model.SearchUtils;
+import com.netflix.spinnaker.front50.model.SearchIndex;
 import com.netflix.spinnaker.kork.web.exceptions.NotFoundException;
 import java.util.*;
-import java.util.stream.Collectors;
 
 public interface ApplicationDAO extends ItemDAO<Application> {
   Application findByName(String name) throws NotFoundException;
@@ -32,37 +30,59 @@ public interface ApplicationDAO extends ItemDAO<Application> {
   class Searcher {
     public static Collection<Application> search(
         Collection<Application> searchableApplications, Map<String, String> attributes) {
+      return search(SearchIndex.of(searchableApplications, Searcher::attributes), attributes);
+    }
+
+    /**
+     * Find the applications whose attributes contain every (non-empty) value of {@code
+     * attributes}, ignoring case, ordered by descending relevance.
+     */
+    public static List<Application> search(
+        SearchIndex<Application> index, Map<String, String> attributes) {
+      Map<String, String> criteria = new HashMap<>();
+      attributes.forEach(
+          (name, value) -> {
+            if (!Strings.isNullOrEmpty(value)) {
+              criteria.put(name, value);
+            }
+          });
 
-      // filtering vs. querying to achieve case-insensitivity without using an additional column
-      // (small data set)
-      return searchableApplications.stream()
-          .filter(
-              it -> {
-                for (Map.Entry<String, String> e : attributes.entrySet()) {
-                  if (Strings.isNullOrEmpty(e.getValue())) {
-                    continue;
-                  }
-                  if (!UntypedUtils.hasProperty(it, e.getKey())
-                      && !it.details().containsKey(e.getKey())) {
-                    return false;
-                  }
+      return index.rank(index.matchingAll(criteria), criteria);
+    }
 
-                  Object appVal =
-                      UntypedUtils.hasProperty(it, e.getKey())
-                          ? UntypedUtils.getProperty(it, e.getKey())
-                          : it.details().get(e.getKey());
-                  if (appVal == null) {
-                    appVal = "";
-                  }
-                  if (!appVal.toString().toLowerCase().contains(e.getValue().toLowerCase())) {
-                    return false;
-                  }
+    /**
+     * The searchable attributes of an application, i.e. its properties and (unless shadowed by a
+     * property) its details. Attribute names are case-sensitive.
+     */
+    public static void attributes(Application application, SearchIndex.Attributes attributes) {
+      attributes
+          .add("name", application.getName())
+          .add("description", application.getDescription())
+          .add("email", application.getEmail())
+          .add("updateTs", application.getUpdateTs())
+          .add("createTs", application.getCreateTs())
+          .add("lastModifiedBy", application.getLastModifiedBy())
+          .add("cloudProviders", application.getCloudProviders());
+
+      application
+          .details()
+          .forEach(
+              (name, value) -> {
+                if (!PROPERTIES.contains(name)) {
+                  attributes.add(name, value);
                 }
-                return true;
-              })
-          .distinct()
-          .sorted((a, b) -> SearchUtils.score(b, attributes) - SearchUtils.score(a, attributes))
-          .collect(Collectors.toList());
+              });
     }
+
+    private static final Set<String> PROPERTIES =
+        Set.of(
+            "name",
+            "description",
+            "email",
+            "updateTs",
+            "createTs",
+            "lastModifiedBy",
+            "cloudProviders",
+            "details");
   }
 }
@@ -19,6 +19,7 @@ package com.netflix.spinnaker.front50.model.application;
 import static com.netflix.spinnaker.front50.events.ApplicationEventListener.Type.*;
 
 import com.google.common.base.Joiner;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.netflix.spinnaker.front50.ServiceAccountsService;
 import com.netflix.spinnaker.front50.api.model.pipeline.Pipeline;
 import com.netflix.spinnaker.front50.events.ApplicationEventListener;
@@ -28,14 +29,25 @@ import com.netflix.spinnaker.front50.model.notification.HierarchicalLevel;
 import com.netflix.spinnaker.front50.model.notification.NotificationDAO;
 import com.netflix.spinnaker.front50.model.pipeline.PipelineDAO;
 import com.netflix.spinnaker.front50.model.pipeline.PipelineStrategyDAO;
+import com.netflix.spinnaker.front50.model.project.Project;
 import com.netflix.spinnaker.front50.model.project.ProjectDAO;
 import com.netflix.spinnaker.front50.validator.ApplicationValidationErrors;
 import com.netflix.spinnaker.front50.validator.ApplicationValidator;
 import com.netflix.spinnaker.kork.annotations.NonnullByDefault;
+import com.netflix.spinnaker.kork.exceptions.SystemException;
 import com.netflix.spinnaker.kork.web.exceptions.NotFoundException;
+import com.netflix.spinnaker.security.AuthenticatedRequest;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
+import javax.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -55,6 +67,7 @@ public class ApplicationService {
   private final Collection<ApplicationValidator> validators;
   private final Collection<ApplicationEventListener> applicationEventListeners;
   private final Optional<ServiceAccountsService> serviceAccountsService;
+  private final ExecutorService cascadeDeleteExecutor;
 
   public ApplicationService(
       ApplicationDAO dao,
@@ -73,6 +86,26 @@ public class ApplicationService {
     this.validators = validators;
     this.applicationEventListeners = applicationEventListeners;
     this.serviceAccountsService = serviceAccountsService;
+
+    // every delete cascades to four types of dependent objects concurrently
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            16,
+            16,
+            60,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder()
+                .setNameFormat(ApplicationService.class.getSimpleName() + "-cascade-delete-%d")
+                .setDaemon(true)
+                .build());
+    executor.allowCoreThreadTimeOut(true);
+    this.cascadeDeleteExecutor = executor;
+  }
+
+  @PreDestroy
+  void shutdownCascadeDeleteExecutor() {
+    cascadeDeleteExecutor.shutdownNow();
   }
 
   public Application save(Application app) {
@@ -154,9 +187,15 @@ public class ApplicationService {
     // TODO(rz): Why does front50 sometimes want uppercase, and then other times lowercase?
     //  Make up your mind, fiddy.
     final String normalizedName = appName.toLowerCase();
-    removeApplicationFromProjects(normalizedName);
-    deleteApplicationFromNotifications(normalizedName);
-    deletePipelines(normalizedName);
+
+    // dependent objects are independent of each other, and deleted concurrently
+    Map<String, Future<?>> cascades = new LinkedHashMap<>();
+    cascades.put("projects", cascade(() -> removeApplicationFromProjects(normalizedName)));
+    cascades.put(
+        "notifications", cascade(() -> deleteApplicationFromNotifications(normalizedName)));
+    cascades.put("pipelines", cascade(() -> deletePipelines(normalizedName)));
+    cascades.put("strategies", cascade(() -> deleteStrategies(normalizedName)));
+    awaitCascades(application.getName(), cascades);
 
     dao.delete(application.getName());
 
@@ -164,7 +203,52 @@ public class ApplicationService {
         .forEach(it -> it.accept(new ApplicationModelEvent(POST_DELETE, application, application)));
   }
 
+  private Future<?> cascade(Runnable runnable) {
+    return cascadeDeleteExecutor.submit(
+        AuthenticatedRequest.propagate(Executors.callable(runnable)));
+  }
+
+  /**
+   * Waits for every cascading delete, and fails (leaving the application in place so the delete
+   * can be retried) if any of them did.
+   */
+  private void awaitCascades(String appName, Map<String, Future<?>> cascades) {
+    Map<String, Exception> failures = new LinkedHashMap<>();
+    for (Map.Entry<String, Future<?>> cascade : cascades.entrySet()) {
+      try {
+        cascade.getValue().get();
+      } catch (ExecutionException e) {
+        failures.put(
+            cascade.getKey(),
+            e.getCause() instanceof Exception ? (Exception) e.getCause() : e);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new SystemException("Interrupted while deleting application " + appName, e);
+      }
+    }
+
+    if (!failures.isEmpty()) {
+      failures.forEach(
+          (dependents, e) ->
+              log.error("Failed to delete {} of application '{}'", dependents, appName, e));
+
+      SystemException exception =
+          new SystemException(
+              String.format(
+                  "Failed to delete %s of application %s, the application has not been deleted: %s",
+                  COMMA_JOINER.join(failures.keySet()),
+                  appName,
+                  failures.values().stream()
+                      .map(Exception::getMessage)
+                      .collect(Collectors.joining("; "))));
+      failures.values().forEach(exception::addSuppressed);
+      throw exception.setRetryable(true);
+    }
+  }
+
   private void removeApplicationFromProjects(String appName) {
+    List<Project> projectsToUpdate = new ArrayList<>();
+    List<String> projectsToDelete = new ArrayList<>();
     projectDao.all().stream()
         .filter(p -> p.getConfig().getApplications().contains(appName))
         .forEach(
@@ -181,11 +265,22 @@ public class ApplicationService {
 
               // If the project doesn't have anymore applications, cascade the delete to projects.
               if (p.getConfig().getApplications().isEmpty()) {
-                projectDao.delete(p.getId());
+                projectsToDelete.add(p.getId());
               } else {
-                projectDao.update(p.getId(), p);
+                projectsToUpdate.add(p);
               }
             });
+
+    if (!projectsToUpdate.isEmpty()) {
+      projectDao.bulkImport(projectsToUpdate);
+    }
+    if (!projectsToDelete.isEmpty()) {
+      log.info(
+          "Deleting {} projects without applications: {}",
+          projectsToDelete.size(),
+          COMMA_JOINER.join(projectsToDelete));
+      projectDao.bulkDelete(projectsToDelete);
+    }
   }
 
   private void deleteApplicationFromNotifications(String appName) {
@@ -193,7 +288,6 @@ public class ApplicationService {
   }
 
   private void deletePipelines(String appName) {
-    // Delete pipelines
     Collection<Pipeline> pipelinesToDelete = pipelineDao.getPipelinesByApplication(appName);
     if (!pipelinesToDelete.isEmpty()) {
       List<String> pids =
@@ -203,7 +297,7 @@ public class ApplicationService {
           pids.size(),
           appName,
           COMMA_JOINER.join(pids));
-      pids.forEach(pipelineDao::delete);
+      pipelineDao.bulkDelete(pids);
 
       serviceAccountsService.ifPresent(
           svc -> {
@@ -216,8 +310,9 @@ public class ApplicationService {
             }
           });
     }
+  }
 
-    // Delete strategies
+  private void deleteStrategies(String appName) {
     Collection<Pipeline> strategiesToDelete =
         pipelineStrategyDao.getPipelinesByApplication(appName);
     if (!strategiesToDelete.isEmpty()) {
@@ -228,7 +323,7 @@ public class ApplicationService {
           sids.size(),
           appName,
           COMMA_JOINER.join(sids));
-      sids.forEach(pipelineStrategyDao::delete);
+      pipelineStrategyDao.bulkDelete(sids);
     }
   }
 
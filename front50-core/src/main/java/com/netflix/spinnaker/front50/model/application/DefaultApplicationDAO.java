@@ -20,6 +20,7 @@ import com.netflix.spectator.api.Registry;
 import com.netflix.spinnaker.front50.config.StorageServiceConfigurationProperties;
 import com.netflix.spinnaker.front50.model.ObjectKeyLoader;
 import com.netflix.spinnaker.front50.model.ObjectType;
+import com.netflix.spinnaker.front50.model.SearchIndexer;
 import com.netflix.spinnaker.front50.model.StorageService;
 import com.netflix.spinnaker.front50.model.StorageServiceSupport;
 import com.netflix.spinnaker.kork.web.exceptions.NotFoundException;
@@ -30,6 +31,9 @@ import rx.Scheduler;
 
 public class DefaultApplicationDAO extends StorageServiceSupport<Application>
     implements ApplicationDAO {
+  private final SearchIndexer<Application> searchIndexer =
+      new SearchIndexer<>(Searcher::attributes);
+
   public DefaultApplicationDAO(
       StorageService service,
       Scheduler scheduler,
@@ -72,6 +76,6 @@ public class DefaultApplicationDAO extends StorageServiceSupport<Application>
 
   @Override
   public Collection<Application> search(Map<String, String> attributes) {
-    return Searcher.search(all(), attributes);
+    return Searcher.search(searchIndexer.indexFor(allReadOnly(true)), attributes);
   }
 }
@@ -19,13 +19,19 @@ package com.netflix.spinnaker.front50.model.pipeline;
 import com.netflix.spectator.api.Registry;
 import com.netflix.spinnaker.front50.api.model.pipeline.Pipeline;
 import com.netflix.spinnaker.front50.config.StorageServiceConfigurationProperties;
+import com.netflix.spinnaker.front50.model.CacheIndex;
+import com.netflix.spinnaker.front50.model.CacheSnapshot;
 import com.netflix.spinnaker.front50.model.ObjectKeyLoader;
 import com.netflix.spinnaker.front50.model.ObjectType;
 import com.netflix.spinnaker.front50.model.StorageService;
 import com.netflix.spinnaker.front50.model.StorageServiceSupport;
 import com.netflix.spinnaker.kork.web.exceptions.NotFoundException;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
@@ -37,6 +43,12 @@ import rx.Scheduler;
 public class DefaultPipelineDAO extends StorageServiceSupport<Pipeline> implements PipelineDAO {
   private static final Logger log = LoggerFactory.getLogger(DefaultPipelineDAO.class);
 
+  static final String APPLICATION_INDEX = "application";
+  static final String UPSTREAM_PIPELINE_INDEX = "upstreamPipeline";
+  static final String ENABLED_TRIGGER_TYPE_INDEX = "enabledTriggerType";
+  static final String TEMPLATE_SOURCE_INDEX = "templateSource";
+  static final String TEMPLATE_REFERENCE_INDEX = "templateReference";
+
   public DefaultPipelineDAO(
       StorageService service,
       Scheduler scheduler,
@@ -52,6 +64,19 @@ public class DefaultPipelineDAO extends StorageServiceSupport<Pipeline> implemen
         configurationProperties,
         registry,
         circuitBreakerRegistry);
+
+    registerIndex(CacheIndex.of(APPLICATION_INDEX, Pipeline::getApplication));
+    registerIndex(
+        CacheIndex.ofMany(UPSTREAM_PIPELINE_INDEX, PipelineTriggers::upstreamPipelineIds));
+    registerIndex(
+        CacheIndex.ofMany(ENABLED_TRIGGER_TYPE_INDEX, PipelineTriggers::enabledTriggerTypes));
+    registerIndex(CacheIndex.of(TEMPLATE_SOURCE_INDEX, PipelineTemplateReferences::templateSource));
+    registerIndex(
+        CacheIndex.of(
+            TEMPLATE_REFERENCE_INDEX,
+            pipeline ->
+                PipelineTemplateReferences.unversionedReference(
+                    PipelineTemplateReferences.templateReference(pipeline))));
   }
 
   @Override
@@ -83,7 +108,7 @@ public class DefaultPipelineDAO extends StorageServiceSupport<Pipeline> implemen
   @Override
   public Collection<Pipeline> getPipelinesByApplication(
       String application, String pipelineNameFilter, boolean refresh) {
-    return all(refresh).stream()
+    return findAllByIndex(APPLICATION_INDEX, application, refresh).stream()
         .filter(
             pipeline -> {
               /*
@@ -99,11 +124,6 @@ public class DefaultPipelineDAO extends StorageServiceSupport<Pipeline> implemen
                     pipeline.getLastModified());
               }
 
-              if (pipeline.getApplication() == null
-                  || !pipeline.getApplication().equalsIgnoreCase(application)) {
-                return false;
-              }
-
               /*
               if the pipeline name filter is empty, we want to treat it as if it doesn't exist.
               if isEmpty returns true, the statement will short circuit and return true,
@@ -121,12 +141,10 @@ public class DefaultPipelineDAO extends StorageServiceSupport<Pipeline> implemen
 
   @Override
   public Pipeline getPipelineByName(String application, String pipelineName, boolean refresh) {
-    return all(refresh).stream()
+    return findAllByIndex(APPLICATION_INDEX, application, refresh).stream()
         .filter(
             pipeline ->
-                pipeline.getApplication() != null
-                    && pipeline.getApplication().equalsIgnoreCase(application)
-                    && pipeline.getName() != null
+                pipeline.getName() != null
                     && pipeline.getName().equalsIgnoreCase(pipelineName))
         .findFirst()
         .orElseThrow(
@@ -137,6 +155,51 @@ public class DefaultPipelineDAO extends StorageServiceSupport<Pipeline> implemen
                         application, pipelineName)));
   }
 
+  @Override
+  public Collection<Pipeline> getPipelinesTriggeredBy(String upstreamPipelineId, boolean refresh) {
+    // index keys are case-insensitive, pipeline ids are not
+    return findAllByIndex(UPSTREAM_PIPELINE_INDEX, upstreamPipelineId, refresh).stream()
+        .filter(pipeline -> PipelineTriggers.isTriggeredBy(pipeline, upstreamPipelineId))
+        .collect(Collectors.toList());
+  }
+
+  @Override
+  public Collection<Pipeline> getEnabledPipelinesByTriggerType(
+      String triggerType, boolean refresh) {
+    return findAllByIndex(ENABLED_TRIGGER_TYPE_INDEX, triggerType, refresh).stream()
+        .filter(pipeline -> PipelineTriggers.hasEnabledTrigger(pipeline, triggerType))
+        .collect(Collectors.toList());
+  }
+
+  @Override
+  public Collection<Pipeline> getPipelinesByTemplateSource(
+      Collection<String> templateSources, boolean refresh) {
+    CacheSnapshot<Pipeline> snapshot = getCacheSnapshot(refresh);
+
+    // sources are matched case-insensitively, as are index keys
+    Set<String> distinctSources = new LinkedHashSet<>();
+    templateSources.forEach(source -> distinctSources.add(source.toLowerCase()));
+
+    List<Pipeline> pipelines = new ArrayList<>();
+    for (String source : distinctSources) {
+      pipelines.addAll(snapshot.lookup(TEMPLATE_SOURCE_INDEX, source));
+    }
+    return pipelines;
+  }
+
+  @Override
+  public Collection<Pipeline> getPipelinesByTemplateReference(
+      String templateReference, boolean refresh) {
+    String unversionedReference =
+        PipelineTemplateReferences.unversionedReference(templateReference);
+    return findAllByIndex(TEMPLATE_REFERENCE_INDEX, unversionedReference, refresh).stream()
+        .filter(
+            pipeline ->
+                PipelineTemplateReferences.matchesReference(
+                    PipelineTemplateReferences.templateReference(pipeline), templateReference))
+        .collect(Collectors.toList());
+  }
+
   @Override
   public Pipeline create(String id, Pipeline item) {
     if (id == null) {
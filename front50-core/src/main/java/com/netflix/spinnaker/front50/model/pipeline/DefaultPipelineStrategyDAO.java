@@ -19,19 +19,22 @@ package com.netflix.spinnaker.front50.model.pipeline;
 import com.netflix.spectator.api.Registry;
 import com.netflix.spinnaker.front50.api.model.pipeline.Pipeline;
 import com.netflix.spinnaker.front50.config.StorageServiceConfigurationProperties;
+import com.netflix.spinnaker.front50.model.CacheIndex;
 import com.netflix.spinnaker.front50.model.ObjectKeyLoader;
 import com.netflix.spinnaker.front50.model.ObjectType;
 import com.netflix.spinnaker.front50.model.StorageService;
 import com.netflix.spinnaker.front50.model.StorageServiceSupport;
 import com.netflix.spinnaker.kork.web.exceptions.NotFoundException;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.UUID;
-import java.util.stream.Collectors;
 import rx.Scheduler;
 
 public class DefaultPipelineStrategyDAO extends StorageServiceSupport<Pipeline>
     implements PipelineStrategyDAO {
+  static final String APPLICATION_INDEX = "application";
+
   public DefaultPipelineStrategyDAO(
       StorageService service,
       Scheduler scheduler,
@@ -47,6 +50,8 @@ public class DefaultPipelineStrategyDAO extends StorageServiceSupport<Pipeline>
         configurationProperties,
         registry,
         circuitBreakerRegistry);
+
+    registerIndex(CacheIndex.of(APPLICATION_INDEX, Pipeline::getApplication));
   }
 
   @Override
@@ -67,9 +72,7 @@ public class DefaultPipelineStrategyDAO extends StorageServiceSupport<Pipeline>
 
   @Override
   public Collection<Pipeline> getPipelinesByApplication(String application) {
-    return all().stream()
-        .filter(pipelineStrategy -> pipelineStrategy.getApplication().equalsIgnoreCase(application))
-        .collect(Collectors.toList());
+    return new ArrayList<>(findAllByIndex(APPLICATION_INDEX, application, true));
   }
 
   @Override
@@ -1,10 +1,10 @@
 package com.netflix.spinnaker.front50.model.pipeline;
 
 import com.netflix.spinnaker.front50.api.model.pipeline.Pipeline;
-import com.netflix.spinnaker.front50.model.ItemDAO;
 import java.util.Collection;
+import java.util.stream.Collectors;
 
-public interface PipelineDAO extends ItemDAO<Pipeline> {
+public interface PipelineDAO extends ReorderablePipelineDAO {
   String getPipelineId(String application, String pipelineName);
 
   Collection<Pipeline> getPipelinesByApplication(String application);
@@ -15,4 +15,59 @@ public interface PipelineDAO extends ItemDAO<Pipeline> {
       String application, String pipelineNameFilter, boolean refresh);
 
   Pipeline getPipelineByName(String application, String pipelineName, boolean refresh);
+
+  /**
+   * @param upstreamPipelineId id of the pipeline whose executions trigger the returned pipelines
+   * @return every enabled pipeline with an enabled trigger of type {@code pipeline} on {@code
+   *     upstreamPipelineId}, regardless of the trigger statuses
+   */
+  default Collection<Pipeline> getPipelinesTriggeredBy(
+      String upstreamPipelineId, boolean refresh) {
+    return allReadOnly(refresh).stream()
+        .filter(pipeline -> PipelineTriggers.isTriggeredBy(pipeline, upstreamPipelineId))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * @return every enabled pipeline with at least one enabled trigger of type {@code triggerType}
+   */
+  default Collection<Pipeline> getEnabledPipelinesByTriggerType(
+      String triggerType, boolean refresh) {
+    return allReadOnly(refresh).stream()
+        .filter(pipeline -> PipelineTriggers.hasEnabledTrigger(pipeline, triggerType))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * @param templateSources v1 template sources (e.g. {@code spinnaker://myTemplate}), compared
+   *     case-insensitively
+   * @return every templated pipeline whose {@code config.pipeline.template.source} is one of {@code
+   *     templateSources}
+   */
+  default Collection<Pipeline> getPipelinesByTemplateSource(
+      Collection<String> templateSources, boolean refresh) {
+    return allReadOnly(refresh).stream()
+        .filter(
+            pipeline -> {
+              String source = PipelineTemplateReferences.templateSource(pipeline);
+              return source != null && templateSources.stream().anyMatch(source::equalsIgnoreCase);
+            })
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * @param templateReference v2 template reference (e.g. {@code spinnaker://myTemplate} or {@code
+   *     spinnaker://myTemplate:tag})
+   * @return every templated pipeline whose {@code template.reference} is {@code templateReference},
+   *     or a tagged or digested version of it
+   */
+  default Collection<Pipeline> getPipelinesByTemplateReference(
+      String templateReference, boolean refresh) {
+    return allReadOnly(refresh).stream()
+        .filter(
+            pipeline ->
+                PipelineTemplateReferences.matchesReference(
+                    PipelineTemplateReferences.templateReference(pipeline), templateReference))
+        .collect(Collectors.toList());
+  }
 }
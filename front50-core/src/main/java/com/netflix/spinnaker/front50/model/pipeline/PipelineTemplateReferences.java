@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.front50.model.pipeline;
+
+import static com.netflix.spinnaker.front50.api.model.pipeline.Pipeline.TYPE_TEMPLATED;
+import static com.netflix.spinnaker.front50.model.pipeline.TemplateConfiguration.TemplateSource.SPINNAKER_PREFIX;
+
+import com.netflix.spinnaker.front50.api.model.pipeline.Pipeline;
+import java.util.Map;
+
+/**
+ * Extracts the pipeline template a templated pipeline is built from, without converting the whole
+ * pipeline into a {@link TemplateConfiguration} or {@link V2TemplateConfiguration}.
+ */
+final class PipelineTemplateReferences {
+
+  private PipelineTemplateReferences() {}
+
+  /** @return {@code config.pipeline.template.source} of a (v1) templated pipeline, if any */
+  static String templateSource(Pipeline pipeline) {
+    if (!TYPE_TEMPLATED.equals(pipeline.getType())) {
+      return null;
+    }
+
+    Object source = path(pipeline.getConfig(), "pipeline", "template", "source");
+    return source instanceof String ? (String) source : null;
+  }
+
+  /** @return {@code template.reference} of a (v2) templated pipeline, if any */
+  static String templateReference(Pipeline pipeline) {
+    if (!TYPE_TEMPLATED.equals(pipeline.getType())) {
+      return null;
+    }
+
+    Object reference = path(pipeline.getTemplate(), "reference");
+    return reference instanceof String ? (String) reference : null;
+  }
+
+  /**
+   * Strips any tag ({@code :tag}) or digest ({@code @sha256:...}) from a {@code spinnaker://}
+   * template reference, so every version of a template shares the same key.
+   */
+  static String unversionedReference(String reference) {
+    if (reference == null || !reference.startsWith(SPINNAKER_PREFIX)) {
+      return reference;
+    }
+
+    for (int i = SPINNAKER_PREFIX.length(); i < reference.length(); i++) {
+      if (isVersionSeparator(reference.charAt(i))) {
+        return reference.substring(0, i);
+      }
+    }
+    return reference;
+  }
+
+  /**
+   * @return whether {@code reference} is {@code templateReference}, or a tagged or digested version
+   *     of it
+   */
+  static boolean matchesReference(String reference, String templateReference) {
+    return reference != null
+        && reference.startsWith(templateReference)
+        && (reference.length() == templateReference.length()
+            || isVersionSeparator(reference.charAt(templateReference.length())));
+  }
+
+  private static boolean isVersionSeparator(char c) {
+    return c == ':' || c == '@';
+  }
+
+  private static Object path(Object root, String... keys) {
+    Object current = root;
+    for (String key : keys) {
+      if (!(current instanceof Map)) {
+        return null;
+      }
+      current = ((Map<?, ?>) current).get(key);
+    }
+    return current;
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.front50.model.pipeline;
+
+import com.netflix.spinnaker.front50.api.model.pipeline.Pipeline;
+import com.netflix.spinnaker.front50.api.model.pipeline.Trigger;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/** Trigger related predicates shared by the {@link PipelineDAO} lookups and their indexes. */
+final class PipelineTriggers {
+  static final String PIPELINE_TRIGGER_TYPE = "pipeline";
+
+  private PipelineTriggers() {}
+
+  /** A pipeline is enabled unless it is explicitly disabled. */
+  static boolean isEnabled(Pipeline pipeline) {
+    return !Boolean.TRUE.equals(pipeline.getDisabled());
+  }
+
+  /** A trigger is disabled unless it is explicitly enabled. */
+  static boolean isEnabled(Trigger trigger) {
+    return Boolean.TRUE.equals(trigger.getEnabled());
+  }
+
+  static boolean isTriggeredBy(Pipeline pipeline, String upstreamPipelineId) {
+    return isEnabled(pipeline)
+        && triggersOf(pipeline).stream()
+            .anyMatch(
+                trigger ->
+                    isEnabled(trigger)
+                        && PIPELINE_TRIGGER_TYPE.equals(trigger.getType())
+                        && upstreamPipelineId.equals(trigger.getPipeline()));
+  }
+
+  static boolean hasEnabledTrigger(Pipeline pipeline, String triggerType) {
+    return isEnabled(pipeline)
+        && triggersOf(pipeline).stream()
+            .anyMatch(trigger -> isEnabled(trigger) && triggerType.equals(trigger.getType()));
+  }
+
+  /** @return ids of every pipeline that triggers {@code pipeline} (if it is enabled) */
+  static Collection<String> upstreamPipelineIds(Pipeline pipeline) {
+    if (!isEnabled(pipeline)) {
+      return Collections.emptyList();
+    }
+
+    Set<String> ids = new LinkedHashSet<>();
+    for (Trigger trigger : triggersOf(pipeline)) {
+      if (isEnabled(trigger) && PIPELINE_TRIGGER_TYPE.equals(trigger.getType())) {
+        ids.add(trigger.getPipeline());
+      }
+    }
+    return ids;
+  }
+
+  /** @return types of every enabled trigger of {@code pipeline} (if it is enabled) */
+  static Collection<String> enabledTriggerTypes(Pipeline pipeline) {
+    if (!isEnabled(pipeline)) {
+      return Collections.emptyList();
+    }
+
+    Set<String> types = new LinkedHashSet<>();
+    for (Trigger trigger : triggersOf(pipeline)) {
+      if (isEnabled(trigger)) {
+        types.add(trigger.getType());
+      }
+    }
+    return types;
+  }
+
+  private static List<Trigger> triggersOf(Pipeline pipeline) {
+    return pipeline.getTriggers() == null ? Collections.emptyList() : pipeline.getTriggers();
+  }
+}
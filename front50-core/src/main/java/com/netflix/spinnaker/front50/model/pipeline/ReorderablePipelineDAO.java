@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.front50.model.pipeline;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.netflix.spinnaker.front50.api.model.pipeline.Pipeline;
+import com.netflix.spinnaker.front50.jackson.Front50ApiModule;
+import com.netflix.spinnaker.front50.model.ItemDAO;
+import com.netflix.spinnaker.kork.web.exceptions.InvalidRequestException;
+import com.netflix.spinnaker.kork.web.exceptions.NotFoundException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Pipelines (and strategies) of an application, ordered by their index. */
+public interface ReorderablePipelineDAO extends ItemDAO<Pipeline> {
+
+  Collection<Pipeline> getPipelinesByApplication(String application);
+
+  /**
+   * Update the index of several pipelines of an application at once.
+   *
+   * <p>The pipelines are looked up amongst the (cached) pipelines of {@code application} rather
+   * than loaded one by one, and are stored with a single {@link #bulkImport(Collection)}.
+   *
+   * @param application application every reordered pipeline must belong to
+   * @param idsToIndices new index of every pipeline to reorder, by pipeline id
+   * @throws NotFoundException if a pipeline does not exist
+   * @throws InvalidRequestException if a pipeline does not belong to {@code application}
+   */
+  default void reorder(String application, Map<String, Integer> idsToIndices) {
+    Map<String, Pipeline> pipelinesById = new HashMap<>();
+    for (Pipeline pipeline : getPipelinesByApplication(application)) {
+      if (pipeline.getId() != null) {
+        pipelinesById.put(pipeline.getId().toLowerCase(), pipeline);
+      }
+    }
+
+    // cached pipelines are shared and must not be modified, they're copied the way they're
+    // (de)serialized so that no property is left out
+    ObjectMapper objectMapper = new ObjectMapper().registerModule(new Front50ApiModule());
+
+    List<Pipeline> reordered = new ArrayList<>(idsToIndices.size());
+    for (Map.Entry<String, Integer> entry : idsToIndices.entrySet()) {
+      String id = entry.getKey();
+      Pipeline pipeline = pipelinesById.get(id.toLowerCase());
+      if (pipeline == null) {
+        // tell a pipeline of another application apart from one that does not exist at all
+        findById(id);
+        throw new InvalidRequestException(
+            String.format(
+                "Pipeline with id %s does not belong to application %s", id, application));
+      }
+
+      Pipeline copy = objectMapper.convertValue(pipeline, Pipeline.class);
+      copy.setLastModified(pipeline.getLastModified()); // not serialized
+      copy.setIndex(entry.getValue());
+      reordered.add(copy);
+    }
+
+    if (!reordered.isEmpty()) {
+      bulkImport(reordered);
+    }
+  }
+}
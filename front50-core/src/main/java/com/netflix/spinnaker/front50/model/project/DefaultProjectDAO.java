@@ -18,6 +18,7 @@ package com.netflix.spinnaker.front50.model.project;
 
 import com.netflix.spectator.api.Registry;
 import com.netflix.spinnaker.front50.config.StorageServiceConfigurationProperties;
+import com.netflix.spinnaker.front50.model.CacheIndex;
 import com.netflix.spinnaker.front50.model.ObjectKeyLoader;
 import com.netflix.spinnaker.front50.model.ObjectType;
 import com.netflix.spinnaker.front50.model.StorageService;
@@ -28,6 +29,8 @@ import java.util.UUID;
 import rx.Scheduler;
 
 public class DefaultProjectDAO extends StorageServiceSupport<Project> implements ProjectDAO {
+  static final String NAME_INDEX = "name";
+
   public DefaultProjectDAO(
       StorageService service,
       Scheduler scheduler,
@@ -43,12 +46,13 @@ public class DefaultProjectDAO extends StorageServiceSupport<Project> implements
         configurationProperties,
         registry,
         circuitBreakerRegistry);
+
+    registerIndex(CacheIndex.of(NAME_INDEX, Project::getName));
   }
 
   @Override
   public Project findByName(String name) throws NotFoundException {
-    return all().stream()
-        .filter(project -> project.getName().equalsIgnoreCase(name))
+    return findAllByIndex(NAME_INDEX, name, true).stream()
         .findFirst()
         .orElseThrow(
             () -> new NotFoundException(String.format("No project found with name of %s", name)));
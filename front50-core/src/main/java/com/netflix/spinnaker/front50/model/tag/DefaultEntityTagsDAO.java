@@ -20,15 +20,19 @@ import com.netflix.spectator.api.Registry;
 import com.netflix.spinnaker.front50.config.StorageServiceConfigurationProperties;
 import com.netflix.spinnaker.front50.model.ObjectKeyLoader;
 import com.netflix.spinnaker.front50.model.ObjectType;
+import com.netflix.spinnaker.front50.model.SortedCacheIndex;
 import com.netflix.spinnaker.front50.model.StorageService;
 import com.netflix.spinnaker.front50.model.StorageServiceSupport;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import java.util.Collection;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import rx.Scheduler;
 
 public class DefaultEntityTagsDAO extends StorageServiceSupport<EntityTags>
     implements EntityTagsDAO {
+  private static final String ID_INDEX = "id";
+
   public DefaultEntityTagsDAO(
       StorageService service,
       Scheduler scheduler,
@@ -44,6 +48,13 @@ public class DefaultEntityTagsDAO extends StorageServiceSupport<EntityTags>
         configurationProperties,
         registry,
         circuitBreakerRegistry);
+
+    registerIndex(SortedCacheIndex.of(ID_INDEX, EntityTags::getId));
+  }
+
+  @Override
+  public Collection<EntityTags> findAllByIdPrefix(String prefix, boolean refresh) {
+    return findAllByPrefix(ID_INDEX, prefix, refresh);
   }
 
   @Override
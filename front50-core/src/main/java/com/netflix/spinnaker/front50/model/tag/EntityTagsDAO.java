@@ -1,5 +1,19 @@
 package com.netflix.spinnaker.front50.model.tag;
 
 import com.netflix.spinnaker.front50.model.ItemDAO;
+import java.util.Collection;
+import java.util.stream.Collectors;
 
-public interface EntityTagsDAO extends ItemDAO<EntityTags> {}
+public interface EntityTagsDAO extends ItemDAO<EntityTags> {
+
+  /**
+   * @param prefix id prefix to match (case-sensitive)
+   * @param refresh true to refresh the cache (if necessary) before the lookup
+   * @return every entity tag whose id starts with {@code prefix}
+   */
+  default Collection<EntityTags> findAllByIdPrefix(String prefix, boolean refresh) {
+    return allReadOnly(refresh).stream()
+        .filter(it -> it.getId() != null && it.getId().startsWith(prefix))
+        .collect(Collectors.toList());
+  }
+}
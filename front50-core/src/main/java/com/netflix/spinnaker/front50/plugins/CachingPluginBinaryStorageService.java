@@ -15,48 +15,126 @@
  */
 package com.netflix.spinnaker.front50.plugins;
 
+import static java.lang.String.format;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingInputStream;
 import com.netflix.spinnaker.kork.exceptions.SystemException;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Keeps a local, size-bounded copy of plugin binaries so that they can be served without reading
+ * them from the delegate store every time.
+ *
+ * <p>Cached binaries are evicted least recently used first once the cache exceeds its byte budget.
+ * Every cached binary is checksummed when it is written and verified while it is read, corrupt
+ * entries are evicted. Concurrent misses for the same key are coalesced into a single read from
+ * the delegate store. Reads never hold a lock while performing I/O, an entry that is evicted while
+ * being read remains readable until its stream is closed.
+ */
 public class CachingPluginBinaryStorageService implements PluginBinaryStorageService {
 
-  private static final Path CACHE_PATH;
+  public static final long DEFAULT_MAX_SIZE_BYTES = 1024L * 1024 * 1024;
 
   private static final Logger log =
       LoggerFactory.getLogger(CachingPluginBinaryStorageService.class);
 
-  static {
+  private final PluginBinaryStorageService storageService;
+  private final Path cachePath;
+  private final long maxSizeBytes;
+
+  /** Cached binaries in access order, guarded by itself. */
+  private final LinkedHashMap<String, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+  private final Map<String, CompletableFuture<CacheEntry>> inFlightLoads =
+      new ConcurrentHashMap<>();
+  private long sizeBytes; // guarded by entries
+
+  public CachingPluginBinaryStorageService(PluginBinaryStorageService storageService) {
+    this(storageService, DEFAULT_MAX_SIZE_BYTES);
+  }
+
+  public CachingPluginBinaryStorageService(
+      PluginBinaryStorageService storageService, long maxSizeBytes) {
+    this.storageService = storageService;
+    this.maxSizeBytes = maxSizeBytes;
+
     try {
-      CACHE_PATH = Files.createTempDirectory("plugin-binaries");
+      this.cachePath = Files.createTempDirectory("plugin-binaries");
     } catch (IOException e) {
       throw new SystemException("Failed to create plugin binaries cache directory", e);
     }
   }
 
-  private final PluginBinaryStorageService storageService;
+  @Override
+  public void store(@Nonnull String key, @Nonnull byte[] item) {
+    storageService.store(key, item);
+    if (!fitsCache(key, item.length)) {
+      return;
+    }
 
-  public CachingPluginBinaryStorageService(PluginBinaryStorageService storageService) {
-    this.storageService = storageService;
+    Path tempPath = null;
+    try {
+      tempPath = newCacheFile();
+      Files.write(tempPath, item);
+      cache(key, tempPath, item.length, Hashing.sha256().hashBytes(item));
+      tempPath = null;
+    } catch (IOException e) {
+      log.error("Failed to write plugin binary to local filesystem cache: {}", key, e);
+    } finally {
+      deleteFile(tempPath);
+    }
   }
 
+  /**
+   * The binary is streamed to a local file first, which is then both uploaded to the delegate store
+   * and, once that succeeded, added to the cache.
+   */
   @Override
-  public void store(@Nonnull String key, @Nonnull byte[] item) {
-    storageService.store(key, item);
-    storeCache(key, item);
+  public void store(@Nonnull String key, @Nonnull InputStream item, long contentLength) {
+    Path tempPath = null;
+    try {
+      tempPath = newCacheFile();
+      HashCode checksum = copy(item, tempPath);
+      try (InputStream binary = Files.newInputStream(tempPath)) {
+        storageService.store(key, binary, contentLength);
+      }
+      long size = Files.size(tempPath);
+      if (fitsCache(key, size)) {
+        cache(key, tempPath, size, checksum);
+        tempPath = null;
+      }
+    } catch (IOException e) {
+      throw new SystemException(format("Failed to store plugin binary: %s", key), e);
+    } finally {
+      deleteFile(tempPath);
+    }
   }
 
   @Override
   public void delete(@Nonnull String key) {
     storageService.delete(key);
-    deleteCache(key);
+    invalidate(key, null);
   }
 
   @Nonnull
@@ -68,49 +146,276 @@ public class CachingPluginBinaryStorageService implements PluginBinaryStorageSer
   @Nullable
   @Override
   public byte[] load(@Nonnull String key) {
-    return loadFromCache(key);
+    InputStream binary = openStream(key);
+    if (binary == null) {
+      return null;
+    }
+
+    try (binary) {
+      return binary.readAllBytes();
+    } catch (IOException e) {
+      throw new SystemException(format("Failed to read plugin binary: %s", key), e);
+    }
   }
 
-  private byte[] loadFromCache(String key) {
-    Path binaryPath = CACHE_PATH.resolve("key");
-    if (binaryPath.toFile().exists()) {
+  @Nullable
+  @Override
+  public InputStream openStream(@Nonnull String key) {
+    CacheEntry entry = lookup(key);
+    if (entry != null) {
+      InputStream binary = open(key, entry);
+      if (binary != null) {
+        return binary;
+      }
+    }
+
+    CompletableFuture<CacheEntry> load = new CompletableFuture<>();
+    CompletableFuture<CacheEntry> inFlightLoad = inFlightLoads.putIfAbsent(key, load);
+    if (inFlightLoad == null) {
       try {
-        return Files.readAllBytes(binaryPath);
-      } catch (IOException e) {
-        log.error("Failed to read cached binary, falling back to delegate store: {}", key, e);
+        return loadInternal(key, load);
+      } finally {
+        inFlightLoads.remove(key, load);
       }
     }
-    return loadInternal(key);
+
+    try {
+      entry = inFlightLoad.join();
+    } catch (CompletionException e) {
+      log.warn("Concurrent load of plugin binary failed, retrying: {}", key, e.getCause());
+      return storageService.openStream(key);
+    }
+    if (entry == null) {
+      // the binary either does not exist or is too large to be cached
+      return storageService.openStream(key);
+    }
+    InputStream binary = open(key, entry);
+    return binary != null ? binary : storageService.openStream(key);
   }
 
-  private byte[] loadInternal(String key) {
-    byte[] binary = storageService.load(key);
-    if (binary == null) {
+  /** Reads a binary from the delegate store into the cache, completing {@code load} either way. */
+  private InputStream loadInternal(String key, CompletableFuture<CacheEntry> load) {
+    Path tempPath = null;
+    try (InputStream binary = storageService.openStream(key)) {
+      if (binary == null) {
+        load.complete(null);
+        return null;
+      }
+
+      tempPath = newCacheFile();
+      HashCode checksum = copy(binary, tempPath);
+      long size = Files.size(tempPath);
+      if (!fitsCache(key, size)) {
+        InputStream uncached = Files.newInputStream(tempPath);
+        deleteFile(tempPath); // the open stream remains readable
+        tempPath = null;
+        load.complete(null);
+        return uncached;
+      }
+
+      CacheEntry entry = cache(key, tempPath, size, checksum);
+      tempPath = null;
+      load.complete(entry);
+
+      InputStream cached = open(key, entry);
+      return cached != null ? cached : storageService.openStream(key);
+    } catch (IOException e) {
+      load.completeExceptionally(e);
+      log.error("Failed to cache plugin binary, streaming it from delegate store: {}", key, e);
+      return storageService.openStream(key);
+    } catch (RuntimeException e) {
+      load.completeExceptionally(e);
+      throw e;
+    } finally {
+      deleteFile(tempPath);
+    }
+  }
+
+  private CacheEntry lookup(String key) {
+    synchronized (entries) {
+      return entries.get(key);
+    }
+  }
+
+  /** @return a checksum verifying stream of a cached binary, or null if it has been evicted */
+  private InputStream open(String key, CacheEntry entry) {
+    try {
+      return new ChecksumVerifyingInputStream(key, entry, Files.newInputStream(entry.path));
+    } catch (NoSuchFileException e) {
+      return null;
+    } catch (IOException e) {
+      log.error("Failed to read cached plugin binary, falling back to delegate store: {}", key, e);
+      invalidate(key, entry);
       return null;
     }
+  }
 
-    storeCache(key, binary);
+  /**
+   * A binary larger than the whole cache would evict every other binary and still exceed it, so it
+   * is not cached at all. Any previously cached version of it is evicted, as it is stale.
+   *
+   * @return whether a binary of {@code size} bytes can be cached
+   */
+  private boolean fitsCache(String key, long size) {
+    if (size <= maxSizeBytes) {
+      return true;
+    }
 
-    return binary;
+    log.warn(
+        "Plugin binary {} ({} bytes) exceeds the cache size of {} bytes, not caching it",
+        key,
+        size,
+        maxSizeBytes);
+    invalidate(key, null);
+    return false;
   }
 
-  private synchronized void storeCache(String key, byte[] binary) {
-    Path binaryPath = CACHE_PATH.resolve(key);
-    if (!binaryPath.toFile().exists()) {
-      try {
-        Files.createDirectories(binaryPath.getParent());
-        Files.write(binaryPath, binary, StandardOpenOption.CREATE_NEW);
-      } catch (IOException e) {
-        log.error("Failed to write plugin binary to local filesystem cache: {}", key, e);
+  /**
+   * Adds an already written file to the cache, evicting least recently used binaries as needed.
+   */
+  private CacheEntry cache(String key, Path path, long size, HashCode checksum) {
+    CacheEntry entry = new CacheEntry(path, size, checksum);
+    List<CacheEntry> evicted = new ArrayList<>();
+    synchronized (entries) {
+      CacheEntry replaced = entries.put(key, entry);
+      if (replaced != null) {
+        sizeBytes -= replaced.size;
+        evicted.add(replaced);
+      }
+      sizeBytes += size;
+
+      Iterator<CacheEntry> iterator = entries.values().iterator();
+      while (sizeBytes > maxSizeBytes && iterator.hasNext()) {
+        CacheEntry eldest = iterator.next();
+        if (eldest != entry) {
+          iterator.remove();
+          sizeBytes -= eldest.size;
+          evicted.add(eldest);
+        }
+      }
+    }
+
+    evicted.forEach(it -> deleteFile(it.path));
+    return entry;
+  }
+
+  /**
+   * Evicts the cached binary for {@code key}. If {@code expected} is given, the binary is only
+   * evicted if it has not been replaced since.
+   */
+  private void invalidate(String key, @Nullable CacheEntry expected) {
+    CacheEntry removed;
+    synchronized (entries) {
+      removed = entries.get(key);
+      if (removed == null || (expected != null && removed != expected)) {
+        return;
       }
+      entries.remove(key);
+      sizeBytes -= removed.size;
     }
+    deleteFile(removed.path);
+  }
+
+  private Path newCacheFile() throws IOException {
+    return Files.createTempFile(cachePath, "binary", ".tmp");
+  }
+
+  private static HashCode copy(InputStream binary, Path path) throws IOException {
+    HashingInputStream hashingInputStream = new HashingInputStream(Hashing.sha256(), binary);
+    Files.copy(hashingInputStream, path, StandardCopyOption.REPLACE_EXISTING);
+    return hashingInputStream.hash();
   }
 
-  private synchronized void deleteCache(String key) {
+  private static void deleteFile(Path path) {
+    if (path == null) {
+      return;
+    }
     try {
-      Files.deleteIfExists(CACHE_PATH.resolve(key));
+      Files.deleteIfExists(path);
     } catch (IOException e) {
-      log.error("Failed to delete plugin binary from local filesystem cache: {}", key, e);
+      log.warn("Failed to delete plugin binary from local filesystem cache: {}", path, e);
+    }
+  }
+
+  private static class CacheEntry {
+    private final Path path;
+    private final long size;
+    private final HashCode checksum;
+
+    private CacheEntry(Path path, long size, HashCode checksum) {
+      this.path = path;
+      this.size = size;
+      this.checksum = checksum;
+    }
+  }
+
+  /**
+   * Verifies the checksum of a cached binary once it has been read in full, evicting it from the
+   * cache (and failing the read) if it does not match.
+   */
+  private class ChecksumVerifyingInputStream extends FilterInputStream {
+    private final String key;
+    private final CacheEntry entry;
+    private final Hasher hasher = Hashing.sha256().newHasher();
+    private boolean verified;
+
+    private ChecksumVerifyingInputStream(String key, CacheEntry entry, InputStream in) {
+      super(in);
+      this.key = key;
+      this.entry = entry;
+    }
+
+    @Override
+    public int read() throws IOException {
+      int b = super.read();
+      if (b == -1) {
+        verify();
+      } else {
+        hasher.putByte((byte) b);
+      }
+      return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      int read = super.read(b, off, len);
+      if (read == -1) {
+        verify();
+      } else {
+        hasher.putBytes(b, off, read);
+      }
+      return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      // skipped bytes still need to be hashed
+      byte[] buffer = new byte[8192];
+      long skipped = 0;
+      while (skipped < n) {
+        int read = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+        if (read == -1) {
+          break;
+        }
+        skipped += read;
+      }
+      return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+      return false;
+    }
+
+    private void verify() throws IOException {
+      if (verified) {
+        return;
+      }
+      verified = true;
+      if (!hasher.hash().equals(entry.checksum)) {
+        invalidate(key, entry);
+        throw new IOException(format("Cached plugin binary is corrupt, evicted it: %s", key));
+      }
     }
   }
 }
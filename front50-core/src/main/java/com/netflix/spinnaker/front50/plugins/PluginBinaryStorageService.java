@@ -17,6 +17,11 @@ package com.netflix.spinnaker.front50.plugins;
 
 import static java.lang.String.format;
 
+import com.google.common.io.ByteStreams;
+import com.netflix.spinnaker.kork.exceptions.SystemException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -34,6 +39,25 @@ public interface PluginBinaryStorageService {
    */
   void store(@Nonnull String key, @Nonnull byte[] item);
 
+  /**
+   * Store a new version of a plugin binary, streaming its content.
+   *
+   * <p>Implementations should avoid buffering the binary in memory, the default implementation
+   * does so only for backwards compatibility. The caller remains responsible for closing {@code
+   * item}.
+   *
+   * @param key The plugin binary key
+   * @param item The plugin binary content
+   * @param contentLength The length of the plugin binary, in bytes
+   */
+  default void store(@Nonnull String key, @Nonnull InputStream item, long contentLength) {
+    try {
+      store(key, ByteStreams.toByteArray(item));
+    } catch (IOException e) {
+      throw new SystemException(format("Failed to read plugin binary: %s", key), e);
+    }
+  }
+
   /**
    * Deletes an existing plugin binary.
    *
@@ -58,6 +82,21 @@ public interface PluginBinaryStorageService {
   @Nullable
   byte[] load(@Nonnull String key);
 
+  /**
+   * Open a single plugin binary for streaming.
+   *
+   * <p>Implementations should avoid buffering the binary in memory, the default implementation
+   * does so only for backwards compatibility.
+   *
+   * @param key The plugin binary key
+   * @return The plugin binary content, if it exists. The caller is responsible for closing it.
+   */
+  @Nullable
+  default InputStream openStream(@Nonnull String key) {
+    byte[] binary = load(key);
+    return binary == null ? null : new ByteArrayInputStream(binary);
+  }
+
   /**
    * Create a binary key.
    *
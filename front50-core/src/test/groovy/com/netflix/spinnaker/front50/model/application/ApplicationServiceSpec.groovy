@@ -19,6 +19,7 @@ package com.netflix.spinnaker.front50.model.application
 
 import com.netflix.spinnaker.front50.ServiceAccountsService
 import com.netflix.spinnaker.front50.events.ApplicationEventListener
+import com.netflix.spinnaker.kork.exceptions.SystemException
 import com.netflix.spinnaker.kork.web.exceptions.NotFoundException
 import com.netflix.spinnaker.front50.exception.ValidationException
 import com.netflix.spinnaker.front50.model.notification.HierarchicalLevel
@@ -153,10 +154,14 @@ class ApplicationServiceSpec extends Specification {
     1 * applicationDAO.findByName('APP1') >> application
     1 * applicationDAO.delete('APP1')
     1 * projectDAO.all() >> projects
-    1 * projectDAO.update("1", { it.config.applications == ['app2'] && it.config.clusters == []})
-    1 * projectDAO.update("2", { it.config.applications == ['app2'] && it.config.clusters.applications == [ ['app2'], ['app2'], [] ]})
-    1 * projectDAO.update("5", { it.config.applications == ['app2'] && it.config.clusters == null})
-    1 * projectDAO.delete("6")
+    1 * projectDAO.bulkImport({ Collection<Project> updated ->
+      updated*.id == ["1", "2", "5"] &&
+        updated.every { it.config.applications == ['app2'] } &&
+        updated[0].config.clusters == [] &&
+        updated[1].config.clusters.applications == [ ['app2'], ['app2'], [] ] &&
+        updated[2].config.clusters == null
+    })
+    1 * projectDAO.bulkDelete(["6"])
     1 * notificationDAO.delete(HierarchicalLevel.APPLICATION, "app1")
     1 * pipelineDAO.getPipelinesByApplication("app1") >> []
     1 * pipelineStrategyDAO.getPipelinesByApplication("app1") >> []
@@ -180,16 +185,44 @@ class ApplicationServiceSpec extends Specification {
     1 * applicationDAO.findByName('APP1') >> application
     1 * applicationDAO.delete('APP1')
     1 * pipelineDAO.getPipelinesByApplication("app1") >> [new Pipeline(id: 'a'), new Pipeline(id: 'b')]
-    1 * pipelineDAO.delete('a')
-    1 * pipelineDAO.delete('b')
+    1 * pipelineDAO.bulkDelete(['a', 'b'])
     1 * projectDAO.all() >> []
     1 * notificationDAO.delete(HierarchicalLevel.APPLICATION, "app1")
     1 * pipelineStrategyDAO.getPipelinesByApplication(_) >> [ new Pipeline(id: 'a') ]
-    1 * pipelineStrategyDAO.delete('a')
+    1 * pipelineStrategyDAO.bulkDelete(['a'])
     1 * serviceAccountsService.deleteManagedServiceAccounts(['a', 'b'])
     0 * _
   }
 
+  def "should not delete an application when deleting any of its dependent objects failed"() {
+    given:
+    ApplicationEventListener listener = Mock()
+    ApplicationService subject = new Fixture(
+      listeners: [listener]
+    ).get()
+
+    when:
+    subject.delete("app1")
+
+    then:
+    1 * applicationDAO.findByName('APP1') >> new Application(name: 'app1')
+    1 * projectDAO.all() >> []
+    1 * notificationDAO.delete(HierarchicalLevel.APPLICATION, "app1")
+    1 * pipelineDAO.getPipelinesByApplication("app1") >> [new Pipeline(id: 'a')]
+    1 * pipelineDAO.bulkDelete(['a']) >> { throw new IllegalStateException("Failed to delete 1 of 1 PIPELINE objects") }
+    1 * pipelineStrategyDAO.getPipelinesByApplication("app1") >> [new Pipeline(id: 'b')]
+    1 * pipelineStrategyDAO.bulkDelete(['b'])
+    0 * applicationDAO.delete(_)
+    _ * listener.supports(_) >> true
+    1 * listener.accept({ it.type == ApplicationEventListener.Type.PRE_DELETE })
+    0 * listener.accept({ it.type == ApplicationEventListener.Type.POST_DELETE })
+
+    def e = thrown(SystemException)
+    e.message.contains("Failed to delete pipelines of application app1")
+    e.message.contains("Failed to delete 1 of 1 PIPELINE objects")
+    e.retryable
+  }
+
   def "delete should invoke pre and post event listeners"() {
     given:
     ApplicationEventListener listener = Mock()
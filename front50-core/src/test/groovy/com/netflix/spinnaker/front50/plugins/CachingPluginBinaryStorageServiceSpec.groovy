@@ -16,16 +16,22 @@
 
 package com.netflix.spinnaker.front50.plugins
 
+import com.netflix.spinnaker.kork.exceptions.SystemException
 import spock.lang.Specification
 import spock.lang.Subject
 
-import java.nio.file.Path
 import java.nio.file.Files
+import java.nio.file.Path
+import java.util.concurrent.Callable
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
 
 class CachingPluginBinaryStorageServiceSpec extends Specification {
 
   PluginBinaryStorageService delegate = Mock()
-  @Subject PluginBinaryStorageService subject = new CachingPluginBinaryStorageService(delegate)
+
+  @Subject
+  CachingPluginBinaryStorageService subject = new CachingPluginBinaryStorageService(delegate, 10)
 
   def "cache on store"() {
     when:
@@ -33,32 +39,176 @@ class CachingPluginBinaryStorageServiceSpec extends Specification {
 
     then:
     1 * delegate.store("hello.zip", "world".bytes)
-    getCacheFile("hello.zip") == "world"
+
+    when:
+    def binary = subject.load("hello.zip")
+
+    then:
+    0 * delegate.openStream(_)
+    new String(binary) == "world"
   }
 
   def "clear cache on delete"() {
+    given:
+    subject.store("hello.zip", "world".bytes)
+
     when:
     subject.delete("hello.zip")
 
     then:
     1 * delegate.delete("hello.zip")
-    !getCachePath("hello.zip").toFile().exists()
+    cacheFiles().isEmpty()
+
+    when:
+    def binary = subject.load("hello.zip")
+
+    then:
+    1 * delegate.openStream("hello.zip") >> null
+    binary == null
   }
 
   def "store on load"() {
+    when:
+    def first = subject.load("hello.zip")
+    def second = subject.load("hello.zip")
+
+    then:
+    1 * delegate.openStream("hello.zip") >> new ByteArrayInputStream("mom".bytes)
+    new String(first) == "mom"
+    new String(second) == "mom"
+  }
+
+  def "cache on streaming store"() {
+    when:
+    subject.store("streamed/1.0.0.zip", new ByteArrayInputStream("world".bytes), 5)
+
+    then:
+    1 * delegate.store("streamed/1.0.0.zip", _ as InputStream, 5) >> { args ->
+      assert new String((args[1] as InputStream).readAllBytes()) == "world"
+    }
+
+    when:
+    def binary = subject.openStream("streamed/1.0.0.zip")
+
+    then:
+    0 * delegate.openStream(_)
+    new String(binary.readAllBytes()) == "world"
+
+    cleanup:
+    binary?.close()
+  }
+
+  def "missing binaries are not cached"() {
+    when:
+    def first = subject.openStream("missing/1.0.0.zip")
+    def second = subject.openStream("missing/1.0.0.zip")
+
+    then:
+    2 * delegate.openStream("missing/1.0.0.zip") >> null
+    first == null
+    second == null
+    cacheFiles().isEmpty()
+  }
+
+  def "least recently used binaries are evicted once the cache is full"() {
+    given:
+    subject.store("a.zip", "aaaaa".bytes)
+    subject.store("b.zip", "bbbbb".bytes)
+    subject.load("a.zip")
+
+    when:
+    subject.store("c.zip", "ccccc".bytes)
+    subject.load("a.zip")
+    subject.load("c.zip")
+    def evicted = subject.load("b.zip")
+
+    then:
+    1 * delegate.openStream("b.zip") >> new ByteArrayInputStream("bbbbb".bytes)
+    0 * delegate.openStream(_)
+    new String(evicted) == "bbbbb"
+    cacheFiles().size() == 2
+  }
+
+  def "binaries larger than the cache are streamed without being cached"() {
+    when:
+    def first = subject.load("large.zip")
+    def second = subject.load("large.zip")
+
+    then:
+    2 * delegate.openStream("large.zip") >> { new ByteArrayInputStream("0123456789abc".bytes) }
+    new String(first) == "0123456789abc"
+    new String(second) == "0123456789abc"
+    cacheFiles().isEmpty()
+  }
+
+  def "stored binaries larger than the cache are not cached"() {
+    given:
+    subject.store("a.zip", "aaaaa".bytes)
+    subject.store("large.zip", "0123".bytes)
+
+    when:
+    subject.store("large.zip", "0123456789abc".bytes)
+    subject.store("streamed/large.zip", new ByteArrayInputStream("0123456789abc".bytes), 13)
+    def cached = subject.load("a.zip")
+    def large = subject.load("large.zip")
+
+    then:
+    1 * delegate.store("large.zip", "0123456789abc".bytes)
+    1 * delegate.store("streamed/large.zip", _ as InputStream, 13)
+    1 * delegate.openStream("large.zip") >> new ByteArrayInputStream("0123456789abc".bytes)
+    0 * delegate.openStream(_)
+    new String(cached) == "aaaaa"
+    new String(large) == "0123456789abc"
+    cacheFiles().size() == 1
+  }
+
+  def "corrupt binaries are evicted when read"() {
+    given:
+    subject.store("hello.zip", "world".bytes)
+    cacheFiles().each { Files.write(it, "w0rld".bytes) }
+
     when:
     subject.load("hello.zip")
 
     then:
-    1 * delegate.load("hello.zip") >> "mom"
-    getCacheFile("hello.zip") == "mom"
+    thrown(SystemException)
+    cacheFiles().isEmpty()
+
+    when:
+    def binary = subject.load("hello.zip")
+
+    then:
+    1 * delegate.openStream("hello.zip") >> new ByteArrayInputStream("world".bytes)
+    new String(binary) == "world"
   }
 
-  private Path getCachePath(String key) {
-    return subject.CACHE_PATH.resolve(key)
+  def "concurrent loads of a binary are coalesced"() {
+    given:
+    def executor = Executors.newFixedThreadPool(4)
+    def loading = new CountDownLatch(1)
+    def release = new CountDownLatch(1)
+
+    when:
+    def loads = (1..4).collect {
+      executor.submit({ subject.load("hello.zip") } as Callable<byte[]>)
+    }
+    loading.await()
+    Thread.sleep(100)
+    release.countDown()
+
+    then:
+    1 * delegate.openStream("hello.zip") >> {
+      loading.countDown()
+      release.await()
+      new ByteArrayInputStream("world".bytes)
+    }
+    loads.every { new String(it.get()) == "world" }
+
+    cleanup:
+    executor.shutdownNow()
   }
 
-  private String getCacheFile(String key) {
-    return new String(Files.readAllBytes(getCachePath(key)))
+  private List<Path> cacheFiles() {
+    return Files.list(subject.cachePath).withCloseable { it.toList() }
   }
 }
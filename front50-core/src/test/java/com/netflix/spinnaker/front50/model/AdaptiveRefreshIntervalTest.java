@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.netflix.spinnaker.front50.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.netflix.spectator.api.DefaultRegistry;
+import com.netflix.spectator.api.Registry;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveRefreshIntervalTest {
+
+  private final Registry registry = new DefaultRegistry();
+
+  @Test
+  void intervalShrinksWhileChanging() {
+    AdaptiveRefreshInterval interval =
+        new AdaptiveRefreshInterval(ObjectType.PIPELINE, 60_000, 10_000, 300_000, registry);
+
+    interval.observe(5, 0);
+    assertThat(interval.getIntervalMs()).isEqualTo(30_000);
+
+    // an advanced storage watermark counts as a change, even if no changed object was observed
+    interval.observe(0, 1_000);
+    assertThat(interval.getIntervalMs()).isEqualTo(15_000);
+
+    interval.observe(1, 1_000);
+    assertThat(interval.getIntervalMs()).isEqualTo(10_000);
+  }
+
+  @Test
+  void intervalGrowsWhileIdle() {
+    AdaptiveRefreshInterval interval =
+        new AdaptiveRefreshInterval(ObjectType.PLUGIN_INFO, 60_000, 10_000, 120_000, registry);
+
+    interval.observe(0, 0);
+    assertThat(interval.getIntervalMs()).isEqualTo(90_000);
+
+    interval.observe(0, 0);
+    assertThat(interval.getIntervalMs()).isEqualTo(120_000);
+  }
+
+  @Test
+  void equalBoundsMakeForAFixedInterval() {
+    AdaptiveRefreshInterval interval =
+        new AdaptiveRefreshInterval(ObjectType.APPLICATION, 60_000, 60_000, 60_000, registry);
+
+    interval.observe(5, 1_000);
+    interval.observe(0, 0);
+
+    assertThat(interval.getIntervalMs()).isEqualTo(60_000);
+  }
+
+  @Test
+  void boundsMustIncludeTheInitialInterval() {
+    assertThatThrownBy(
+            () ->
+                new AdaptiveRefreshInterval(
+                    ObjectType.APPLICATION, 60_000, 90_000, 120_000, registry))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
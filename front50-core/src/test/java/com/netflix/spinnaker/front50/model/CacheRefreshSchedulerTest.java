@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.netflix.spinnaker.front50.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.netflix.spectator.api.DefaultRegistry;
+import com.netflix.spectator.api.Registry;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class CacheRefreshSchedulerTest {
+
+  private final Registry registry = new DefaultRegistry();
+
+  private CacheRefreshScheduler scheduler;
+
+  @AfterEach
+  void shutdown() {
+    scheduler.shutdown();
+  }
+
+  @Test
+  void refreshesArePeriodic() throws InterruptedException {
+    scheduler = new CacheRefreshScheduler(registry, 1, 1, 0);
+    CountDownLatch refreshes = new CountDownLatch(3);
+
+    scheduler.register(
+        ObjectType.PIPELINE, CacheRefreshScheduler.Priority.NORMAL, () -> 10, refreshes::countDown);
+
+    assertThat(refreshes.await(10, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  void dueRefreshesAreStartedInOrderOfPriority() throws InterruptedException {
+    scheduler = new CacheRefreshScheduler(registry, 1, 1, 0);
+    CountDownLatch blocking = new CountDownLatch(1);
+    CountDownLatch released = new CountDownLatch(1);
+    CountDownLatch refreshed = new CountDownLatch(2);
+    List<ObjectType> refreshedTypes = new CopyOnWriteArrayList<>();
+
+    // occupies the only refresh thread until the other refreshes are due
+    scheduler.register(
+        ObjectType.APPLICATION,
+        CacheRefreshScheduler.Priority.NORMAL,
+        () -> 10,
+        () -> {
+          blocking.countDown();
+          awaitUninterruptibly(released);
+        });
+    assertThat(blocking.await(10, TimeUnit.SECONDS)).isTrue();
+
+    scheduler.register(
+        ObjectType.ENTITY_TAGS,
+        CacheRefreshScheduler.Priority.LOW,
+        () -> 10,
+        () -> {
+          refreshedTypes.add(ObjectType.ENTITY_TAGS);
+          refreshed.countDown();
+        });
+    Thread.sleep(50);
+    scheduler.register(
+        ObjectType.PIPELINE,
+        CacheRefreshScheduler.Priority.HIGH,
+        () -> 10,
+        () -> {
+          refreshedTypes.add(ObjectType.PIPELINE);
+          refreshed.countDown();
+        });
+    Thread.sleep(100);
+    released.countDown();
+
+    assertThat(refreshed.await(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(refreshedTypes).startsWith(ObjectType.PIPELINE, ObjectType.ENTITY_TAGS);
+  }
+
+  @Test
+  void slowRefreshesMissTheirDeadline() throws InterruptedException {
+    scheduler = new CacheRefreshScheduler(registry, 1, 1, 0);
+    CountDownLatch refreshes = new CountDownLatch(2);
+
+    scheduler.register(
+        ObjectType.PIPELINE,
+        CacheRefreshScheduler.Priority.NORMAL,
+        () -> 10,
+        () -> {
+          try {
+            Thread.sleep(50);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          refreshes.countDown();
+        });
+
+    assertThat(refreshes.await(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(
+            registry
+                .counter(
+                    "cacheRefreshScheduler.missedDeadlines",
+                    "objectType",
+                    ObjectType.PIPELINE.name())
+                .count())
+        .isGreaterThanOrEqualTo(1);
+  }
+
+  @Test
+  void intervalsAreJittered() {
+    scheduler = new CacheRefreshScheduler(registry, 1, 1, 0.1);
+
+    for (int i = 0; i < 100; i++) {
+      assertThat(scheduler.jittered(1000)).isBetween(900L, 1100L);
+    }
+    assertThat(scheduler.maxJittered(1000)).isEqualTo(1100);
+    assertThat(new CacheRefreshScheduler(registry, 1, 1, 0).jittered(1000)).isEqualTo(1000);
+  }
+
+  private static void awaitUninterruptibly(CountDownLatch latch) {
+    try {
+      latch.await(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
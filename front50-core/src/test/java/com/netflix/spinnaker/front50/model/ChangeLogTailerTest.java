@@ -0,0 +1,270 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.netflix.spinnaker.front50.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.netflix.spinnaker.front50.model.ChangeLogStorageService.ObjectChange;
+import com.netflix.spinnaker.front50.model.ChangeLogStorageService.SequenceRange;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class ChangeLogTailerTest {
+
+  /** An in-memory change log, sequence numbers may be claimed before their change is visible. */
+  private final List<ObjectChange> visibleChanges = new ArrayList<>();
+
+  private long latestSequence;
+
+  private final ChangeLogStorageService changeLog =
+      new ChangeLogStorageService() {
+        @Override
+        public long getLatestChangeSequence() {
+          return latestSequence;
+        }
+
+        @Override
+        public List<ObjectChange> loadChanges(List<SequenceRange> sequences, int limit) {
+          return visibleChanges.stream()
+              .filter(
+                  change ->
+                      sequences.stream()
+                          .anyMatch(
+                              range ->
+                                  change.getSequence() >= range.getFrom()
+                                      && change.getSequence() <= range.getTo()))
+              .sorted(Comparator.comparingLong(ObjectChange::getSequence))
+              .limit(limit)
+              .collect(Collectors.toList());
+        }
+      };
+
+  private final AtomicLong now = new AtomicLong(1000);
+
+  private final Clock clock =
+      new Clock() {
+        @Override
+        public ZoneId getZone() {
+          return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+          return this;
+        }
+
+        @Override
+        public Instant instant() {
+          return Instant.ofEpochMilli(now.get());
+        }
+      };
+
+  private final ChangeLogTailer tailer =
+      new ChangeLogTailer(changeLog, ObjectType.PIPELINE, 500, clock);
+
+  private void claim(long sequence) {
+    latestSequence = Math.max(latestSequence, sequence);
+  }
+
+  private void record(long sequence, String objectKey) {
+    record(sequence, ObjectType.PIPELINE, objectKey);
+  }
+
+  private void record(long sequence, ObjectType objectType, String objectKey) {
+    claim(sequence);
+    visibleChanges.add(new ObjectChange(sequence, objectType, objectKey));
+  }
+
+  private ChangeLogTailer.Batch pollAndAcknowledge() {
+    ChangeLogTailer.Batch batch = tailer.poll();
+    tailer.acknowledge(batch);
+    return batch;
+  }
+
+  @Test
+  void pollingRequiresBeginning() {
+    assertThat(tailer.isStarted()).isFalse();
+    assertThatThrownBy(tailer::poll).isInstanceOf(IllegalStateException.class);
+
+    tailer.acknowledge(tailer.begin());
+    assertThat(tailer.isStarted()).isTrue();
+  }
+
+  @Test
+  void onlyChangesAfterBeginningArePolled() {
+    record(1, "a");
+    record(2, "b");
+
+    ChangeLogTailer.Batch start = tailer.begin();
+    assertThat(start.getObjectKeys()).isEmpty();
+    assertThat(start.getMaxSeen()).isEqualTo(2);
+    tailer.acknowledge(start);
+
+    record(3, "c");
+    record(4, "a");
+    assertThat(pollAndAcknowledge().getObjectKeys()).containsExactly("c", "a");
+    assertThat(pollAndAcknowledge().getObjectKeys()).isEmpty();
+  }
+
+  @Test
+  void hasChangesOnceSomethingIsRecordedPastTheAcknowledgedBatch() {
+    record(1, "a");
+    tailer.acknowledge(tailer.begin());
+    assertThat(tailer.hasChanges()).isFalse();
+
+    record(2, "b");
+    assertThat(tailer.hasChanges()).isTrue();
+
+    ChangeLogTailer.Batch batch = tailer.poll();
+    assertThat(tailer.hasChanges()).isTrue();
+    tailer.acknowledge(batch);
+    assertThat(tailer.hasChanges()).isFalse();
+  }
+
+  @Test
+  void hasChangesWhileGapsArePending() {
+    tailer.acknowledge(tailer.begin());
+
+    claim(1);
+    record(2, "b");
+    pollAndAcknowledge();
+    assertThat(tailer.hasChanges()).isTrue();
+
+    record(1, "a");
+    pollAndAcknowledge();
+    assertThat(tailer.hasChanges()).isFalse();
+  }
+
+  @Test
+  void changesOfOtherObjectTypesAreNeitherReportedNorGaps() {
+    tailer.acknowledge(tailer.begin());
+
+    record(1, ObjectType.APPLICATION, "app");
+    record(2, "b");
+    record(3, ObjectType.PROJECT, "project");
+    assertThat(tailer.hasChanges()).isTrue();
+
+    ChangeLogTailer.Batch batch = pollAndAcknowledge();
+    assertThat(batch.getObjectKeys()).containsExactly("b");
+    assertThat(batch.getGaps()).isEmpty();
+    assertThat(batch.getMaxSeen()).isEqualTo(3);
+    assertThat(tailer.hasChanges()).isFalse();
+  }
+
+  @Test
+  void changesBecomingVisibleOutOfOrderAreNotMissed() {
+    tailer.acknowledge(tailer.begin());
+
+    claim(1);
+    record(2, "b");
+    ChangeLogTailer.Batch batch = pollAndAcknowledge();
+    assertThat(batch.getObjectKeys()).containsExactly("b");
+    assertThat(batch.getGaps()).extracting(SequenceRange::toString).containsExactly("[1, 1]");
+
+    record(1, "a");
+    batch = pollAndAcknowledge();
+    assertThat(batch.getObjectKeys()).containsExactly("a");
+    assertThat(batch.getGaps()).isEmpty();
+  }
+
+  @Test
+  void gapsAreSplitAsTheyFill() {
+    tailer.acknowledge(tailer.begin());
+
+    claim(4);
+    record(5, "e");
+    assertThat(pollAndAcknowledge().getGaps())
+        .extracting(SequenceRange::toString)
+        .containsExactly("[1, 4]");
+
+    record(2, "b");
+    ChangeLogTailer.Batch batch = pollAndAcknowledge();
+    assertThat(batch.getObjectKeys()).containsExactly("b");
+    assertThat(batch.getGaps())
+        .extracting(SequenceRange::toString)
+        .containsExactly("[1, 1]", "[3, 4]");
+  }
+
+  @Test
+  void gapsAreGivenUpOnEventually() {
+    tailer.acknowledge(tailer.begin());
+
+    claim(1);
+    record(2, "b");
+    assertThat(pollAndAcknowledge().getGaps()).hasSize(1);
+
+    now.addAndGet(400);
+    assertThat(pollAndAcknowledge().getGaps()).hasSize(1);
+
+    // the transaction that claimed sequence 1 presumably rolled back
+    now.addAndGet(200);
+    assertThat(pollAndAcknowledge().getGaps()).isEmpty();
+  }
+
+  @Test
+  void gapsBeforeBeginningAreRevisited() {
+    claim(1);
+    record(2, "b");
+
+    ChangeLogTailer.Batch start = tailer.begin();
+    assertThat(start.getGaps()).extracting(SequenceRange::toString).containsExactly("[1, 1]");
+    tailer.acknowledge(start);
+
+    record(1, "a");
+    assertThat(pollAndAcknowledge().getObjectKeys()).containsExactly("a");
+  }
+
+  @Test
+  void unacknowledgedChangesArePolledAgain() {
+    tailer.acknowledge(tailer.begin());
+
+    record(1, "a");
+    assertThat(tailer.poll().getObjectKeys()).containsExactly("a");
+    assertThat(tailer.poll().getObjectKeys()).containsExactly("a");
+
+    ChangeLogTailer.Batch batch = tailer.poll();
+    tailer.acknowledge(batch);
+    record(2, "b");
+    pollAndAcknowledge();
+
+    // acknowledging an older batch does not move the tailer backwards
+    tailer.acknowledge(batch);
+    assertThat(tailer.poll().getObjectKeys()).isEmpty();
+  }
+
+  @Test
+  void changesArePolledInBatches() {
+    tailer.acknowledge(tailer.begin());
+
+    int changes = ChangeLogTailer.BATCH_SIZE * 2 + 1;
+    for (int i = 1; i <= changes; i++) {
+      record(i, "key-" + i);
+    }
+
+    ChangeLogTailer.Batch batch = pollAndAcknowledge();
+    assertThat(batch.getObjectKeys()).hasSize(changes);
+    assertThat(batch.getMaxSeen()).isEqualTo(changes);
+  }
+}
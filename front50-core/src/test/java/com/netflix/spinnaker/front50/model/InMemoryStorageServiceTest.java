@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.netflix.spinnaker.front50.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.netflix.spinnaker.front50.api.model.pipeline.Pipeline;
+import com.netflix.spinnaker.front50.jackson.Front50ApiModule;
+import com.netflix.spinnaker.kork.exceptions.SystemException;
+import com.netflix.spinnaker.kork.web.exceptions.NotFoundException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class InMemoryStorageServiceTest {
+
+  private final ObjectMapper objectMapper =
+      new ObjectMapper().registerModule(new Front50ApiModule());
+  private final Clock clock = Clock.fixed(Instant.ofEpochMilli(1000), ZoneOffset.UTC);
+
+  private final InMemoryStorageService storageService =
+      new InMemoryStorageService(objectMapper, clock);
+
+  @Test
+  void keepsEveryVersion() {
+    storageService.storeObject(ObjectType.PIPELINE, "1", pipeline("1", "first", 100L));
+    storageService.storeObject(ObjectType.PIPELINE, "1", pipeline("1", "second", 200L));
+
+    Pipeline current = storageService.loadObject(ObjectType.PIPELINE, "1");
+    assertThat(current.getName()).isEqualTo("second");
+    assertThat(current.getLastModified()).isEqualTo(200L);
+    assertThat(current.getCreatedAt()).isEqualTo(100L);
+
+    Collection<Pipeline> versions = storageService.listObjectVersions(ObjectType.PIPELINE, "1", 5);
+    assertThat(versions).extracting(Pipeline::getName).containsExactly("second", "first");
+    assertThat(storageService.getLastModified(ObjectType.PIPELINE)).isEqualTo(200L);
+  }
+
+  @Test
+  void loadsObjectsNewerThanThreshold() {
+    storageService.storeObjects(
+        ObjectType.PIPELINE,
+        List.of(pipeline("1", "old", 100L), pipeline("2", "new", 300L), pipeline("3", "x", 400L)));
+    storageService.bulkDeleteObjects(ObjectType.PIPELINE, List.of("3", "unknown"));
+
+    Map<String, List<Pipeline>> newer =
+        storageService.loadObjectsNewerThan(ObjectType.PIPELINE, 200L);
+    assertThat(newer.get("not_deleted")).extracting(Pipeline::getId).containsExactly("2");
+    assertThat(newer.get("deleted")).extracting(Pipeline::getId).containsExactly("3");
+
+    assertThat(storageService.listObjectKeys(ObjectType.PIPELINE)).containsOnlyKeys("1", "2");
+    assertThat(storageService.loadObjects(ObjectType.PIPELINE, List.of("1", "2", "3")))
+        .extracting(Pipeline::getId)
+        .containsExactly("1", "2");
+    assertThatThrownBy(() -> storageService.loadObject(ObjectType.PIPELINE, "3"))
+        .isInstanceOf(NotFoundException.class);
+  }
+
+  @Test
+  void storedObjectsAreNotShared() {
+    Pipeline pipeline = pipeline("1", "original", 100L);
+    storageService.storeObject(ObjectType.PIPELINE, "1", pipeline);
+    pipeline.setName("modified");
+
+    Pipeline loaded = storageService.loadObject(ObjectType.PIPELINE, "1");
+    assertThat(loaded.getName()).isEqualTo("original");
+    assertThat(loaded).isNotSameAs(pipeline);
+  }
+
+  @Test
+  void injectsErrors() {
+    InMemoryStorageService failingStorageService =
+        new InMemoryStorageService(objectMapper, clock, Duration.ZERO, Duration.ZERO, 1);
+
+    assertThatThrownBy(() -> failingStorageService.listObjectKeys(ObjectType.PIPELINE))
+        .isInstanceOf(SystemException.class)
+        .hasMessageContaining("listObjectKeys");
+  }
+
+  @Test
+  void injectsLatency() {
+    InMemoryStorageService slowStorageService =
+        new InMemoryStorageService(objectMapper, clock, Duration.ofMillis(50), Duration.ZERO, 0);
+
+    long start = System.nanoTime();
+    slowStorageService.getLastModified(ObjectType.PIPELINE);
+    assertThat(Duration.ofNanos(System.nanoTime() - start))
+        .isGreaterThanOrEqualTo(Duration.ofMillis(50));
+  }
+
+  private static Pipeline pipeline(String id, String name, Long lastModified) {
+    Pipeline pipeline = new Pipeline();
+    pipeline.setId(id);
+    pipeline.setName(name);
+    pipeline.setApplication("app");
+    pipeline.setLastModified(lastModified);
+    return pipeline;
+  }
+}
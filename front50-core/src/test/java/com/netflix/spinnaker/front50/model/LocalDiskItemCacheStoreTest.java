@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.netflix.spinnaker.front50.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.netflix.spinnaker.front50.api.model.pipeline.Pipeline;
+import com.netflix.spinnaker.front50.jackson.Front50ApiModule;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LocalDiskItemCacheStoreTest {
+
+  @TempDir Path directory;
+
+  private final ObjectMapper objectMapper =
+      new ObjectMapper().registerModule(new Front50ApiModule());
+
+  @Test
+  void persistedItemsRoundTrip() {
+    LocalDiskItemCacheStore store = new LocalDiskItemCacheStore(objectMapper, directory, 1000);
+
+    Pipeline pipeline = new Pipeline();
+    pipeline.setId("1");
+    pipeline.setName("pipeline1");
+    pipeline.setApplication("app");
+    pipeline.setLastModified(100L);
+    pipeline.setCreatedAt(50L);
+
+    store.save(ObjectType.PIPELINE, List.of(pipeline), 100L);
+
+    Optional<ItemCacheStore.PersistedItems<Pipeline>> persisted = store.load(ObjectType.PIPELINE);
+    assertThat(persisted).isPresent();
+    assertThat(persisted.get().getLastModified()).isEqualTo(100L);
+    assertThat(persisted.get().getItems()).hasSize(1);
+
+    Pipeline loaded = persisted.get().getItems().iterator().next();
+    assertThat(loaded.getId()).isEqualTo("1");
+    assertThat(loaded.getName()).isEqualTo("pipeline1");
+    assertThat(loaded.getLastModified()).isEqualTo(100L);
+    assertThat(loaded.getCreatedAt()).isEqualTo(50L);
+
+    // caches are kept per object type
+    assertThat(store.load(ObjectType.STRATEGY)).isEmpty();
+  }
+
+  @Test
+  void corruptCacheIsIgnored() throws IOException {
+    LocalDiskItemCacheStore store = new LocalDiskItemCacheStore(objectMapper, directory, 1000);
+    Files.writeString(directory.resolve("pipeline.json.gz"), "not gzipped json");
+
+    assertThat(store.load(ObjectType.PIPELINE)).isEmpty();
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.netflix.spinnaker.front50.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class SearchIndexTest {
+
+  private final AtomicInteger extractions = new AtomicInteger();
+
+  private final SearchIndexer<Item> searchIndexer =
+      new SearchIndexer<>(
+          (item, attributes) -> {
+            extractions.incrementAndGet();
+            attributes.add("name", item.name).addAll("tags", item.tags);
+          });
+
+  @Test
+  void matchesSubstringsIgnoringCase() {
+    SearchIndex<Item> index =
+        searchIndexer.indexFor(
+            List.of(
+                new Item("Deploy-Service"),
+                new Item("service-deploy"),
+                new Item("unrelated"),
+                new Item(null)));
+
+    assertThat(names(index.matching("name", "DEPLOY")))
+        .containsExactly("Deploy-Service", "service-deploy");
+    assertThat(names(index.matching("name", "y-s"))).containsExactly("Deploy-Service");
+    // shorter than a trigram
+    assertThat(names(index.matching("name", "ed"))).containsExactly("unrelated");
+    assertThat(index.matching("unknown", "deploy")).isEmpty();
+  }
+
+  @Test
+  void verifiesTrigramCandidates() {
+    SearchIndex<Item> index = searchIndexer.indexFor(List.of(new Item("abca-bcab")));
+
+    // shares every trigram with "abca-bcab" without being contained in it
+    assertThat(index.matching("name", "abcab")).isEmpty();
+    assertThat(index.matching("name", "a-bca")).hasSize(1);
+  }
+
+  @Test
+  void matchesAnyValueOfAnAttribute() {
+    SearchIndex<Item> index =
+        searchIndexer.indexFor(
+            List.of(new Item("first", "alpha", "beta"), new Item("second", "gamma")));
+
+    assertThat(names(index.matching("tags", "bet"))).containsExactly("first");
+    assertThat(names(index.matchingAll(Map.of("name", "s", "tags", "gam"))))
+        .containsExactly("second");
+    assertThat(names(index.matchingAny(Map.of("name", "first", "tags", "gam"))))
+        .containsExactly("first", "second");
+    assertThat(names(index.matchingAll(Map.of("name", "")))).containsExactly("first", "second");
+  }
+
+  @Test
+  void ranksByRelevance() {
+    SearchIndex<Item> index =
+        searchIndexer.indexFor(
+            List.of(new Item("your application"), new Item("application"), new Item("my app")));
+
+    Map<String, String> attributes = Map.of("name", "app");
+    assertThat(names(index.rank(index.matchingAll(attributes), attributes)))
+        .containsExactly("my app", "application", "your application");
+  }
+
+  @Test
+  void reusesIndexUntilItemsChange() {
+    List<Item> items = List.of(new Item("first"), new Item("second"));
+
+    SearchIndex<Item> index = searchIndexer.indexFor(items);
+    assertThat(searchIndexer.indexFor(items)).isSameAs(index);
+    assertThat(extractions).hasValue(2);
+
+    // only the attributes of new items are extracted
+    List<Item> refreshed = new ArrayList<>(items);
+    refreshed.add(new Item("third"));
+    SearchIndex<Item> refreshedIndex = searchIndexer.indexFor(refreshed);
+    assertThat(refreshedIndex).isNotSameAs(index);
+    assertThat(extractions).hasValue(3);
+    assertThat(names(refreshedIndex.matching("name", "ir"))).containsExactly("first", "third");
+  }
+
+  private static List<String> names(List<Item> items) {
+    List<String> names = new ArrayList<>();
+    items.forEach(item -> names.add(item.name));
+    return names;
+  }
+
+  private static class Item {
+    private final String name;
+    private final List<String> tags;
+
+    private Item(String name, String... tags) {
+      this.name = name;
+      this.tags = List.of(tags);
+    }
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.netflix.spinnaker.front50.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.netflix.spinnaker.front50.model.tag.EntityTags;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class SortedCacheIndexTest {
+
+  private final SortedCacheIndex<EntityTags> index = SortedCacheIndex.of("id", EntityTags::getId);
+
+  @Test
+  void prefixLookupReturnsMatchesInKeyOrder() {
+    CacheSnapshot<EntityTags> snapshot =
+        snapshot(
+            "aws:servergroup:app-v002:123:us-west-2",
+            "aws:cluster:app:123",
+            "aws:servergroup:app-v001:123:us-west-2",
+            "aws:servergroup:other-v001:123:us-west-2",
+            "titus:servergroup:app-v001:456:us-east-1");
+
+    assertThat(ids(snapshot.lookupPrefix("id", "aws:servergroup:app-")))
+        .containsExactly(
+            "aws:servergroup:app-v001:123:us-west-2", "aws:servergroup:app-v002:123:us-west-2");
+    assertThat(ids(snapshot.lookupPrefix("id", "aws:"))).hasSize(4);
+    assertThat(snapshot.lookupPrefix("id", "")).hasSize(5);
+    assertThat(snapshot.lookupPrefix("id", "gce:")).isEmpty();
+    assertThat(snapshot.lookupPrefix("id", "zzz")).isEmpty();
+  }
+
+  @Test
+  void keysAreCaseSensitive() {
+    CacheSnapshot<EntityTags> snapshot = snapshot("aws:App", "aws:app");
+
+    assertThat(ids(snapshot.lookupPrefix("id", "aws:a"))).containsExactly("aws:app");
+    assertThat(ids(snapshot.lookupPrefix("id", "aws:A"))).containsExactly("aws:App");
+  }
+
+  @Test
+  void itemsWithoutKeyAreNotIndexed() {
+    CacheSnapshot<EntityTags> snapshot = snapshot("a", null);
+
+    assertThat(snapshot.size()).isEqualTo(2);
+    assertThat(ids(snapshot.lookupPrefix("id", ""))).containsExactly("a");
+  }
+
+  @Test
+  void unknownIndexIsRejected() {
+    CacheSnapshot<EntityTags> snapshot = snapshot("a");
+
+    assertThatThrownBy(() -> snapshot.lookupPrefix("unknown", "a"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void emptySnapshot() {
+    CacheSnapshot<EntityTags> snapshot = snapshot();
+
+    assertThat(snapshot.lookupPrefix("id", "a")).isEmpty();
+  }
+
+  private CacheSnapshot<EntityTags> snapshot(String... ids) {
+    Set<EntityTags> items = new LinkedHashSet<>();
+    for (String id : ids) {
+      EntityTags entityTags = new EntityTags();
+      entityTags.setId(id);
+      items.add(entityTags);
+    }
+    return new CacheSnapshot<>(1, items, Collections.emptyList(), Collections.singletonList(index));
+  }
+
+  private static List<String> ids(List<EntityTags> entityTags) {
+    return entityTags.stream().map(EntityTags::getId).collect(Collectors.toList());
+  }
+}
@@ -16,24 +16,38 @@
 package com.netflix.spinnaker.front50.model;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
 
 import com.netflix.spectator.api.NoopRegistry;
 import com.netflix.spectator.api.Registry;
+import com.netflix.spinnaker.front50.api.model.Timestamped;
 import com.netflix.spinnaker.front50.api.model.pipeline.Pipeline;
 import com.netflix.spinnaker.front50.config.StorageServiceConfigurationProperties;
+import com.netflix.spinnaker.front50.model.ChangeLogStorageService.ObjectChange;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
 import rx.Scheduler;
+import rx.schedulers.Schedulers;
 
 class StorageServiceSupportTest {
 
@@ -54,6 +68,8 @@ class StorageServiceSupportTest {
           configurationProperties,
           registry,
           circuitBreakerRegistry);
+
+      registerIndex(CacheIndex.of("application", Pipeline::getApplication));
     }
   }
 
@@ -100,4 +116,429 @@ class StorageServiceSupportTest {
 
     verify(storageService).loadObjectsNewerThan(eq(ObjectType.PIPELINE), anyLong());
   }
+
+  @Test
+  void findAllByIndexIsCaseInsensitive() {
+    Pipeline pipeline1 = new Pipeline();
+    pipeline1.setId("1");
+    pipeline1.setApplication("App");
+    Pipeline pipeline2 = new Pipeline();
+    pipeline2.setId("2");
+    pipeline2.setApplication("other");
+    Pipeline pipelineWithoutApplication = new Pipeline();
+    pipelineWithoutApplication.setId("3");
+
+    doReturn(1L).when(storageService).getLastModified(ObjectType.PIPELINE);
+    doReturn(Map.of("1", 1L, "2", 1L, "3", 1L))
+        .when(storageService)
+        .listObjectKeys(ObjectType.PIPELINE);
+    doReturn(List.of(pipeline1, pipeline2, pipelineWithoutApplication))
+        .when(storageService)
+        .loadObjects(eq(ObjectType.PIPELINE), anyList());
+
+    assertThat(testDAO.findAllByIndex("application", "APP", true)).containsExactly(pipeline1);
+    assertThat(testDAO.findAllByIndex("application", "unknown", false)).isEmpty();
+    assertThat(testDAO.findAllByIndex("application", null, false)).isEmpty();
+    assertThat(testDAO.all(false)).hasSize(3);
+  }
+
+  @Test
+  void bulkDeleteUsesObjectKeys() {
+    testDAO.bulkDelete(List.of("Pipeline-1", "pipeline-2"));
+
+    verify(storageService)
+        .bulkDeleteObjects(ObjectType.PIPELINE, List.of("pipeline-1", "pipeline-2"));
+  }
+
+  @Test
+  void findAllByIdsOnlyLoadsUncachedItems() {
+    Pipeline cached1 = new Pipeline();
+    cached1.setId("1");
+    Pipeline cached2 = new Pipeline();
+    cached2.setId("2");
+    Pipeline uncached = new Pipeline();
+    uncached.setId("3");
+
+    doReturn(Map.of("1", 1L, "2", 1L)).when(storageService).listObjectKeys(ObjectType.PIPELINE);
+    doReturn(List.of(cached1, cached2))
+        .when(storageService)
+        .loadObjects(eq(ObjectType.PIPELINE), anyList());
+    testDAO.refresh();
+
+    doReturn(List.of(uncached))
+        .when(storageService)
+        .loadObjects(ObjectType.PIPELINE, List.of("3", "unknown"));
+
+    // results follow the requested order, duplicates and unknown ids are dropped
+    assertThat(testDAO.findAllByIds(List.of("2", "3", "unknown", "1", "2"), false))
+        .containsExactly(cached2, uncached, cached1);
+    verify(storageService).loadObjects(ObjectType.PIPELINE, List.of("3", "unknown"));
+
+    // nothing is read from storage when every id is cached
+    clearInvocations(storageService);
+    assertThat(testDAO.findAllByIds(List.of("1", "2"), false)).containsExactly(cached1, cached2);
+    verify(storageService, never()).loadObjects(eq(ObjectType.PIPELINE), anyList());
+  }
+
+  @Test
+  void refreshPublishesNewImmutableSnapshot() {
+    Pipeline pipeline = new Pipeline();
+    pipeline.setId("1");
+
+    doReturn(Map.of("1", 1L)).when(storageService).listObjectKeys(ObjectType.PIPELINE);
+    doReturn(List.of(pipeline))
+        .when(storageService)
+        .loadObjects(eq(ObjectType.PIPELINE), anyList());
+
+    testDAO.refresh();
+    CacheSnapshot<Pipeline> first = testDAO.getCacheSnapshot(false);
+    testDAO.refresh();
+    CacheSnapshot<Pipeline> second = testDAO.getCacheSnapshot(false);
+
+    assertThat(second.getVersion()).isGreaterThan(first.getVersion());
+    assertThat(second.getItems()).containsExactly(pipeline);
+    assertThat(testDAO.allReadOnly(false)).isSameAs(second.getItems());
+    assertThatThrownBy(() -> testDAO.allReadOnly(false).clear())
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  void refreshKeepsCachedCopyOfObjectsThatFailToLoad() {
+    Pipeline pipeline1 = new Pipeline();
+    pipeline1.setId("1");
+    pipeline1.setLastModified(1L);
+    Pipeline pipeline2 = new Pipeline();
+    pipeline2.setId("2");
+    pipeline2.setLastModified(1L);
+
+    doReturn(Map.of("1", 1L, "2", 1L)).when(storageService).listObjectKeys(ObjectType.PIPELINE);
+    doReturn(List.of(pipeline1, pipeline2))
+        .when(storageService)
+        .loadObjects(eq(ObjectType.PIPELINE), anyList());
+    testDAO.refresh();
+
+    // both are modified, but pipeline2 is now malformed (and skipped when loading)
+    Pipeline updatedPipeline1 = new Pipeline();
+    updatedPipeline1.setId("1");
+    updatedPipeline1.setLastModified(2L);
+    doReturn(Map.of("1", 2L, "2", 2L)).when(storageService).listObjectKeys(ObjectType.PIPELINE);
+    doReturn(List.of(updatedPipeline1))
+        .when(storageService)
+        .loadObjects(eq(ObjectType.PIPELINE), anyList());
+    testDAO.refresh();
+    assertThat(testDAO.all(false)).containsExactlyInAnyOrder(updatedPipeline1, pipeline2);
+
+    // once no longer listed, it is removed
+    doReturn(Map.of("1", 2L)).when(storageService).listObjectKeys(ObjectType.PIPELINE);
+    testDAO.refresh();
+    assertThat(testDAO.all(false)).containsExactly(updatedPipeline1);
+  }
+
+  @Test
+  void refreshTailsChangeLog() {
+    StorageService changeLogService =
+        mock(StorageService.class, withSettings().extraInterfaces(ChangeLogStorageService.class));
+    ChangeLogStorageService changeLog = (ChangeLogStorageService) changeLogService;
+    TestDAO changeLogDAO =
+        new TestDAO(
+            changeLogService,
+            scheduler,
+            new DefaultObjectKeyLoader(changeLogService),
+            new StorageServiceConfigurationProperties.PerObjectType().setTailChangeLog(true),
+            new NoopRegistry(),
+            CircuitBreakerRegistry.ofDefaults());
+
+    Pipeline pipeline1 = new Pipeline();
+    pipeline1.setId("1");
+    Pipeline pipeline2 = new Pipeline();
+    pipeline2.setId("2");
+
+    // the first refresh loads everything
+    doReturn(5L).when(changeLog).getLatestChangeSequence();
+    doReturn(Collections.emptyList())
+        .when(changeLog)
+        .loadChanges(anyList(), anyInt());
+    doReturn(Map.of("1", 1L, "2", 1L)).when(changeLogService).listObjectKeys(ObjectType.PIPELINE);
+    doReturn(List.of(pipeline1, pipeline2))
+        .when(changeLogService)
+        .loadObjects(eq(ObjectType.PIPELINE), anyList());
+    changeLogDAO.refresh();
+    assertThat(changeLogDAO.all(false)).containsExactlyInAnyOrder(pipeline1, pipeline2);
+
+    // subsequent refreshes only load what changed, pipeline2 has been deleted
+    Pipeline updatedPipeline1 = new Pipeline();
+    updatedPipeline1.setId("1");
+    updatedPipeline1.setName("updated");
+    doReturn(
+            List.of(
+                new ObjectChange(6, ObjectType.PIPELINE, "1"),
+                new ObjectChange(7, ObjectType.PIPELINE, "2")))
+        .when(changeLog)
+        .loadChanges(anyList(), anyInt());
+    doReturn(List.of(updatedPipeline1))
+        .when(changeLogService)
+        .loadObjects(ObjectType.PIPELINE, List.of("1", "2"));
+    changeLogDAO.refresh();
+    assertThat(changeLogDAO.all(false)).containsExactly(updatedPipeline1);
+
+    verify(changeLogService).listObjectKeys(ObjectType.PIPELINE);
+  }
+
+  @Test
+  void changeLogRefreshOnlyPublishesChanges() {
+    StorageService changeLogService =
+        mock(StorageService.class, withSettings().extraInterfaces(ChangeLogStorageService.class));
+    ChangeLogStorageService changeLog = (ChangeLogStorageService) changeLogService;
+    TestDAO changeLogDAO =
+        new TestDAO(
+            changeLogService,
+            scheduler,
+            new DefaultObjectKeyLoader(changeLogService),
+            new StorageServiceConfigurationProperties.PerObjectType().setTailChangeLog(true),
+            new NoopRegistry(),
+            CircuitBreakerRegistry.ofDefaults());
+
+    Pipeline pipeline = new Pipeline();
+    pipeline.setId("1");
+    doReturn(5L).when(changeLog).getLatestChangeSequence();
+    doReturn(Collections.emptyList())
+        .when(changeLog)
+        .loadChanges(anyList(), anyInt());
+    doReturn(Map.of("1", 1L)).when(changeLogService).listObjectKeys(ObjectType.PIPELINE);
+    doReturn(List.of(pipeline))
+        .when(changeLogService)
+        .loadObjects(eq(ObjectType.PIPELINE), anyList());
+    changeLogDAO.refresh();
+    CacheSnapshot<Pipeline> snapshot = changeLogDAO.getCacheSnapshot(false);
+    clearInvocations(changeLogService);
+
+    // nothing was recorded past the end of the change log, there's nothing to poll
+    assertThat(changeLogDAO.getCacheSnapshot(true)).isSameAs(snapshot);
+    verify(changeLog, never()).loadChanges(anyList(), anyInt());
+
+    // a (scheduled) refresh that polls no changes doesn't republish the snapshot
+    changeLogDAO.refresh();
+    assertThat(changeLogDAO.getCacheSnapshot(false)).isSameAs(snapshot);
+
+    Pipeline updatedPipeline = new Pipeline();
+    updatedPipeline.setId("1");
+    updatedPipeline.setName("updated");
+    doReturn(6L).when(changeLog).getLatestChangeSequence();
+    doReturn(List.of(new ObjectChange(6, ObjectType.PIPELINE, "1")))
+        .when(changeLog)
+        .loadChanges(anyList(), anyInt());
+    doReturn(List.of(updatedPipeline))
+        .when(changeLogService)
+        .loadObjects(ObjectType.PIPELINE, List.of("1"));
+    assertThat(changeLogDAO.all(true)).containsExactly(updatedPipeline);
+
+    // the storage service's last modified time isn't needed while tailing the change log
+    verify(changeLogService, never()).getLastModified(ObjectType.PIPELINE);
+  }
+
+  @Test
+  void warmingFromPersistedCacheOnlyFetchesTheDelta() {
+    TestDAO warmedDAO =
+        new TestDAO(
+            storageService,
+            Schedulers.test(),
+            new DefaultObjectKeyLoader(storageService),
+            new StorageServiceConfigurationProperties.PerObjectType()
+                .setRefreshMs(30_000)
+                .setShouldWarmCache(true)
+                .setOptimizeCacheRefreshes(true),
+            new NoopRegistry(),
+            CircuitBreakerRegistry.ofDefaults());
+
+    Pipeline pipeline1 = new Pipeline();
+    pipeline1.setId("1");
+    Pipeline pipeline2 = new Pipeline();
+    pipeline2.setId("2");
+    Pipeline updatedPipeline2 = new Pipeline();
+    updatedPipeline2.setId("2");
+    updatedPipeline2.setName("updated");
+    Pipeline pipeline3 = new Pipeline();
+    pipeline3.setId("3");
+
+    warmedDAO.setItemCacheStore(
+        new ItemCacheStore() {
+          @Override
+          @SuppressWarnings("unchecked")
+          public <T extends Timestamped> Optional<PersistedItems<T>> load(
+              ObjectType objectType) {
+            return Optional.of(
+                new PersistedItems<>((List<T>) List.of(pipeline1, pipeline2), 100L));
+          }
+
+          @Override
+          public <T extends Timestamped> void save(
+              ObjectType objectType, Collection<T> items, long lastModified) {}
+
+          @Override
+          public long getPersistIntervalMs() {
+            return Long.MAX_VALUE;
+          }
+        });
+    doReturn(Map.of("not_deleted", List.of(updatedPipeline2, pipeline3), "deleted", List.of()))
+        .when(storageService)
+        .loadObjectsNewerThan(ObjectType.PIPELINE, 100L);
+
+    warmedDAO.startRefresh();
+
+    assertThat(warmedDAO.all(false))
+        .containsExactlyInAnyOrder(pipeline1, updatedPipeline2, pipeline3);
+    verify(storageService).loadObjectsNewerThan(ObjectType.PIPELINE, 100L);
+    verify(storageService, never()).listObjectKeys(ObjectType.PIPELINE);
+    verify(storageService, never()).loadObjects(eq(ObjectType.PIPELINE), anyList());
+  }
+
+  @Test
+  void jitteredRefreshIntervalMustBeWithinHealthTimeout() {
+    TestDAO scheduledDAO =
+        new TestDAO(
+            storageService,
+            scheduler,
+            new DefaultObjectKeyLoader(storageService),
+            new StorageServiceConfigurationProperties.PerObjectType()
+                .setRefreshMs(85_000)
+                .setCacheHealthCheckTimeoutSeconds(90),
+            new NoopRegistry(),
+            CircuitBreakerRegistry.ofDefaults());
+    CacheRefreshScheduler refreshScheduler =
+        new CacheRefreshScheduler(new NoopRegistry(), 1, 1, 0.1);
+    scheduledDAO.setRefreshScheduler(refreshScheduler);
+
+    try {
+      // up to 93.5s once jittered
+      assertThatThrownBy(scheduledDAO::startRefresh)
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("including jitter");
+    } finally {
+      refreshScheduler.shutdown();
+    }
+  }
+
+  @Test
+  void jitteredMaxRefreshIntervalMustBeWithinHealthTimeout() {
+    TestDAO adaptiveDAO =
+        new TestDAO(
+            storageService,
+            scheduler,
+            new DefaultObjectKeyLoader(storageService),
+            new StorageServiceConfigurationProperties.PerObjectType()
+                .setRefreshMs(30_000)
+                .setMaxRefreshMs(85_000)
+                .setCacheHealthCheckTimeoutSeconds(90),
+            new NoopRegistry(),
+            CircuitBreakerRegistry.ofDefaults());
+    CacheRefreshScheduler refreshScheduler =
+        new CacheRefreshScheduler(new NoopRegistry(), 1, 1, 0.1);
+    adaptiveDAO.setRefreshScheduler(refreshScheduler);
+
+    try {
+      assertThatThrownBy(adaptiveDAO::startRefresh)
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("including jitter");
+    } finally {
+      refreshScheduler.shutdown();
+    }
+  }
+
+  @Test
+  void changeNotificationsTriggerRefresh() {
+    TestDAO notifiedDAO =
+        new TestDAO(
+            storageService,
+            Schedulers.immediate(),
+            new DefaultObjectKeyLoader(storageService),
+            testDAOConfigProperties,
+            new NoopRegistry(),
+            CircuitBreakerRegistry.ofDefaults());
+
+    List<Runnable> listeners = new ArrayList<>();
+    notifiedDAO.setObjectChangeNotifier(
+        new ObjectChangeNotifier() {
+          @Override
+          public void subscribe(ObjectType objectType, Runnable listener) {
+            assertThat(objectType).isEqualTo(ObjectType.PIPELINE);
+            listeners.add(listener);
+          }
+
+          @Override
+          public boolean isConnected() {
+            return true;
+          }
+        });
+    assertThat(listeners).hasSize(1);
+
+    Pipeline pipeline = new Pipeline();
+    pipeline.setId("1");
+    doReturn(Map.of("1", 1L)).when(storageService).listObjectKeys(ObjectType.PIPELINE);
+    doReturn(List.of(pipeline))
+        .when(storageService)
+        .loadObjects(eq(ObjectType.PIPELINE), anyList());
+
+    listeners.get(0).run();
+    assertThat(notifiedDAO.all(false)).containsExactly(pipeline);
+
+    listeners.get(0).run();
+    verify(storageService, times(2)).listObjectKeys(ObjectType.PIPELINE);
+  }
+
+  @Test
+  void notifiedRefreshesDoNotExhaustTheSharedLoaderThreads() throws InterruptedException {
+    // fewer loader threads than object types notified at once (e.g. on reconnecting)
+    CacheRefreshScheduler refreshScheduler =
+        new CacheRefreshScheduler(new NoopRegistry(), 2, 1, 0);
+    List<Runnable> listeners = new ArrayList<>();
+    ObjectChangeNotifier notifier =
+        new ObjectChangeNotifier() {
+          @Override
+          public void subscribe(ObjectType objectType, Runnable listener) {
+            listeners.add(listener);
+          }
+
+          @Override
+          public boolean isConnected() {
+            return true;
+          }
+        };
+
+    Pipeline pipeline = new Pipeline();
+    pipeline.setId("1");
+    doReturn(Map.of("1", 1L)).when(storageService).listObjectKeys(ObjectType.PIPELINE);
+    // objects are loaded one by one on the loader threads
+    doThrow(new UnsupportedOperationException())
+        .when(storageService)
+        .loadObjects(eq(ObjectType.PIPELINE), anyList());
+    doReturn(pipeline).when(storageService).loadObject(ObjectType.PIPELINE, "1");
+
+    List<TestDAO> notifiedDAOs = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      TestDAO notifiedDAO =
+          new TestDAO(
+              storageService,
+              refreshScheduler.getScheduler(),
+              new DefaultObjectKeyLoader(storageService),
+              new StorageServiceConfigurationProperties.PerObjectType(),
+              new NoopRegistry(),
+              CircuitBreakerRegistry.ofDefaults());
+      notifiedDAO.setRefreshScheduler(refreshScheduler);
+      notifiedDAO.setObjectChangeNotifier(notifier);
+      notifiedDAOs.add(notifiedDAO);
+    }
+
+    try {
+      listeners.forEach(Runnable::run);
+
+      long deadline = System.currentTimeMillis() + 10_000;
+      while (!notifiedDAOs.stream().allMatch(TestDAO::isHealthy)
+          && System.currentTimeMillis() < deadline) {
+        Thread.sleep(10);
+      }
+      assertThat(notifiedDAOs).allMatch(TestDAO::isHealthy);
+    } finally {
+      refreshScheduler.shutdown();
+    }
+  }
 }
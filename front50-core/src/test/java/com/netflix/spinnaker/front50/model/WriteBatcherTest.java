@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.netflix.spinnaker.front50.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+
+import com.netflix.spectator.api.NoopRegistry;
+import com.netflix.spinnaker.front50.api.model.pipeline.Pipeline;
+import java.util.Collection;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class WriteBatcherTest {
+
+  private final StorageService storageService =
+      mock(StorageService.class, withSettings().extraInterfaces(BulkStorageService.class));
+  private final BulkStorageService bulkStorageService = (BulkStorageService) storageService;
+
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+
+  @AfterEach
+  void shutdown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void concurrentWritesAreStoredAsOneBatch() throws Exception {
+    // a batch is only committed early once full
+    WriteBatcher<Pipeline> writeBatcher = writeBatcher(TimeUnit.MINUTES.toMillis(1), 2);
+
+    Future<?> first = executor.submit(() -> writeBatcher.write(pipeline("1")));
+    Future<?> second = executor.submit(() -> writeBatcher.write(pipeline("2")));
+    first.get(10, TimeUnit.SECONDS);
+    second.get(10, TimeUnit.SECONDS);
+
+    ArgumentCaptor<Collection<Pipeline>> items = ArgumentCaptor.forClass(Collection.class);
+    verify(bulkStorageService).storeObjects(eq(ObjectType.PIPELINE), items.capture());
+    assertThat(items.getValue()).extracting(Pipeline::getId).containsExactlyInAnyOrder("1", "2");
+    verify(storageService, never()).storeObject(any(), any(), any());
+  }
+
+  @Test
+  void lonelyWriteIsStoredOnceTheWindowCloses() {
+    WriteBatcher<Pipeline> writeBatcher = writeBatcher(10, 100);
+
+    writeBatcher.write(pipeline("1"));
+
+    verify(bulkStorageService).storeObjects(eq(ObjectType.PIPELINE), anyCollection());
+  }
+
+  @Test
+  void failedBatchIsRetriedItemByItem() throws Exception {
+    WriteBatcher<Pipeline> writeBatcher = writeBatcher(TimeUnit.MINUTES.toMillis(1), 2);
+    doThrow(new IllegalStateException("batch failed"))
+        .when(bulkStorageService)
+        .storeObjects(eq(ObjectType.PIPELINE), anyCollection());
+    Pipeline bad = pipeline("Bad");
+    doThrow(new IllegalArgumentException("bad pipeline"))
+        .when(storageService)
+        .storeObject(ObjectType.PIPELINE, "bad", bad);
+
+    Future<?> good = executor.submit(() -> writeBatcher.write(pipeline("good")));
+    Future<?> failed = executor.submit(() -> writeBatcher.write(bad));
+
+    good.get(10, TimeUnit.SECONDS);
+    assertThatThrownBy(() -> failed.get(10, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(IllegalArgumentException.class);
+    verify(storageService, times(2)).storeObject(eq(ObjectType.PIPELINE), any(), any());
+  }
+
+  @Test
+  void failedWriteIsRethrownToTheWriter() {
+    WriteBatcher<Pipeline> writeBatcher = writeBatcher(0, 100);
+    doThrow(new IllegalStateException("unavailable"))
+        .when(bulkStorageService)
+        .storeObjects(eq(ObjectType.PIPELINE), anyCollection());
+
+    assertThatThrownBy(() -> writeBatcher.write(pipeline("1")))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("unavailable");
+    verify(storageService, never()).storeObject(any(), any(), any());
+  }
+
+  private WriteBatcher<Pipeline> writeBatcher(long windowMs, int maxSize) {
+    return new WriteBatcher<>(
+        ObjectType.PIPELINE, storageService, windowMs, maxSize, new NoopRegistry());
+  }
+
+  private static Pipeline pipeline(String id) {
+    Pipeline pipeline = new Pipeline();
+    pipeline.setId(id);
+    return pipeline;
+  }
+}
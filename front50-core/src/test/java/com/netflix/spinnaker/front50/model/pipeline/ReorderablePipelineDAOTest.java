@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.front50.model.pipeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.netflix.spectator.api.NoopRegistry;
+import com.netflix.spinnaker.front50.api.model.pipeline.Pipeline;
+import com.netflix.spinnaker.front50.config.StorageServiceConfigurationProperties;
+import com.netflix.spinnaker.front50.jackson.Front50ApiModule;
+import com.netflix.spinnaker.front50.model.DefaultObjectKeyLoader;
+import com.netflix.spinnaker.front50.model.InMemoryStorageService;
+import com.netflix.spinnaker.front50.model.ObjectType;
+import com.netflix.spinnaker.kork.web.exceptions.InvalidRequestException;
+import com.netflix.spinnaker.kork.web.exceptions.NotFoundException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import rx.schedulers.Schedulers;
+
+class ReorderablePipelineDAOTest {
+
+  private final InMemoryStorageService storageService =
+      spy(
+          new InMemoryStorageService(
+              new ObjectMapper().registerModule(new Front50ApiModule()), Clock.systemUTC()));
+
+  private final DefaultPipelineDAO pipelineDAO =
+      new DefaultPipelineDAO(
+          storageService,
+          Schedulers.immediate(),
+          new DefaultObjectKeyLoader(storageService),
+          new StorageServiceConfigurationProperties.PerObjectType(),
+          new NoopRegistry(),
+          CircuitBreakerRegistry.ofDefaults());
+
+  @BeforeEach
+  void setup() {
+    storageService.storeObjects(
+        ObjectType.PIPELINE,
+        List.of(
+            pipeline("1", "app", 0),
+            pipeline("2", "app", 1),
+            pipeline("3", "app", 2),
+            pipeline("4", "other", 0)));
+    clearInvocations(storageService);
+  }
+
+  @Test
+  void reordersWithASingleBulkWrite() {
+    Pipeline cached =
+        pipelineDAO.getPipelinesByApplication("app").stream()
+            .filter(p -> p.getId().equals("1"))
+            .findFirst()
+            .get();
+
+    pipelineDAO.reorder("app", Map.of("1", 2, "3", 0));
+
+    verify(storageService, times(1)).storeObjects(eq(ObjectType.PIPELINE), anyCollection());
+    verify(storageService, never()).storeObject(any(), anyString(), any());
+    verify(storageService, never()).loadObject(any(), anyString());
+
+    // cached pipelines are not modified in place
+    assertThat(cached.getIndex()).isEqualTo(0);
+
+    assertThat(pipelineDAO.findById("1").getIndex()).isEqualTo(2);
+    assertThat(pipelineDAO.findById("2").getIndex()).isEqualTo(1);
+    assertThat(pipelineDAO.findById("3").getIndex()).isEqualTo(0);
+  }
+
+  @Test
+  void reorderingKeepsEveryOtherProperty() {
+    Pipeline pipeline = pipeline("5", "app", 3);
+    pipeline.setStages(List.of(Map.of("type", "wait")));
+    pipeline.setAny("customProperty", "value");
+    storageService.storeObject(ObjectType.PIPELINE, "5", pipeline);
+
+    pipelineDAO.reorder("app", Map.of("5", 4));
+
+    Pipeline reordered = pipelineDAO.findById("5");
+    assertThat(reordered.getIndex()).isEqualTo(4);
+    assertThat(reordered.getName()).isEqualTo("pipeline5");
+    assertThat(reordered.getStages()).containsExactly(Map.of("type", "wait"));
+    assertThat(reordered.getAny()).containsEntry("customProperty", "value");
+  }
+
+  @Test
+  void rejectsPipelinesOfOtherApplications() {
+    assertThatThrownBy(() -> pipelineDAO.reorder("app", Map.of("1", 1, "4", 0)))
+        .isInstanceOf(InvalidRequestException.class)
+        .hasMessageContaining("does not belong to application app");
+    assertThatThrownBy(() -> pipelineDAO.reorder("app", Map.of("unknown", 0)))
+        .isInstanceOf(NotFoundException.class);
+
+    // nothing is stored unless every pipeline can be reordered
+    verify(storageService, never()).storeObjects(any(), anyCollection());
+    assertThat(pipelineDAO.findById("1").getIndex()).isEqualTo(0);
+  }
+
+  private static Pipeline pipeline(String id, String application, int index) {
+    Pipeline pipeline = new Pipeline();
+    pipeline.setId(id);
+    pipeline.setName("pipeline" + id);
+    pipeline.setApplication(application);
+    pipeline.setIndex(index);
+    pipeline.setLastModified(100L);
+    return pipeline;
+  }
+}
@@ -18,16 +18,18 @@
 package com.netflix.spinnaker.front50.pipeline;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.mockito.ArgumentMatchers.anyBoolean;
-import static org.mockito.Mockito.doReturn;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.netflix.spinnaker.front50.api.model.pipeline.Pipeline;
+import com.netflix.spinnaker.front50.api.model.pipeline.Trigger;
 import com.netflix.spinnaker.front50.model.pipeline.DefaultPipelineDAO;
 import com.netflix.spinnaker.kork.sql.test.SqlTestUtil;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.Mockito;
@@ -65,7 +67,8 @@ public abstract class DefaultPipelineDAOTest extends PipelineDAOSpec<DefaultPipe
     pipeline.setApplication(applicationName);
     pipeline.setName(pipelineName);
 
-    doReturn(List.of(pipeline)).when(pipelineDAO).all(anyBoolean());
+    DefaultPipelineDAO pipelineDAO =
+        InMemoryPipelineDAOTestConfiguration.createPipelineDAO(pipeline);
 
     Collection<Pipeline> pipelines =
         pipelineDAO.getPipelinesByApplication("app", pipelineNameFilter, true);
@@ -91,13 +94,91 @@ public abstract class DefaultPipelineDAOTest extends PipelineDAOSpec<DefaultPipe
     pipeline.setApplication(applicationName);
     pipeline.setName(pipelineName);
 
-    doReturn(List.of(pipeline)).when(pipelineDAO).all(true);
+    DefaultPipelineDAO pipelineDAO =
+        InMemoryPipelineDAOTestConfiguration.createPipelineDAO(pipeline);
 
     Collection<Pipeline> pipelines =
         pipelineDAO.getPipelinesByApplication("app", pipelineNameFilter, true);
 
     assertEquals(0, pipelines.size());
   }
+
+  @Test
+  public void shouldLookUpPipelinesByTrigger() {
+    Pipeline downstream = pipelineWithTrigger("1", false, Map.of("pipeline", "upstream"));
+    Pipeline disabledTrigger = pipelineWithTrigger("2", false, Map.of("enabled", false));
+    Pipeline disabledPipeline = pipelineWithTrigger("3", true, Map.of("pipeline", "upstream"));
+    Pipeline otherUpstream = pipelineWithTrigger("4", false, Map.of("pipeline", "Upstream"));
+
+    DefaultPipelineDAO pipelineDAO =
+        InMemoryPipelineDAOTestConfiguration.createPipelineDAO(
+            downstream, disabledTrigger, disabledPipeline, otherUpstream);
+
+    assertEquals(List.of(downstream), pipelineDAO.getPipelinesTriggeredBy("upstream", true));
+    assertEquals(List.of(), pipelineDAO.getPipelinesTriggeredBy("unknown", false));
+
+    Collection<Pipeline> byTriggerType =
+        pipelineDAO.getEnabledPipelinesByTriggerType("pipeline", false);
+    assertEquals(2, byTriggerType.size());
+    assertTrue(byTriggerType.containsAll(List.of(downstream, otherUpstream)));
+  }
+
+  @Test
+  public void shouldLookUpPipelinesByTemplate() {
+    Pipeline v1 = templatedPipeline("1");
+    v1.setConfig(
+        Map.of("pipeline", Map.of("template", Map.of("source", "spinnaker://MyTemplate"))));
+    Pipeline v2 = templatedPipeline("2");
+    v2.setTemplate(Map.of("reference", "spinnaker://myTemplate"));
+    Pipeline v2Tagged = templatedPipeline("3");
+    v2Tagged.setTemplate(Map.of("reference", "spinnaker://myTemplate:stable"));
+    Pipeline v2OtherTemplate = templatedPipeline("4");
+    v2OtherTemplate.setTemplate(Map.of("reference", "spinnaker://myTemplate2"));
+
+    DefaultPipelineDAO pipelineDAO =
+        InMemoryPipelineDAOTestConfiguration.createPipelineDAO(v1, v2, v2Tagged, v2OtherTemplate);
+
+    assertEquals(
+        List.of(v1),
+        pipelineDAO.getPipelinesByTemplateSource(List.of("spinnaker://mytemplate"), true));
+    assertEquals(
+        List.of(),
+        pipelineDAO.getPipelinesByTemplateSource(List.of("spinnaker://myTemplate2"), false));
+
+    Collection<Pipeline> dependents =
+        pipelineDAO.getPipelinesByTemplateReference("spinnaker://myTemplate", false);
+    assertEquals(2, dependents.size());
+    assertTrue(dependents.containsAll(List.of(v2, v2Tagged)));
+    assertEquals(
+        List.of(v2Tagged),
+        pipelineDAO.getPipelinesByTemplateReference("spinnaker://myTemplate:stable", false));
+  }
+
+  private static Pipeline templatedPipeline(String id) {
+    Pipeline pipeline = new Pipeline();
+    pipeline.setId(id);
+    pipeline.setApplication("app");
+    pipeline.setName("pipeline" + id);
+    pipeline.setType(Pipeline.TYPE_TEMPLATED);
+    return pipeline;
+  }
+
+  private static Pipeline pipelineWithTrigger(
+      String id, boolean disabled, Map<String, Object> triggerProperties) {
+    Trigger trigger = new Trigger();
+    trigger.put("enabled", true);
+    trigger.put("type", "pipeline");
+    trigger.put("status", List.of("successful"));
+    trigger.putAll(triggerProperties);
+
+    Pipeline pipeline = new Pipeline();
+    pipeline.setId(id);
+    pipeline.setApplication("app");
+    pipeline.setName("pipeline" + id);
+    pipeline.setDisabled(disabled);
+    pipeline.setTriggers(List.of(trigger));
+    return pipeline;
+  }
 }
 
 class SqlDefaultPipelineDAOTest extends DefaultPipelineDAOTest {
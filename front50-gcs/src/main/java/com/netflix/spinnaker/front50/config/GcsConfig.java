@@ -30,6 +30,7 @@ import com.netflix.spinnaker.front50.api.model.Timestamped;
 import com.netflix.spinnaker.front50.api.model.pipeline.Pipeline;
 import com.netflix.spinnaker.front50.jackson.mixins.PipelineMixins;
 import com.netflix.spinnaker.front50.jackson.mixins.TimestampedMixins;
+import com.netflix.spinnaker.front50.model.CacheRefreshScheduler;
 import com.netflix.spinnaker.front50.model.DefaultObjectKeyLoader;
 import com.netflix.spinnaker.front50.model.GcsStorageService;
 import com.netflix.spinnaker.front50.model.ObjectKeyLoader;
@@ -50,7 +51,6 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
-import rx.schedulers.Schedulers;
 
 @Configuration
 @ConditionalOnExpression("${spinnaker.gcs.enabled:false}")
@@ -140,6 +140,7 @@ public class GcsConfig {
   public ApplicationPermissionDAO applicationPermissionDAO(
       Storage storage,
       StorageServiceConfigurationProperties storageServiceConfigurationProperties,
+      CacheRefreshScheduler cacheRefreshScheduler,
       Registry registry,
       CircuitBreakerRegistry circuitBreakerRegistry,
       GcsProperties gcsProperties) {
@@ -149,9 +150,7 @@ public class GcsConfig {
     ObjectKeyLoader keyLoader = new DefaultObjectKeyLoader(service);
     return new DefaultApplicationPermissionDAO(
         service,
-        Schedulers.from(
-            Executors.newFixedThreadPool(
-                storageServiceConfigurationProperties.getApplicationPermission().getThreadPool())),
+        cacheRefreshScheduler.getScheduler(),
         keyLoader,
         storageServiceConfigurationProperties.getApplicationPermission(),
         registry,
@@ -26,14 +26,13 @@ import java.util.GregorianCalendar;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.function.Predicate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 @Component
-public class EnsureCronTriggerHasIdentifierMigration implements Migration {
+public class EnsureCronTriggerHasIdentifierMigration implements ItemMigration<Pipeline> {
   private static final Logger log =
       LoggerFactory.getLogger(EnsureCronTriggerHasIdentifierMigration.class);
 
@@ -55,49 +54,35 @@ public class EnsureCronTriggerHasIdentifierMigration implements Migration {
   }
 
   @Override
-  public void run() {
-    log.info("Starting cron trigger identifier migration");
-    Predicate<Pipeline> hasCronTrigger =
-        p -> {
-          List<Trigger> triggers = p.getTriggers();
-          return triggers != null
-              && triggers.stream()
-                  .anyMatch(
-                      t -> {
-                        String type = (String) t.get("type");
-                        String id = (String) t.get("id");
-
-                        return ("cron".equalsIgnoreCase(type) && (id == null || id.isEmpty()));
-                      });
-        };
-
-    pipelineDAO.all().stream()
-        .filter(hasCronTrigger)
-        .forEach(pipeline -> migrate(pipelineDAO, pipeline));
+  public ItemDAO<Pipeline> getItemDAO() {
+    return pipelineDAO;
   }
 
-  private void migrate(ItemDAO<Pipeline> dao, Pipeline pipeline) {
-    log.info(
-        "Added cron trigger identifier (application: {}, pipelineId: {}, triggers: {})",
-        pipeline.getApplication(),
-        pipeline.getId(),
-        pipeline.getTriggers());
-
-    List<Trigger> triggers = (List<Trigger>) pipeline.getTriggers();
-    for (Map<String, Object> trigger : triggers) {
-      String type = (String) trigger.get("type");
-      String id = (String) trigger.get("id");
+  @Override
+  public boolean migrate(Pipeline pipeline) {
+    List<Trigger> triggers = pipeline.getTriggers();
+    if (triggers == null || triggers.stream().noneMatch(this::isCronTriggerWithoutIdentifier)) {
+      return false;
+    }
 
-      if ("cron".equalsIgnoreCase(type) && (id == null || id.isEmpty())) {
+    for (Trigger trigger : triggers) {
+      if (isCronTriggerWithoutIdentifier(trigger)) {
         trigger.put("id", UUID.randomUUID().toString());
       }
     }
-    dao.update(pipeline.getId(), pipeline);
 
     log.info(
         "Added cron trigger identifier (application: {}, pipelineId: {}, triggers: {})",
         pipeline.getApplication(),
         pipeline.getId(),
         pipeline.getTriggers());
+    return true;
+  }
+
+  private boolean isCronTriggerWithoutIdentifier(Map<String, Object> trigger) {
+    String type = (String) trigger.get("type");
+    String id = (String) trigger.get("id");
+
+    return "cron".equalsIgnoreCase(type) && (id == null || id.isEmpty());
   }
 }
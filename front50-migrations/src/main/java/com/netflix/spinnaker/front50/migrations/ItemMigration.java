@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.front50.migrations;
+
+import com.netflix.spinnaker.front50.api.model.Timestamped;
+import com.netflix.spinnaker.front50.model.ItemDAO;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link Migration} that is applied to the items of an {@link ItemDAO}, one item at a time.
+ *
+ * <p>Rather than have every such migration scan (and write to) its DAO independently, the {@link
+ * MigrationRunner} makes a single pass over each DAO, applies every applicable migration to an
+ * item and writes each changed item once.
+ */
+public interface ItemMigration<T extends Timestamped> extends Migration {
+
+  /** @return the DAO whose items this migration applies to */
+  ItemDAO<T> getItemDAO();
+
+  /**
+   * Migrate {@code item} in place, without writing it back.
+   *
+   * @return true if {@code item} was modified
+   */
+  boolean migrate(T item);
+
+  /** Migrate (and write back) every item of {@link #getItemDAO()}, independent of any other. */
+  @Override
+  default void run() {
+    ItemDAO<T> dao = getItemDAO();
+    for (T item : dao.all()) {
+      try {
+        if (migrate(item)) {
+          dao.update(item.getId(), item);
+        }
+      } catch (Exception e) {
+        LoggerFactory.getLogger(getClass())
+            .error("Failed to migrate {} (id: {})", item.getClass().getSimpleName(), item.getId(), e);
+      }
+    }
+  }
+}
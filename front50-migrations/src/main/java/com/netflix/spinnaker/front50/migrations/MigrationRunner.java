@@ -18,6 +18,22 @@ package com.netflix.spinnaker.front50.migrations;
 
 import static net.logstash.logback.argument.StructuredArguments.value;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.netflix.spinnaker.front50.api.model.Timestamped;
+import com.netflix.spinnaker.front50.jackson.Front50ApiModule;
+import com.netflix.spinnaker.front50.model.ItemDAO;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -34,6 +50,10 @@ import org.springframework.stereotype.Component;
  * need some time to start up). Default values are 8 hours and 10 seconds respectively.
  *
  * <p>Note: Ideally migrations should be running only on one instance.
+ *
+ * <p>{@link ItemMigration}s are grouped by DAO, every DAO is scanned once and each of its items is
+ * run through all of its migrations before the migrated items are written back in bulk. The content
+ * hash of every item is remembered, items that are unchanged since the previous pass are skipped.
  */
 @Component
 @ConditionalOnProperty(name = "migrations.enabled", havingValue = "true", matchIfMissing = false)
@@ -42,6 +62,14 @@ public class MigrationRunner {
 
   private final ApplicationContext applicationContext;
 
+  private final ObjectMapper objectMapper =
+      new ObjectMapper()
+          .registerModule(new Front50ApiModule())
+          .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+  /** Item hashes as of the previous pass over a DAO, only accessed from {@link #run()}. */
+  private final Map<ItemDAO<?>, ItemHashes> itemHashes = new IdentityHashMap<>();
+
   public MigrationRunner(ApplicationContext applicationContext) {
     this.applicationContext = applicationContext;
   }
@@ -51,10 +79,20 @@ public class MigrationRunner {
       fixedDelayString = "${migrations.intervalMs:28800000}",
       initialDelayString = "${migrations.initialDelayMs:10000}")
   void run() {
+    Map<ItemDAO<?>, List<ItemMigration<?>>> itemMigrations = new IdentityHashMap<>();
+
     applicationContext.getBeansOfType(Migration.class).values().stream()
         .filter(Migration::isValid)
         .forEach(
             migration -> {
+              if (migration instanceof ItemMigration) {
+                ItemMigration<?> itemMigration = (ItemMigration<?>) migration;
+                itemMigrations
+                    .computeIfAbsent(itemMigration.getItemDAO(), dao -> new ArrayList<>())
+                    .add(itemMigration);
+                return;
+              }
+
               try {
                 log.debug(
                     "Running migration: {}", value("class", migration.getClass().getSimpleName()));
@@ -68,5 +106,105 @@ public class MigrationRunner {
                     e);
               }
             });
+
+    itemMigrations.forEach(
+        (dao, migrations) -> {
+          try {
+            runItemMigrations((ItemDAO) dao, (List) migrations);
+          } catch (Exception e) {
+            log.error(
+                "Migration failure ({}):", value("class", dao.getClass().getSimpleName()), e);
+          }
+        });
+    itemHashes.keySet().retainAll(itemMigrations.keySet());
+  }
+
+  private <T extends Timestamped> void runItemMigrations(
+      ItemDAO<T> dao, List<ItemMigration<T>> migrations) {
+    Set<ItemMigration<T>> migrationSet = new HashSet<>(migrations);
+
+    // hashes are only meaningful for the set of migrations that was applied when computing them
+    ItemHashes previous = itemHashes.get(dao);
+    Map<String, HashCode> previousHashes =
+        previous != null && previous.migrations.equals(migrationSet)
+            ? previous.hashes
+            : Collections.emptyMap();
+
+    Map<String, HashCode> hashes = new HashMap<>();
+    List<T> migratedItems = new ArrayList<>();
+    Set<String> failedIds = new HashSet<>();
+    int itemCount = 0;
+    int unchangedCount = 0;
+
+    for (T item : dao.all()) {
+      itemCount++;
+      HashCode hash = hash(item);
+      if (hash != null && hash.equals(previousHashes.get(item.getId()))) {
+        hashes.put(item.getId(), hash);
+        unchangedCount++;
+        continue;
+      }
+
+      boolean migrated = false;
+      for (ItemMigration<T> migration : migrations) {
+        try {
+          migrated |= migration.migrate(item);
+        } catch (Exception e) {
+          log.error(
+              "Failed to migrate {} (id: {}, migration: {})",
+              item.getClass().getSimpleName(),
+              item.getId(),
+              value("class", migration.getClass().getSimpleName()),
+              e);
+          failedIds.add(item.getId());
+        }
+      }
+
+      if (migrated) {
+        migratedItems.add(item);
+      } else if (hash != null && !failedIds.contains(item.getId())) {
+        hashes.put(item.getId(), hash);
+      }
+    }
+
+    if (!migratedItems.isEmpty()) {
+      dao.bulkImport(migratedItems);
+      for (T item : migratedItems) {
+        HashCode hash = hash(item);
+        if (hash != null && !failedIds.contains(item.getId())) {
+          hashes.put(item.getId(), hash);
+        }
+      }
+    }
+    hashes.remove(null);
+    itemHashes.put(dao, new ItemHashes(migrationSet, hashes));
+
+    log.info(
+        "Migrated {} of {} items (unchanged: {}, failed: {}, dao: {}, migrations: {})",
+        migratedItems.size(),
+        itemCount,
+        unchangedCount,
+        failedIds.size(),
+        dao.getClass().getSimpleName(),
+        migrations.size());
+  }
+
+  private HashCode hash(Timestamped item) {
+    try {
+      return Hashing.sha256().hashBytes(objectMapper.writeValueAsBytes(item));
+    } catch (JsonProcessingException e) {
+      log.warn("Unable to hash {} (id: {})", item.getClass().getSimpleName(), item.getId(), e);
+      return null;
+    }
+  }
+
+  private static class ItemHashes {
+    private final Set<? extends ItemMigration<?>> migrations;
+    private final Map<String, HashCode> hashes;
+
+    ItemHashes(Set<? extends ItemMigration<?>> migrations, Map<String, HashCode> hashes) {
+      this.migrations = migrations;
+      this.hashes = hashes;
+    }
   }
 }
@@ -16,6 +16,7 @@
 package com.netflix.spinnaker.front50.migrations;
 
 import com.netflix.spinnaker.front50.api.model.pipeline.Pipeline;
+import com.netflix.spinnaker.front50.model.ItemDAO;
 import com.netflix.spinnaker.front50.model.pipeline.PipelineDAO;
 import java.util.*;
 import java.util.function.Predicate;
@@ -24,7 +25,7 @@ import org.springframework.stereotype.Component;
 
 @Component
 @Slf4j
-public class RedBlackToBlueGreenK8sPipelinesMigration implements Migration {
+public class RedBlackToBlueGreenK8sPipelinesMigration implements ItemMigration<Pipeline> {
 
   private final PipelineDAO pipelineDAO;
 
@@ -38,15 +39,17 @@ public class RedBlackToBlueGreenK8sPipelinesMigration implements Migration {
   }
 
   @Override
-  public void run() {
-    log.info(
-        "Starting the migration of K8s pipelines using RED/BLACK traffic management strategy to BLUE/GREEN");
-    pipelineDAO.all().stream()
-        .filter(RedBlackToBlueGreenK8sPipelinesMigration.pipelineWithRedBlackStrategyPredicate())
-        .forEach(this::migrate);
+  public ItemDAO<Pipeline> getItemDAO() {
+    return pipelineDAO;
   }
 
-  private void migrate(Pipeline pipeline) {
+  @Override
+  public boolean migrate(Pipeline pipeline) {
+    if (!RedBlackToBlueGreenK8sPipelinesMigration.pipelineWithRedBlackStrategyPredicate()
+        .test(pipeline)) {
+      return false;
+    }
+
     List<Map<String, Object>> stages = new ArrayList<>(pipeline.getStages());
 
     stages.stream()
@@ -64,12 +67,12 @@ public class RedBlackToBlueGreenK8sPipelinesMigration implements Migration {
               }
             });
 
-    this.pipelineDAO.update(pipeline.getId(), pipeline);
     log.info(
         "Migrated pipeline (application: {}, pipelineId: {}, name: {})",
         pipeline.getApplication(),
         pipeline.getId(),
         pipeline.getName());
+    return true;
   }
 
   private static Predicate<Pipeline> pipelineWithRedBlackStrategyPredicate() {
@@ -1,8 +1,8 @@
 package com.netflix.spinnaker.front50.migrations;
 
 import com.netflix.spinnaker.front50.api.model.pipeline.Pipeline;
+import com.netflix.spinnaker.front50.model.ItemDAO;
 import com.netflix.spinnaker.front50.model.pipeline.PipelineDAO;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -12,45 +12,26 @@ import org.springframework.stereotype.Component;
 
 @Component
 @Slf4j
-public class SpelLoadBalancersMigration implements Migration {
+public class SpelLoadBalancersMigration implements ItemMigration<Pipeline> {
   private final PipelineDAO pipelineDAO;
 
   public SpelLoadBalancersMigration(PipelineDAO pipelineDAO) {
     this.pipelineDAO = pipelineDAO;
   }
 
+  @Override
   public boolean isValid() {
     return true;
   }
 
-  public void run() {
-    log.info("Starting spelLoadBalancers migration");
-    Collection<Pipeline> pipelines = pipelineDAO.all();
-    int migratedCount = 0;
-    int failureCount = 0;
-    for (Pipeline pipeline : pipelines) {
-      try {
-        if (migrate(pipeline)) {
-          migratedCount++;
-        }
-      } catch (Exception e) {
-        log.error(
-            "Failed to migrate pipeline {} ({}) for {} spelLoadBalancersMigration",
-            pipeline.getName(),
-            pipeline.getId(),
-            pipeline.getApplication(),
-            e);
-        failureCount++;
-      }
-    }
-    log.info(
-        "Done with spelLoadBalancers migration (migrated {} pipelines; {} failed to migrate)",
-        migratedCount,
-        failureCount);
+  @Override
+  public ItemDAO<Pipeline> getItemDAO() {
+    return pipelineDAO;
   }
 
   /** Removes spelLoadBalancers and spelTargetGroups from all deploy stage[].clusters[] */
-  private boolean migrate(Pipeline pipeline) {
+  @Override
+  public boolean migrate(Pipeline pipeline) {
     List<Map<String, Object>> stages = pipeline.getStages();
     if (stages == null) {
       stages = Collections.emptyList();
@@ -77,7 +58,6 @@ public class SpelLoadBalancersMigration implements Migration {
       cluster.remove("spelLoadBalancers");
       cluster.remove("spelTargetGroups");
     }
-    pipelineDAO.update(pipeline.getId(), pipeline);
     log.info(
         "Migrated pipeline {} ({}) for {} spelLoadBalancersMigration",
         pipeline.getName(),
@@ -30,7 +30,6 @@ import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Predicate;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -38,7 +37,7 @@ import org.springframework.stereotype.Component;
 
 @Component
 @Slf4j
-public class V2PipelineTemplateSourceToArtifactMigration implements Migration {
+public class V2PipelineTemplateSourceToArtifactMigration implements ItemMigration<Pipeline> {
 
   // Only valid until April 1st, 2020
   private static final Date VALID_UNTIL = new GregorianCalendar(2020, 4, 1).getTime();
@@ -64,43 +63,21 @@ public class V2PipelineTemplateSourceToArtifactMigration implements Migration {
   }
 
   @Override
-  public void run() {
-    log.info("Starting v2 pipeline template source to artifact migration");
-
-    Predicate<Pipeline> hasV2TemplateSource =
-        p -> {
-          Map<String, Object> template = p.getTemplate();
-          if (template == null) {
-            return false;
-          }
-          String schema = p.getSchema();
-
-          return schema.equals("v2")
-              && isTemplateSource(template)
-              && StringUtils.isNotEmpty((String) template.getOrDefault("source", ""));
-        };
-
-    pipelineDAO.all().stream()
-        .filter(hasV2TemplateSource)
-        .forEach(pipeline -> migrate(pipelineDAO, pipeline));
+  public ItemDAO<Pipeline> getItemDAO() {
+    return pipelineDAO;
   }
 
-  private boolean isTemplateSource(Object template) {
-    try {
-      TemplateSource _ignored = objectMapper.convertValue(template, TemplateSource.class);
-    } catch (Exception e) {
-      log.debug("Caught exception while deserializing TemplateSource", e);
+  @Override
+  public boolean migrate(Pipeline pipeline) {
+    if (!hasV2TemplateSource(pipeline)) {
       return false;
     }
-    return true;
-  }
 
-  private void migrate(ItemDAO<Pipeline> dao, Pipeline pipeline) {
     Map<String, Object> templateArtifact = new HashMap<>();
     Map<String, Object> template = pipeline.getTemplate();
     String templateSource = (String) template.get("source");
     if (!templateSource.startsWith(TemplateSource.SPINNAKER_PREFIX)) {
-      return;
+      return false;
     }
 
     templateArtifact.put(
@@ -109,12 +86,34 @@ public class V2PipelineTemplateSourceToArtifactMigration implements Migration {
     templateArtifact.put("reference", templateSource);
 
     pipeline.setTemplate(templateArtifact);
-    dao.update(pipeline.getId(), pipeline);
 
     log.info(
         "Added pipeline template artifact (application: {}, pipelineId: {}, templateArtifact: {})",
         pipeline.getApplication(),
         pipeline.getId(),
         templateArtifact);
+    return true;
+  }
+
+  private boolean hasV2TemplateSource(Pipeline pipeline) {
+    Map<String, Object> template = pipeline.getTemplate();
+    if (template == null) {
+      return false;
+    }
+    String schema = pipeline.getSchema();
+
+    return schema.equals("v2")
+        && isTemplateSource(template)
+        && StringUtils.isNotEmpty((String) template.getOrDefault("source", ""));
+  }
+
+  private boolean isTemplateSource(Object template) {
+    try {
+      TemplateSource _ignored = objectMapper.convertValue(template, TemplateSource.class);
+    } catch (Exception e) {
+      log.debug("Caught exception while deserializing TemplateSource", e);
+      return false;
+    }
+    return true;
   }
 }
@@ -1,6 +1,8 @@
 package com.netflix.spinnaker.front50.migrations
 
+import com.netflix.spinnaker.front50.api.model.pipeline.Pipeline
 import com.netflix.spinnaker.front50.config.MigrationConfigTest
+import com.netflix.spinnaker.front50.model.pipeline.PipelineDAO
 import org.spockframework.spring.SpringBean
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.test.context.ContextConfiguration
@@ -18,6 +20,15 @@ class MigrationRunnerSpec extends Specification {
   @SpringBean(name = "disabledMigration")
   Migration disabledMigration = Mock()
 
+  @SpringBean(name = "pipelineDAO")
+  PipelineDAO pipelineDAO = Mock()
+
+  @SpringBean(name = "firstPipelineMigration")
+  ItemMigration<Pipeline> firstPipelineMigration = Mock()
+
+  @SpringBean(name = "secondPipelineMigration")
+  ItemMigration<Pipeline> secondPipelineMigration = Mock()
+
   @Subject
   @Autowired
   MigrationRunner migrationRunner
@@ -26,6 +37,12 @@ class MigrationRunnerSpec extends Specification {
     myFirstMigration.isValid() >> true
     mySecondMigration.isValid() >> true
     disabledMigration.isValid() >> false
+
+    firstPipelineMigration.isValid() >> true
+    firstPipelineMigration.getItemDAO() >> pipelineDAO
+    secondPipelineMigration.isValid() >> true
+    secondPipelineMigration.getItemDAO() >> pipelineDAO
+    pipelineDAO.all() >> []
   }
 
   def "should run all enabled migrations"() {
@@ -37,4 +54,70 @@ class MigrationRunnerSpec extends Specification {
     1 * mySecondMigration.run()
     0 * disabledMigration.run()
   }
+
+  def "should apply item migrations in a single pass and write each migrated item once"() {
+    given:
+    def migratedPipeline = newPipeline("pipeline-1")
+    def pipeline = newPipeline("pipeline-2")
+
+    when:
+    migrationRunner.run()
+
+    then:
+    1 * pipelineDAO.all() >> [migratedPipeline, pipeline]
+    1 * firstPipelineMigration.migrate(migratedPipeline) >> true
+    1 * secondPipelineMigration.migrate(migratedPipeline) >> true
+    1 * firstPipelineMigration.migrate(pipeline) >> false
+    1 * secondPipelineMigration.migrate(pipeline) >> false
+    1 * pipelineDAO.bulkImport([migratedPipeline])
+    0 * pipelineDAO.update(_, _)
+    0 * firstPipelineMigration.run()
+    0 * secondPipelineMigration.run()
+  }
+
+  def "should only migrate items that changed since the previous pass"() {
+    given:
+    def pipeline = newPipeline("pipeline-3")
+
+    when:
+    migrationRunner.run()
+    migrationRunner.run()
+
+    then:
+    2 * pipelineDAO.all() >> [pipeline]
+    1 * firstPipelineMigration.migrate(pipeline) >> false
+    1 * secondPipelineMigration.migrate(pipeline) >> false
+    0 * pipelineDAO.bulkImport(_)
+
+    when:
+    pipeline.name = "updated"
+    migrationRunner.run()
+
+    then:
+    1 * pipelineDAO.all() >> [pipeline]
+    1 * firstPipelineMigration.migrate(pipeline) >> false
+    1 * secondPipelineMigration.migrate(pipeline) >> false
+  }
+
+  def "should retry items that failed to migrate"() {
+    given:
+    def pipeline = newPipeline("pipeline-4")
+
+    when:
+    migrationRunner.run()
+    migrationRunner.run()
+
+    then:
+    2 * pipelineDAO.all() >> [pipeline]
+    1 * firstPipelineMigration.migrate(pipeline) >> { throw new IllegalStateException("failed") }
+    1 * firstPipelineMigration.migrate(pipeline) >> false
+    2 * secondPipelineMigration.migrate(pipeline) >> false
+    0 * pipelineDAO.bulkImport(_)
+  }
+
+  private static Pipeline newPipeline(String id) {
+    def pipeline = new Pipeline([application: "application", name: "pipeline"])
+    pipeline.id = id
+    return pipeline
+  }
 }
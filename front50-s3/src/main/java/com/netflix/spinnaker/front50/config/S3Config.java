@@ -60,7 +60,11 @@ public class S3Config {
             s3Properties.getRegion(),
             s3Properties.getVersioning(),
             s3Properties.getMaxKeys(),
-            s3Properties.getServerSideEncryption());
+            s3Properties.getServerSideEncryption(),
+            s3Properties.getBulkLoad().isEnabled()
+                ? s3Properties.getBulkLoad().getConcurrency()
+                : 0,
+            s3Properties.getBulkLoad().getRequestTimeoutMs());
     service.ensureBucketExists();
 
     return service;
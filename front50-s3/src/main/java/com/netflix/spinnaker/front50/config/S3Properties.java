@@ -25,6 +25,8 @@ public abstract class S3Properties extends S3BucketProperties {
 
   @NestedConfigurationProperty S3EventingProperties eventing = new S3EventingProperties();
 
+  @NestedConfigurationProperty S3BulkLoadProperties bulkLoad = new S3BulkLoadProperties();
+
   // Front50 retrieves objects in batches of this size. Some S3 compatible store enforce a maximum
   // number of keys
   private Integer maxKeys = 10000;
@@ -65,6 +67,14 @@ public abstract class S3Properties extends S3BucketProperties {
     this.eventing = eventing;
   }
 
+  public S3BulkLoadProperties getBulkLoad() {
+    return bulkLoad;
+  }
+
+  public void setBulkLoad(S3BulkLoadProperties bulkLoad) {
+    this.bulkLoad = bulkLoad;
+  }
+
   @Override
   public String getBucket() {
     if (isFailoverEnabled()) {
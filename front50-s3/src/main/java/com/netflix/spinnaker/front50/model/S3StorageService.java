@@ -25,6 +25,7 @@ import com.amazonaws.util.StringUtils;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.netflix.spinnaker.front50.api.model.Timestamped;
 import com.netflix.spinnaker.front50.api.model.pipeline.Pipeline;
 import com.netflix.spinnaker.front50.jackson.mixins.PipelineMixins;
@@ -32,14 +33,22 @@ import com.netflix.spinnaker.front50.jackson.mixins.TimestampedMixins;
 import com.netflix.spinnaker.kork.web.exceptions.NotFoundException;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class S3StorageService implements StorageService {
+public class S3StorageService implements StorageService, BulkStorageService {
   private static final Logger log = LoggerFactory.getLogger(S3StorageService.class);
 
   private final ObjectMapper objectMapper;
@@ -51,6 +60,9 @@ public class S3StorageService implements StorageService {
   private final Boolean versioning;
   private final Integer maxKeys;
   private final ServerSideEncryption serverSideEncryption;
+  private final int bulkLoadConcurrency;
+  private final int bulkLoadRequestTimeoutMs;
+  private final ExecutorService bulkLoadExecutor;
 
   public S3StorageService(
       ObjectMapper objectMapper,
@@ -62,6 +74,38 @@ public class S3StorageService implements StorageService {
       Boolean versioning,
       Integer maxKeys,
       ServerSideEncryption serverSideEncryption) {
+    this(
+        objectMapper,
+        amazonS3,
+        bucket,
+        rootFolder,
+        readOnlyMode,
+        region,
+        versioning,
+        maxKeys,
+        serverSideEncryption,
+        0,
+        0);
+  }
+
+  /**
+   * @param bulkLoadConcurrency maximum number of objects fetched (or stored) concurrently by {@link
+   *     #loadObjects(ObjectType, List)} (or {@link #storeObjects(ObjectType, Collection)}), bulk
+   *     loading is disabled if not positive
+   * @param bulkLoadRequestTimeoutMs timeout of each individual request issued while bulk loading
+   */
+  public S3StorageService(
+      ObjectMapper objectMapper,
+      AmazonS3 amazonS3,
+      String bucket,
+      String rootFolder,
+      Boolean readOnlyMode,
+      String region,
+      Boolean versioning,
+      Integer maxKeys,
+      ServerSideEncryption serverSideEncryption,
+      int bulkLoadConcurrency,
+      int bulkLoadRequestTimeoutMs) {
     this.objectMapper =
         new ObjectMapper()
             .addMixIn(Timestamped.class, TimestampedMixins.class)
@@ -74,6 +118,24 @@ public class S3StorageService implements StorageService {
     this.versioning = versioning;
     this.maxKeys = maxKeys;
     this.serverSideEncryption = serverSideEncryption;
+    this.bulkLoadConcurrency = bulkLoadConcurrency;
+    this.bulkLoadRequestTimeoutMs = bulkLoadRequestTimeoutMs;
+    this.bulkLoadExecutor =
+        bulkLoadConcurrency > 0
+            ? Executors.newFixedThreadPool(
+                bulkLoadConcurrency,
+                new ThreadFactoryBuilder()
+                    .setNameFormat(S3StorageService.class.getSimpleName() + "-bulk-load-%d")
+                    .setDaemon(true)
+                    .build())
+            : null;
+  }
+
+  /** Invoked by Spring (inferred destroy method) when the bean is destroyed. */
+  public void shutdown() {
+    if (bulkLoadExecutor != null) {
+      bulkLoadExecutor.shutdownNow();
+    }
   }
 
   public void ensureBucketExists() {
@@ -133,6 +195,113 @@ public class S3StorageService implements StorageService {
     }
   }
 
+  /**
+   * Fetches {@code objectKeys} concurrently (at most {@code bulkLoadConcurrency} requests in
+   * flight).
+   *
+   * <p>Objects that no longer exist or fail to deserialize are skipped. Any other failure (or a
+   * request exceeding its timeout) fails the whole load after every request has completed, with
+   * each individual failure attached as a suppressed exception. Skipping those objects instead
+   * would cause callers to evict them from their caches.
+   */
+  @Override
+  public <T extends Timestamped> List<T> loadObjects(
+      ObjectType objectType, List<String> objectKeys) {
+    if (bulkLoadExecutor == null) {
+      throw new UnsupportedOperationException();
+    }
+
+    long startTime = System.currentTimeMillis();
+    Map<String, Future<Optional<T>>> futures = new LinkedHashMap<>();
+    for (String objectKey : objectKeys) {
+      futures.put(objectKey, bulkLoadExecutor.submit(() -> bulkLoadObject(objectType, objectKey)));
+    }
+
+    // every request is bounded by the sdk request timeout, this only guards against requests that
+    // are stuck outside of it (e.g. while reading the response body)
+    long batches = (objectKeys.size() + bulkLoadConcurrency - 1) / bulkLoadConcurrency;
+    long deadline = startTime + (batches + 1) * bulkLoadRequestTimeoutMs;
+
+    List<T> items = new ArrayList<>(objectKeys.size());
+    Map<String, Exception> failures = new LinkedHashMap<>();
+    int skipped = 0;
+    for (Map.Entry<String, Future<Optional<T>>> entry : futures.entrySet()) {
+      Future<Optional<T>> future = entry.getValue();
+      try {
+        long remainingMs = Math.max(0, deadline - System.currentTimeMillis());
+        Optional<T> item = future.get(remainingMs, TimeUnit.MILLISECONDS);
+        if (item.isPresent()) {
+          items.add(item.get());
+        } else {
+          skipped++;
+        }
+      } catch (ExecutionException e) {
+        failures.put(
+            entry.getKey(), e.getCause() instanceof Exception ? (Exception) e.getCause() : e);
+      } catch (TimeoutException | CancellationException e) {
+        future.cancel(true);
+        failures.put(entry.getKey(), e);
+      } catch (InterruptedException e) {
+        futures.values().forEach(f -> f.cancel(true));
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted while loading " + objectType + " objects", e);
+      }
+    }
+
+    log.debug(
+        "Took {}ms to load {} of {} {} objects (skipped: {}, failed: {})",
+        value("fetchTime", (System.currentTimeMillis() - startTime)),
+        items.size(),
+        objectKeys.size(),
+        value("type", objectType),
+        skipped,
+        failures.size());
+
+    if (!failures.isEmpty()) {
+      log.warn(
+          "Failed to load {} of {} {} objects (keys: {})",
+          failures.size(),
+          objectKeys.size(),
+          value("type", objectType),
+          failures.keySet());
+
+      IllegalStateException exception =
+          new IllegalStateException(
+              String.format(
+                  "Failed to load %d of %d %s objects (keys: %s)",
+                  failures.size(), objectKeys.size(), objectType, failures.keySet()));
+      failures.values().forEach(exception::addSuppressed);
+      throw exception;
+    }
+
+    return items;
+  }
+
+  private <T extends Timestamped> Optional<T> bulkLoadObject(
+      ObjectType objectType, String objectKey) {
+    GetObjectRequest request =
+        new GetObjectRequest(
+                bucket, buildS3Key(objectType.group, objectKey, objectType.defaultMetadataFilename))
+            .withSdkRequestTimeout(bulkLoadRequestTimeoutMs);
+
+    try (S3Object s3Object = amazonS3.getObject(request)) {
+      T item = deserialize(s3Object, (Class<T>) objectType.clazz);
+      item.setLastModified(s3Object.getObjectMetadata().getLastModified().getTime());
+      return Optional.of(item);
+    } catch (AmazonS3Exception e) {
+      if (e.getStatusCode() == 404) {
+        log.debug("Object not found (key: {})", objectKey);
+        return Optional.empty();
+      }
+      throw e;
+    } catch (JsonProcessingException e) {
+      log.warn("Unable to deserialize {} object (key: {}), skipping", objectType, objectKey, e);
+      return Optional.empty();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to read object (key: " + objectKey + ")", e);
+    }
+  }
+
   @Override
   public void deleteObject(ObjectType objectType, String objectKey) {
     if (readOnlyMode) {
@@ -143,28 +312,66 @@ public class S3StorageService implements StorageService {
     writeLastModified(objectType.group);
   }
 
+  /**
+   * Deletes objects with multi-object delete requests, continuing past failures. Every object that
+   * could not be deleted is reported by the thrown exception, all others have been deleted.
+   */
+  @Override
   public void bulkDeleteObjects(ObjectType objectType, Collection<String> objectKeys) {
     if (readOnlyMode) {
       throw new ReadOnlyModeException();
     }
+    if (objectKeys.isEmpty()) {
+      return;
+    }
+
+    Map<String, Exception> failures = new LinkedHashMap<>();
 
     // s3 supports bulk delete for a maximum of 1000 object keys
-    Lists.partition(new ArrayList<>(objectKeys), 1000)
-        .forEach(
-            keys -> {
-              amazonS3.deleteObjects(
-                  new DeleteObjectsRequest(bucket)
-                      .withKeys(
-                          keys.stream()
-                              .map(
-                                  k ->
-                                      new DeleteObjectsRequest.KeyVersion(
-                                          buildS3Key(
-                                              objectType.group,
-                                              k,
-                                              objectType.defaultMetadataFilename)))
-                              .collect(Collectors.toList())));
-            });
+    for (List<String> keys : Lists.partition(new ArrayList<>(objectKeys), 1000)) {
+      DeleteObjectsRequest request =
+          new DeleteObjectsRequest(bucket)
+              .withKeys(
+                  keys.stream()
+                      .map(
+                          k ->
+                              new DeleteObjectsRequest.KeyVersion(
+                                  buildS3Key(
+                                      objectType.group, k, objectType.defaultMetadataFilename)))
+                      .collect(Collectors.toList()));
+      try {
+        amazonS3.deleteObjects(request);
+      } catch (MultiObjectDeleteException e) {
+        for (MultiObjectDeleteException.DeleteError error : e.getErrors()) {
+          failures.put(
+              buildObjectKey(objectType, error.getKey()),
+              new IllegalStateException(error.getCode() + ": " + error.getMessage()));
+        }
+      } catch (AmazonServiceException e) {
+        keys.forEach(k -> failures.put(k, e));
+      }
+    }
+
+    if (failures.size() < objectKeys.size()) {
+      writeLastModified(objectType.group);
+    }
+
+    if (!failures.isEmpty()) {
+      log.warn(
+          "Failed to delete {} of {} {} objects (keys: {})",
+          failures.size(),
+          objectKeys.size(),
+          value("type", objectType),
+          failures.keySet());
+
+      IllegalStateException exception =
+          new IllegalStateException(
+              String.format(
+                  "Failed to delete %d of %d %s objects (keys: %s)",
+                  failures.size(), objectKeys.size(), objectType, failures.keySet()));
+      new HashSet<>(failures.values()).forEach(exception::addSuppressed);
+      throw exception;
+    }
   }
 
   @Override
@@ -172,6 +379,79 @@ public class S3StorageService implements StorageService {
     if (readOnlyMode) {
       throw new ReadOnlyModeException();
     }
+    putObject(objectType, objectKey, item);
+    writeLastModified(objectType.group);
+  }
+
+  /**
+   * Stores every item (keyed by its lower-cased id), only updating the last modified marker of the
+   * object type once rather than once per item. Items are stored concurrently, on the same threads
+   * as {@link #loadObjects(ObjectType, List)}, unless bulk loading is disabled.
+   *
+   * <p>Any failure fails the whole store after every request has completed, with each individual
+   * failure attached as a suppressed exception.
+   */
+  @Override
+  public <T extends Timestamped> void storeObjects(ObjectType objectType, Collection<T> items) {
+    if (readOnlyMode) {
+      throw new ReadOnlyModeException();
+    }
+    if (items.isEmpty()) {
+      return;
+    }
+    if (bulkLoadExecutor == null) {
+      for (T item : items) {
+        putObject(objectType, item.getId().toLowerCase(), item);
+      }
+      writeLastModified(objectType.group);
+      return;
+    }
+
+    Map<String, Future<?>> futures = new LinkedHashMap<>();
+    for (T item : items) {
+      String objectKey = item.getId().toLowerCase();
+      futures.put(objectKey, bulkLoadExecutor.submit(() -> putObject(objectType, objectKey, item)));
+    }
+
+    Map<String, Exception> failures = new LinkedHashMap<>();
+    for (Map.Entry<String, Future<?>> entry : futures.entrySet()) {
+      try {
+        entry.getValue().get();
+      } catch (ExecutionException e) {
+        failures.put(
+            entry.getKey(), e.getCause() instanceof Exception ? (Exception) e.getCause() : e);
+      } catch (CancellationException e) {
+        failures.put(entry.getKey(), e);
+      } catch (InterruptedException e) {
+        futures.values().forEach(f -> f.cancel(true));
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted while storing " + objectType + " objects", e);
+      }
+    }
+
+    if (failures.size() < futures.size()) {
+      writeLastModified(objectType.group);
+    }
+
+    if (!failures.isEmpty()) {
+      log.warn(
+          "Failed to store {} of {} {} objects (keys: {})",
+          failures.size(),
+          futures.size(),
+          value("type", objectType),
+          failures.keySet());
+
+      IllegalStateException exception =
+          new IllegalStateException(
+              String.format(
+                  "Failed to store %d of %d %s objects (keys: %s)",
+                  failures.size(), futures.size(), objectType, failures.keySet()));
+      new HashSet<>(failures.values()).forEach(exception::addSuppressed);
+      throw exception;
+    }
+  }
+
+  private <T extends Timestamped> void putObject(ObjectType objectType, String objectKey, T item) {
     try {
       byte[] bytes = objectMapper.writeValueAsBytes(item);
 
@@ -193,7 +473,6 @@ public class S3StorageService implements StorageService {
           buildS3Key(objectType.group, objectKey, objectType.defaultMetadataFilename),
           new ByteArrayInputStream(bytes),
           objectMetadata);
-      writeLastModified(objectType.group);
     } catch (JsonProcessingException e) {
       throw new IllegalStateException(e);
     }
@@ -25,6 +25,7 @@ import com.netflix.spinnaker.front50.config.S3PluginStorageProperties;
 import com.netflix.spinnaker.kork.exceptions.SystemException;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Base64;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -56,6 +57,23 @@ public class S3PluginBinaryStorageService implements PluginBinaryStorageService
         properties.getBucket(), buildObjectKey(key), new ByteArrayInputStream(item), metadata);
   }
 
+  /**
+   * The content is streamed to S3 as it is read, the SDK verifies its integrity by computing an MD5
+   * digest on the fly and comparing it with the ETag of the uploaded object.
+   */
+  @Override
+  public void store(@Nonnull String key, @Nonnull InputStream item, long contentLength) {
+    if (amazonS3.doesObjectExist(properties.getBucket(), buildObjectKey(key))) {
+      throw new PluginBinaryAlreadyExistsException(key);
+    }
+
+    ObjectMetadata metadata = new ObjectMetadata();
+    // without a content length the SDK would buffer the whole binary in memory
+    metadata.setContentLength(contentLength);
+
+    amazonS3.putObject(properties.getBucket(), buildObjectKey(key), item, metadata);
+  }
+
   @Override
   public void delete(@Nonnull String key) {
     amazonS3.deleteObject(properties.getBucket(), buildObjectKey(key));
@@ -83,21 +101,29 @@ public class S3PluginBinaryStorageService implements PluginBinaryStorageService
   @Nullable
   @Override
   public byte[] load(@Nonnull String key) {
-    S3Object object;
+    InputStream content = openStream(key);
+    if (content == null) {
+      return null;
+    }
+
+    try (content) {
+      return ByteStreams.toByteArray(content);
+    } catch (IOException e) {
+      throw new SystemException(format("Failed to read object contents: %s", key), e);
+    }
+  }
+
+  @Nullable
+  @Override
+  public InputStream openStream(@Nonnull String key) {
     try {
-      object = amazonS3.getObject(properties.getBucket(), buildObjectKey(key));
+      return amazonS3.getObject(properties.getBucket(), buildObjectKey(key)).getObjectContent();
     } catch (AmazonS3Exception e) {
       if (e.getStatusCode() == 404) {
         return null;
       }
       throw e;
     }
-
-    try {
-      return ByteStreams.toByteArray(object.getObjectContent());
-    } catch (IOException e) {
-      throw new SystemException(format("Failed to read object contents: %s", key), e);
-    }
   }
 
   private String buildFolder() {
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.front50.model
+
+import com.amazonaws.services.s3.AmazonS3
+import com.amazonaws.services.s3.model.AmazonS3Exception
+import com.amazonaws.services.s3.model.GetObjectRequest
+import com.amazonaws.services.s3.model.MultiObjectDeleteException
+import com.amazonaws.services.s3.model.ObjectMetadata
+import com.amazonaws.services.s3.model.S3Object
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.netflix.spinnaker.front50.api.model.pipeline.Pipeline
+import spock.lang.Specification
+import spock.lang.Subject
+
+class S3StorageServiceSpec extends Specification {
+  def amazonS3 = Mock(AmazonS3)
+
+  @Subject
+  def s3StorageService = new S3StorageService(
+    new ObjectMapper(), amazonS3, "bucket", "root", false, "us-west-2", false, 10000, null, 4, 1000
+  )
+
+  def cleanup() {
+    s3StorageService.shutdown()
+  }
+
+  def "should load objects concurrently, skipping missing and malformed objects"() {
+    when:
+    def pipelines = s3StorageService.loadObjects(ObjectType.PIPELINE, ["p1", "p2", "missing", "malformed"])
+
+    then:
+    4 * amazonS3.getObject(_ as GetObjectRequest) >> { GetObjectRequest request ->
+      assert request.sdkRequestTimeout == 1000
+      switch (request.key) {
+        case "root/pipelines/p1/pipeline-metadata.json":
+          return s3Object('{"id": "p1", "name": "Pipeline 1"}', 100)
+        case "root/pipelines/p2/pipeline-metadata.json":
+          return s3Object('{"id": "p2", "name": "Pipeline 2"}', 200)
+        case "root/pipelines/missing/pipeline-metadata.json":
+          throw s3Exception(404)
+        default:
+          return s3Object('{"id": ', 300)
+      }
+    }
+
+    pipelines*.id.sort() == ["p1", "p2"]
+    pipelines.find { it.id == "p2" }.lastModified == 200
+  }
+
+  def "should report every object that failed to load"() {
+    when:
+    s3StorageService.loadObjects(ObjectType.PIPELINE, ["p1", "p2", "p3"])
+
+    then:
+    3 * amazonS3.getObject(_ as GetObjectRequest) >> { GetObjectRequest request ->
+      if (request.key.contains("p1")) {
+        return s3Object('{"id": "p1"}', 100)
+      }
+      throw s3Exception(503)
+    }
+
+    def e = thrown(IllegalStateException)
+    e.message.contains("Failed to load 2 of 3")
+    e.message.contains("p2")
+    e.message.contains("p3")
+    e.suppressed.length == 2
+  }
+
+  def "should fall back to individual loads when bulk loading is disabled"() {
+    given:
+    def storageService = new S3StorageService(
+      new ObjectMapper(), amazonS3, "bucket", "root", false, "us-west-2", false, 10000, null
+    )
+
+    when:
+    storageService.loadObjects(ObjectType.PIPELINE, ["p1"])
+
+    then:
+    thrown(UnsupportedOperationException)
+    0 * amazonS3._
+  }
+
+  def "should only write the last modified marker once when storing objects in bulk"() {
+    given:
+    def pipelines = ["P1", "p2", "p3"].collect { new Pipeline(id: it, name: "Pipeline ${it}") }
+
+    when:
+    s3StorageService.storeObjects(ObjectType.PIPELINE, pipelines)
+
+    then:
+    1 * amazonS3.putObject("bucket", "root/pipelines/p1/pipeline-metadata.json", _, _)
+    1 * amazonS3.putObject("bucket", "root/pipelines/p2/pipeline-metadata.json", _, _)
+    1 * amazonS3.putObject("bucket", "root/pipelines/p3/pipeline-metadata.json", _, _)
+    1 * amazonS3.putObject("bucket", "root/pipelines/last-modified.json", _, _)
+    0 * amazonS3._
+  }
+
+  def "should store every object, reporting every object that could not be stored"() {
+    given:
+    def pipelines = ["p1", "p2", "p3"].collect { new Pipeline(id: it, name: "Pipeline ${it}") }
+
+    when:
+    s3StorageService.storeObjects(ObjectType.PIPELINE, pipelines)
+
+    then:
+    1 * amazonS3.putObject("bucket", "root/pipelines/p1/pipeline-metadata.json", _, _)
+    1 * amazonS3.putObject("bucket", "root/pipelines/p2/pipeline-metadata.json", _, _) >> {
+      throw s3Exception(503)
+    }
+    1 * amazonS3.putObject("bucket", "root/pipelines/p3/pipeline-metadata.json", _, _)
+    1 * amazonS3.putObject("bucket", "root/pipelines/last-modified.json", _, _)
+    0 * amazonS3._
+
+    def e = thrown(IllegalStateException)
+    e.message == "Failed to store 1 of 3 PIPELINE objects (keys: [p2])"
+    e.suppressed.length == 1
+  }
+
+  def "should delete objects in bulk, reporting every object that could not be deleted"() {
+    given:
+    def keys = (1..1001).collect { "p${it}".toString() }
+
+    when:
+    s3StorageService.bulkDeleteObjects(ObjectType.PIPELINE, keys)
+
+    then:
+    1 * amazonS3.deleteObjects({ it.keys.size() == 1000 }) >> {
+      def error = new MultiObjectDeleteException.DeleteError(
+        key: "root/pipelines/p2/pipeline-metadata.json", code: "AccessDenied", message: "Access Denied"
+      )
+      throw new MultiObjectDeleteException([error], [])
+    }
+    1 * amazonS3.deleteObjects({ it.keys*.key == ["root/pipelines/p1001/pipeline-metadata.json"] })
+    1 * amazonS3.putObject("bucket", "root/pipelines/last-modified.json", _, _)
+    0 * amazonS3._
+
+    def e = thrown(IllegalStateException)
+    e.message == "Failed to delete 1 of 1001 PIPELINE objects (keys: [p2])"
+    e.suppressed*.message == ["AccessDenied: Access Denied"]
+  }
+
+  private static S3Object s3Object(String content, long lastModified) {
+    def s3Object = new S3Object()
+    s3Object.setObjectContent(new ByteArrayInputStream(content.bytes))
+    s3Object.setObjectMetadata(new ObjectMetadata(lastModified: new Date(lastModified)))
+    return s3Object
+  }
+
+  private static AmazonS3Exception s3Exception(int statusCode) {
+    def e = new AmazonS3Exception("Request failed")
+    e.statusCode = statusCode
+    return e
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.front50.config;
+
+import com.netflix.spectator.api.Registry;
+import com.netflix.spinnaker.front50.model.PostgresObjectChangeNotifier;
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Pushes changes to every replica via Postgres LISTEN/NOTIFY, notifications are sent by a trigger
+ * on the object change log.
+ *
+ * <p>The trigger is created by a changelog of its own, which has to be added to the migrations:
+ *
+ * <pre>
+ * sql:
+ *   migration:
+ *     additionalChangeLogs:
+ *     - db/changelog-postgres-notifications.yml
+ * </pre>
+ *
+ * <p>Every instance holds one connection of the default connection pool for as long as it
+ * listens, the pool has to be sized with one connection to spare for it.
+ */
+@Configuration
+@ConditionalOnProperty({"sql.enabled", "sql.notifications.enabled"})
+@EnableConfigurationProperties(PostgresNotificationProperties.class)
+public class PostgresNotificationConfiguration {
+
+  @Bean(initMethod = "start")
+  PostgresObjectChangeNotifier postgresObjectChangeNotifier(
+      DataSource dataSource, PostgresNotificationProperties properties, Registry registry) {
+    return new PostgresObjectChangeNotifier(
+        dataSource,
+        registry,
+        properties.getPollTimeout().toMillis(),
+        properties.getReconnectDelay().toMillis());
+  }
+}
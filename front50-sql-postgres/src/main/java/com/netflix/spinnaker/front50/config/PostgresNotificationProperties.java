@@ -0,0 +1,32 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.front50.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/** Controls push notification of changes made to a Postgres backed SQL storage service. */
+@Data
+@ConfigurationProperties("sql.notifications")
+public class PostgresNotificationProperties {
+  /** How long to wait for notifications before checking that the connection is still alive. */
+  private Duration pollTimeout = Duration.ofSeconds(10);
+
+  /** How long to wait before re-establishing a lost connection. */
+  private Duration reconnectDelay = Duration.ofSeconds(5);
+}
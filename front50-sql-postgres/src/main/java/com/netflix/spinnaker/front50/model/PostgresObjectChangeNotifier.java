@@ -0,0 +1,187 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.front50.model;
+
+import com.netflix.spectator.api.Registry;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.sql.DataSource;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link ObjectChangeNotifier} that listens for Postgres notifications, which are sent on commit
+ * of every transaction that records a change (see the object_change_log trigger).
+ *
+ * <p>Listening requires a dedicated connection, which is borrowed from {@code dataSource} for as
+ * long as it remains healthy. The pool behind {@code dataSource} must have a connection to spare
+ * for it, or every other user of the pool is left one connection short.
+ */
+public class PostgresObjectChangeNotifier implements ObjectChangeNotifier, Runnable {
+  private static final Logger log = LoggerFactory.getLogger(PostgresObjectChangeNotifier.class);
+
+  public static final String CHANNEL = "front50_object_changes";
+
+  /** Created by db/changelog-postgres-notifications.yml. */
+  static final String TRIGGER = "object_change_log_notify";
+
+  private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+  private final DataSource dataSource;
+  private final Registry registry;
+  private final long pollTimeoutMs;
+  private final long reconnectDelayMs;
+
+  private final Map<ObjectType, List<Runnable>> listeners = new ConcurrentHashMap<>();
+
+  private volatile boolean connected;
+  private volatile boolean running = true;
+  private Thread thread;
+
+  public PostgresObjectChangeNotifier(
+      DataSource dataSource, Registry registry, long pollTimeoutMs, long reconnectDelayMs) {
+    this.dataSource = dataSource;
+    this.registry = registry;
+    this.pollTimeoutMs = pollTimeoutMs;
+    this.reconnectDelayMs = reconnectDelayMs;
+
+    registry.gauge("sql.notifications.connected", this, n -> n.connected ? 1 : 0);
+  }
+
+  public synchronized void start() {
+    if (thread == null) {
+      thread = new Thread(this, getClass().getSimpleName());
+      thread.setDaemon(true);
+      thread.start();
+    }
+  }
+
+  public synchronized void shutdown() {
+    running = false;
+    if (thread != null) {
+      thread.interrupt();
+    }
+  }
+
+  @Override
+  public void subscribe(ObjectType objectType, Runnable listener) {
+    listeners.computeIfAbsent(objectType, t -> new CopyOnWriteArrayList<>()).add(listener);
+  }
+
+  @Override
+  public boolean isConnected() {
+    return connected;
+  }
+
+  @Override
+  public void run() {
+    while (running) {
+      try {
+        listen();
+      } catch (Exception e) {
+        if (running) {
+          log.warn(
+              "Unable to listen for {} notifications, retrying in {}ms",
+              CHANNEL,
+              reconnectDelayMs,
+              e);
+          registry.counter("sql.notifications.connectionErrors").increment();
+        }
+      } finally {
+        connected = false;
+      }
+
+      if (running) {
+        try {
+          Thread.sleep(reconnectDelayMs);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+    }
+  }
+
+  private void listen() throws SQLException {
+    try (Connection connection = dataSource.getConnection()) {
+      connection.setAutoCommit(true);
+      PGConnection pgConnection = connection.unwrap(PGConnection.class);
+      try (Statement statement = connection.createStatement()) {
+        statement.execute("LISTEN " + CHANNEL);
+        try (ResultSet trigger =
+            statement.executeQuery("SELECT 1 FROM pg_trigger WHERE tgname = '" + TRIGGER + "'")) {
+          if (!trigger.next()) {
+            log.warn(
+                "Trigger {} does not exist, no {} notifications will be sent (see "
+                    + "sql.migration.additionalChangeLogs)",
+                TRIGGER,
+                CHANNEL);
+          }
+        }
+      }
+
+      connected = true;
+      log.info("Listening for {} notifications", CHANNEL);
+
+      // anything may have changed while not listening
+      listeners.keySet().forEach(this::notifyListeners);
+
+      while (running) {
+        PGNotification[] notifications = pgConnection.getNotifications((int) pollTimeoutMs);
+        if (notifications == null || notifications.length == 0) {
+          // an idle connection is indistinguishable from a dead one otherwise
+          if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+            throw new SQLException("Connection is no longer valid");
+          }
+          continue;
+        }
+
+        Set<ObjectType> objectTypes = EnumSet.noneOf(ObjectType.class);
+        for (PGNotification notification : notifications) {
+          registry.counter("sql.notifications.received").increment();
+          try {
+            objectTypes.add(ObjectType.valueOf(notification.getParameter()));
+          } catch (IllegalArgumentException | NullPointerException e) {
+            log.debug(
+                "Ignoring notification with unknown payload: {}", notification.getParameter());
+          }
+        }
+        objectTypes.forEach(this::notifyListeners);
+      }
+    }
+  }
+
+  private void notifyListeners(ObjectType objectType) {
+    for (Runnable listener : listeners.getOrDefault(objectType, List.of())) {
+      try {
+        listener.run();
+      } catch (Exception e) {
+        log.error("Failed to notify {} listener", objectType, e);
+      }
+    }
+  }
+}
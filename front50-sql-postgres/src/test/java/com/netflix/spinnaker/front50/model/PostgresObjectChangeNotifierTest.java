@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.netflix.spinnaker.front50.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.netflix.spectator.api.NoopRegistry;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+class PostgresObjectChangeNotifierTest {
+
+  private final DataSource dataSource = mock(DataSource.class);
+  private final Connection connection = mock(Connection.class);
+  private final PGConnection pgConnection = mock(PGConnection.class);
+  private final Statement statement = mock(Statement.class);
+  private final ResultSet trigger = mock(ResultSet.class);
+
+  private final PostgresObjectChangeNotifier notifier =
+      new PostgresObjectChangeNotifier(dataSource, new NoopRegistry(), 100, 0);
+
+  private final List<ObjectType> notified = new ArrayList<>();
+
+  @BeforeEach
+  void setup() throws SQLException {
+    doReturn(connection).when(dataSource).getConnection();
+    doReturn(pgConnection).when(connection).unwrap(PGConnection.class);
+    doReturn(statement).when(connection).createStatement();
+    doReturn(trigger).when(statement).executeQuery(anyString());
+    doReturn(true).when(trigger).next();
+    doReturn(true).when(connection).isValid(anyInt());
+
+    notifier.subscribe(ObjectType.PIPELINE, () -> notified.add(ObjectType.PIPELINE));
+    notifier.subscribe(ObjectType.APPLICATION, () -> notified.add(ObjectType.APPLICATION));
+  }
+
+  private static PGNotification notification(String parameter) {
+    PGNotification notification = mock(PGNotification.class);
+    doReturn(PostgresObjectChangeNotifier.CHANNEL).when(notification).getName();
+    doReturn(parameter).when(notification).getParameter();
+    return notification;
+  }
+
+  @Test
+  void notificationsAreDispatchedByObjectType() throws SQLException {
+    doAnswer(
+            invocation -> {
+              assertThat(notifier.isConnected()).isTrue();
+              // listeners are notified of anything missed before listening
+              assertThat(notified)
+                  .containsExactlyInAnyOrder(ObjectType.PIPELINE, ObjectType.APPLICATION);
+              notified.clear();
+              return new PGNotification[] {
+                notification("PIPELINE"), notification("PIPELINE"), notification("UNKNOWN")
+              };
+            })
+        .doAnswer(
+            invocation -> {
+              notifier.shutdown();
+              return new PGNotification[0];
+            })
+        .when(pgConnection)
+        .getNotifications(anyInt());
+
+    notifier.run();
+
+    assertThat(notified).containsExactly(ObjectType.PIPELINE);
+    assertThat(notifier.isConnected()).isFalse();
+    verify(statement).execute("LISTEN " + PostgresObjectChangeNotifier.CHANNEL);
+    verify(connection).close();
+  }
+
+  @Test
+  void lostConnectionsAreReestablished() throws SQLException {
+    doThrow(new SQLException("connection reset"))
+        .doAnswer(
+            invocation -> {
+              notifier.shutdown();
+              return null;
+            })
+        .when(pgConnection)
+        .getNotifications(anyInt());
+
+    notifier.run();
+
+    // every (re)connect notifies all listeners
+    assertThat(notified).hasSize(4);
+    verify(statement, times(2)).execute("LISTEN " + PostgresObjectChangeNotifier.CHANNEL);
+  }
+
+  @Test
+  void deadIdleConnectionsAreReestablished() throws SQLException {
+    doReturn(false).doReturn(true).when(connection).isValid(anyInt());
+    doReturn(null)
+        .doReturn(null)
+        .doAnswer(
+            invocation -> {
+              notifier.shutdown();
+              return null;
+            })
+        .when(pgConnection)
+        .getNotifications(anyInt());
+
+    notifier.run();
+
+    verify(dataSource, times(2)).getConnection();
+  }
+}
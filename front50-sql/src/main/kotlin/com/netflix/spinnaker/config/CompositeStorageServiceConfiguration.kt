@@ -17,12 +17,15 @@
 package com.netflix.spinnaker.config
 
 import com.netflix.spectator.api.Registry
+import com.netflix.spinnaker.front50.migrations.InMemoryMigrationCheckpointStore
+import com.netflix.spinnaker.front50.migrations.MigrationCheckpointStore
 import com.netflix.spinnaker.front50.migrations.StorageServiceMigrator
 import com.netflix.spinnaker.front50.model.CompositeStorageService
 import com.netflix.spinnaker.front50.model.StorageService
 import com.netflix.spinnaker.front50.model.tag.EntityTagsDAO
 import com.netflix.spinnaker.kork.dynamicconfig.DynamicConfigService
 import com.netflix.spinnaker.kork.web.context.RequestContextProvider
+import java.util.Optional
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty
 import org.springframework.boot.context.properties.ConfigurationProperties
 import org.springframework.boot.context.properties.EnableConfigurationProperties
@@ -55,7 +58,8 @@ class CompositeStorageServiceConfiguration(
   @ConditionalOnProperty("spinnaker.migration.compositeStorageService.enabled")
   fun storageServiceMigrator(
     entityTagsDAO: EntityTagsDAO,
-    contextProvider: RequestContextProvider
+    contextProvider: RequestContextProvider,
+    checkpointStore: Optional<MigrationCheckpointStore>
   ) =
     StorageServiceMigrator(
       dynamicConfigService,
@@ -63,7 +67,9 @@ class CompositeStorageServiceConfiguration(
       findStorageService(properties.primaryClass, properties.primaryName),
       findStorageService(properties.previousClass, properties.previousName),
       entityTagsDAO,
-      contextProvider
+      contextProvider,
+      checkpointStore.orElseGet { InMemoryMigrationCheckpointStore() },
+      properties
     )
 
   private fun findStorageService(
@@ -87,5 +93,23 @@ data class StorageServiceMigratorConfigurationProperties(
   var primaryName: String? = null,
   var previousName: String? = null,
   var writeOnly: Boolean = false,
-  var deleteOrphans: Boolean = true
+  var deleteOrphans: Boolean = true,
+  /**
+   * The maximum number of objects migrated concurrently.
+   */
+  var concurrency: Int = 8,
+  /**
+   * The maximum number of versions migrated per object.
+   */
+  var maxObjectVersions: Int = 30,
+  /**
+   * The rate of failed writes to the primary storage service above which fewer objects are migrated
+   * concurrently.
+   */
+  var errorRateThreshold: Double = 0.1,
+  /**
+   * The number of entity tags loaded from the previous, and written to the primary, storage service
+   * at a time.
+   */
+  var entityTagsPageSize: Int = 1000
 )
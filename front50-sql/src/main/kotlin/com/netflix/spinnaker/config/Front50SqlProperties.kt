@@ -22,6 +22,7 @@ import java.time.Duration
  * Note that kork's SqlProperties class also uses the "sql" prefix.
  *
  * @param healthIntervalMillis The period to refresh health information (e.g. in the health endpoint).
+ * @param changeLogRetentionMillis How long entries are kept in the object change log.
  */
 @ConfigurationProperties("sql")
 class Front50SqlProperties {
@@ -29,4 +30,35 @@ class Front50SqlProperties {
    * How frequently to refresh health information (e.g. for the health endpoint).
    */
   var healthIntervalMillis: Long = Duration.ofSeconds(30).toMillis()
+
+  /**
+   * How long entries are kept in the object change log, must comfortably exceed the cache health
+   * check timeout (caches that fall further behind than that reload everything).
+   */
+  var changeLogRetentionMillis: Long = Duration.ofDays(1).toMillis()
+
+  /**
+   * Locks shared by every instance (see SqlKeyedLockManager), used instead of instance local ones
+   * when enabled.
+   */
+  var locks: Locks = Locks()
+
+  class Locks {
+    var enabled: Boolean = false
+
+    /**
+     * How long a lock is held at most, must comfortably exceed the duration of any locked operation.
+     */
+    var leaseMillis: Long = Duration.ofMinutes(1).toMillis()
+
+    /**
+     * How long to wait for a lock held by someone else before giving up.
+     */
+    var timeoutMillis: Long = Duration.ofSeconds(30).toMillis()
+
+    /**
+     * How frequently a lock held by someone else is retried.
+     */
+    var retryIntervalMillis: Long = 50
+  }
 }
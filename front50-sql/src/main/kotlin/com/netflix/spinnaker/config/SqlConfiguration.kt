@@ -18,6 +18,13 @@ package com.netflix.spinnaker.config
 
 import com.fasterxml.jackson.databind.ObjectMapper
 import com.netflix.spectator.api.Registry
+import com.netflix.spinnaker.front50.config.StorageServiceConfigurationProperties
+import com.netflix.spinnaker.front50.locks.KeyedLockManager
+import com.netflix.spinnaker.front50.locks.StripedKeyedLockManager
+import com.netflix.spinnaker.front50.migrations.MigrationCheckpointStore
+import com.netflix.spinnaker.front50.migrations.SqlMigrationCheckpointStore
+import com.netflix.spinnaker.front50.model.ObjectType
+import com.netflix.spinnaker.front50.model.SqlKeyedLockManager
 import com.netflix.spinnaker.front50.model.SqlStorageService
 import com.netflix.spinnaker.kork.sql.config.DefaultSqlConfiguration
 import com.netflix.spinnaker.kork.sql.config.SqlProperties
@@ -25,11 +32,13 @@ import java.time.Clock
 import org.jooq.DSLContext
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.beans.factory.annotation.Qualifier
+import org.springframework.beans.factory.annotation.Value
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty
 import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Bean
 import org.springframework.context.annotation.Configuration
 import org.springframework.context.annotation.Import
+import org.springframework.context.annotation.Primary
 
 @Configuration
 @ConditionalOnProperty("sql.enabled")
@@ -43,7 +52,9 @@ class SqlConfiguration {
     registry: Registry,
     jooq: DSLContext,
     sqlProperties: SqlProperties,
-    front50SqlProperties: Front50SqlProperties
+    front50SqlProperties: Front50SqlProperties,
+    storageServiceConfigurationProperties: StorageServiceConfigurationProperties,
+    @Value("\${sql.notifications.enabled:false}") notificationsEnabled: Boolean
   ): SqlStorageService =
     SqlStorageService(
       objectMapper,
@@ -52,11 +63,36 @@ class SqlConfiguration {
       Clock.systemDefaultZone(),
       sqlProperties.retries,
       1000,
-      if (sqlProperties.connectionPools.keys.size > 1)
-        sqlProperties.connectionPools.filter { it.value.default }.keys.first() else sqlProperties.connectionPools.keys.first(),
+      defaultPoolName(sqlProperties),
       front50SqlProperties
+    ).apply {
+      changeLogObjectTypes = changeLogObjectTypes(storageServiceConfigurationProperties, notificationsEnabled)
+    }
+
+  @Bean
+  @Primary
+  @ConditionalOnProperty("sql.locks.enabled")
+  fun sqlKeyedLockManager(
+    jooq: DSLContext,
+    sqlProperties: SqlProperties,
+    front50SqlProperties: Front50SqlProperties
+  ): KeyedLockManager =
+    SqlKeyedLockManager(
+      jooq,
+      Clock.systemDefaultZone(),
+      defaultPoolName(sqlProperties),
+      front50SqlProperties.locks,
+      StripedKeyedLockManager(1024)
     )
 
+  @Bean
+  @ConditionalOnProperty("spinnaker.migration.compositeStorageService.enabled")
+  fun sqlMigrationCheckpointStore(
+    jooq: DSLContext,
+    sqlProperties: SqlProperties
+  ): MigrationCheckpointStore =
+    SqlMigrationCheckpointStore(jooq, Clock.systemDefaultZone(), defaultPoolName(sqlProperties))
+
   @Bean
   @ConditionalOnProperty("sql.enabled", "sql.secondary.enabled")
   fun secondarySqlStorageService(
@@ -79,4 +115,38 @@ class SqlConfiguration {
       front50SqlProperties
     )
   }
+
+  /**
+   * The change log is only read by caches tailing it, and by the trigger notifying every instance of
+   * changes (which notifies of every object type).
+   */
+  private fun changeLogObjectTypes(
+    properties: StorageServiceConfigurationProperties,
+    notificationsEnabled: Boolean
+  ): Set<ObjectType> =
+    if (notificationsEnabled) {
+      ObjectType.values().toSet()
+    } else {
+      ObjectType.values().filter {
+        when (it) {
+          ObjectType.APPLICATION -> properties.application
+          ObjectType.APPLICATION_PERMISSION -> properties.applicationPermission
+          ObjectType.SERVICE_ACCOUNT -> properties.serviceAccount
+          ObjectType.PROJECT -> properties.project
+          ObjectType.NOTIFICATION -> properties.notification
+          ObjectType.STRATEGY -> properties.pipelineStrategy
+          ObjectType.PIPELINE -> properties.pipeline
+          ObjectType.PIPELINE_TEMPLATE -> properties.pipelineTemplate
+          ObjectType.SNAPSHOT -> properties.snapshot
+          ObjectType.DELIVERY -> properties.deliveryConfig
+          ObjectType.PLUGIN_INFO -> properties.pluginInfo
+          ObjectType.ENTITY_TAGS -> properties.entityTags
+          else -> null
+        }?.isTailChangeLog == true
+      }.toSet()
+    }
+
+  private fun defaultPoolName(sqlProperties: SqlProperties): String =
+    if (sqlProperties.connectionPools.keys.size > 1)
+      sqlProperties.connectionPools.filter { it.value.default }.keys.first() else sqlProperties.connectionPools.keys.first()
 }
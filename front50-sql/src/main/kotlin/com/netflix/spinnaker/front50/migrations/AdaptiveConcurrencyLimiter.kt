@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.front50.migrations
+
+import java.util.concurrent.locks.ReentrantLock
+import kotlin.concurrent.withLock
+import org.slf4j.LoggerFactory
+
+/**
+ * Bounds the number of concurrent migrations, adapting the bound to the error rate observed while
+ * writing to the target store (additive increase, multiplicative decrease).
+ *
+ * Outcomes are evaluated in windows of [windowSize]. A window whose error rate exceeds
+ * [errorRateThreshold] halves the limit, any other window raises it by one, up to [maxConcurrency].
+ */
+class AdaptiveConcurrencyLimiter(
+  private val maxConcurrency: Int,
+  private val errorRateThreshold: Double,
+  private val windowSize: Int = 20
+) {
+
+  companion object {
+    private val log = LoggerFactory.getLogger(AdaptiveConcurrencyLimiter::class.java)
+  }
+
+  private val lock = ReentrantLock()
+  private val permitAvailable = lock.newCondition()
+
+  private var inFlight = 0
+  private var windowOutcomes = 0
+  private var windowErrors = 0
+
+  init {
+    require(maxConcurrency > 0) { "maxConcurrency must be positive" }
+  }
+
+  @Volatile
+  var limit: Int = maxConcurrency
+    private set
+
+  /**
+   * Blocks until fewer than [limit] operations are in flight.
+   */
+  fun acquire() {
+    lock.withLock {
+      while (inFlight >= limit) {
+        permitAvailable.await()
+      }
+      inFlight++
+    }
+  }
+
+  /**
+   * @param success whether the operation succeeded, failures count towards the error rate
+   */
+  fun release(success: Boolean) {
+    lock.withLock {
+      inFlight--
+      windowOutcomes++
+      if (!success) {
+        windowErrors++
+      }
+
+      if (windowOutcomes >= windowSize) {
+        val errorRate = windowErrors.toDouble() / windowOutcomes
+        val previousLimit = limit
+        limit = if (errorRate > errorRateThreshold) {
+          maxOf(1, limit / 2)
+        } else {
+          minOf(maxConcurrency, limit + 1)
+        }
+        if (limit < previousLimit) {
+          log.warn("Reduced migration concurrency from {} to {} (error rate: {})", previousLimit, limit, errorRate)
+        }
+        windowOutcomes = 0
+        windowErrors = 0
+      }
+
+      permitAvailable.signalAll()
+    }
+  }
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.front50.migrations
+
+import com.fasterxml.jackson.databind.MapperFeature
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.fasterxml.jackson.databind.SerializationFeature
+import com.fasterxml.jackson.databind.node.ObjectNode
+import com.google.common.hash.Hasher
+import com.google.common.hash.Hashing
+import com.netflix.spectator.api.Registry
+import com.netflix.spinnaker.front50.model.BulkStorageService
+import com.netflix.spinnaker.front50.model.ObjectType
+import com.netflix.spinnaker.front50.model.StorageService
+import com.netflix.spinnaker.front50.model.tag.EntityTags
+import com.netflix.spinnaker.kork.web.exceptions.NotFoundException
+import java.nio.charset.StandardCharsets
+import org.slf4j.LoggerFactory
+
+/**
+ * Migrates entity tags from a 'source' to a 'target' [StorageService].
+ *
+ * There are far too many entity tags (10-100k+) to migrate them one at a time, along with their
+ * history, like [StorageServiceMigrator] does for other object types. Instead, the keys that need
+ * migrating are processed in key order, a page at a time: each page is loaded from 'source' in
+ * bulk and written to 'target' in bulk (see [BulkStorageService]).
+ *
+ * The last key of every migrated page is saved as a cursor, an interrupted pass resumes after it.
+ * Once a pass completes, 'source' and 'target' are compared by count and by a checksum of their keys.
+ * Their contents (leaving out the timestamps each storage service assigns on write) are only
+ * compared after a pass that migrated something or resumed from a cursor, as that means loading
+ * every entity tag from both.
+ */
+class EntityTagsMigrator(
+  private val source: StorageService,
+  private val target: StorageService,
+  private val checkpointStore: MigrationCheckpointStore,
+  private val registry: Registry,
+  private val pageSize: Int
+) {
+
+  companion object {
+    private val log = LoggerFactory.getLogger(EntityTagsMigrator::class.java)
+
+    private val objectType = ObjectType.ENTITY_TAGS
+
+    /** Serializes entity tags deterministically, so that equal contents hash alike. */
+    private val contentMapper = ObjectMapper()
+      .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true)
+      .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true)
+
+    /** Assigned by a storage service when writing, they differ between 'source' and 'target'. */
+    private val storageAssignedFields = listOf("lastModified", "lastModifiedBy")
+  }
+
+  data class Result(
+    /** the number of entity tags migrated */
+    val migrated: Int,
+
+    /** whether 'target' matched 'source' (by keys, and contents if compared) once the pass completed */
+    val verified: Boolean
+  )
+
+  private val migratorObjectsId = registry
+    .createId("storageServiceMigrator.objects")
+    .withTag("objectType", objectType.name)
+  private val verificationsId = registry
+    .createId("storageServiceMigrator.verifications")
+    .withTag("objectType", objectType.name)
+
+  init {
+    require(pageSize > 0) { "pageSize must be positive" }
+  }
+
+  fun migrate(): Result {
+    val sourceObjectKeys = source.listObjectKeys(objectType)
+    val targetObjectKeys = target.listObjectKeys(objectType)
+
+    val cursor = checkpointStore.loadCursor(objectType)
+    if (cursor != null) {
+      log.info("Resuming migration of {} after {}", objectType, cursor)
+    }
+
+    val migratableObjectKeys = sourceObjectKeys
+      .filter { e ->
+        // same criteria as StorageServiceMigrator, including the buffer for precision loss on s3
+        !targetObjectKeys.containsKey(e.key) || targetObjectKeys[e.key]!! < (e.value - 1500)
+      }
+      .keys
+      .filter { cursor == null || it > cursor }
+      .sorted()
+
+    var migrated = 0
+    migratableObjectKeys.chunked(pageSize).forEach { page ->
+      val entityTags = load(page)
+      try {
+        store(entityTags)
+      } catch (e: Exception) {
+        registry.counter(migratorObjectsId.withTag("success", false)).increment(page.size.toLong())
+        // the next pass resumes from the last page that was migrated
+        throw e
+      }
+      registry.counter(migratorObjectsId.withTag("success", true)).increment(entityTags.size.toLong())
+      migrated += entityTags.size
+
+      checkpointStore.saveCursor(objectType, page.last())
+      log.debug("Migrated {} {} objects (cursor: {})", entityTags.size, objectType, page.last())
+    }
+
+    val verified = verify(sourceObjectKeys.keys, verifyContents = migrated > 0 || cursor != null)
+    checkpointStore.saveCursor(objectType, null)
+
+    log.info(
+      "Migrated {} {} objects (sourceObjectCount: {}, targetObjectCount: {}, verified: {})",
+      migrated,
+      objectType,
+      sourceObjectKeys.size,
+      targetObjectKeys.size,
+      verified
+    )
+    return Result(migrated, verified)
+  }
+
+  private fun load(keys: List<String>, service: StorageService = source): List<EntityTags> =
+    try {
+      service.loadObjects(objectType, keys)
+    } catch (e: UnsupportedOperationException) {
+      keys.mapNotNull {
+        try {
+          service.loadObject<EntityTags>(objectType, it)
+        } catch (nfe: NotFoundException) {
+          // deleted since keys were listed
+          null
+        }
+      }
+    }
+
+  private fun store(entityTags: List<EntityTags>) {
+    if (target is BulkStorageService) {
+      target.storeObjects(objectType, entityTags)
+    } else {
+      entityTags.forEach { target.storeObject(objectType, it.id.toLowerCase(), it) }
+    }
+  }
+
+  /**
+   * Compares the keys of 'target' with those of 'source' (as listed when the pass started), and
+   * optionally the contents of both a page at a time.
+   *
+   * @return true if 'target' holds exactly the same keys (and contents) as 'source'
+   */
+  private fun verify(sourceKeys: Set<String>, verifyContents: Boolean): Boolean {
+    val targetKeys = target.listObjectKeys(objectType).keys
+    val sourceChecksum = checksum(sourceKeys)
+    val targetChecksum = checksum(targetKeys)
+
+    if (!verifyContents) {
+      val verified = sourceKeys.size == targetKeys.size && sourceChecksum == targetChecksum
+      registry.counter(verificationsId.withTag("success", verified)).increment()
+      if (verified) {
+        log.info("Verified {} {} object keys (checksum: {})", sourceKeys.size, objectType, sourceChecksum)
+      } else {
+        log.warn(
+          "Verification of {} keys failed (sourceObjectCount: {}, targetObjectCount: {}, missingObjectCount: {}, " +
+            "sourceChecksum: {}, targetChecksum: {})",
+          objectType,
+          sourceKeys.size,
+          targetKeys.size,
+          sourceKeys.count { !targetKeys.contains(it) },
+          sourceChecksum,
+          targetChecksum
+        )
+      }
+      return verified
+    }
+
+    val sourceContentHasher = Hashing.sha256().newHasher()
+    val targetContentHasher = Hashing.sha256().newHasher()
+    var mismatchedObjectCount = 0
+    (sourceKeys + targetKeys).sorted().chunked(pageSize).forEach { page ->
+      val sourceContents = contentHashes(load(page, source))
+      val targetContents = contentHashes(load(page, target))
+      page.forEach { key ->
+        val sourceContent = sourceContents[key]
+        val targetContent = targetContents[key]
+        sourceContent?.let { sourceContentHasher.putKey(key).putString(it, StandardCharsets.UTF_8) }
+        targetContent?.let { targetContentHasher.putKey(key).putString(it, StandardCharsets.UTF_8) }
+        if (sourceContent != targetContent) {
+          mismatchedObjectCount++
+        }
+      }
+    }
+    val sourceContentChecksum = sourceContentHasher.hash().toString()
+    val targetContentChecksum = targetContentHasher.hash().toString()
+
+    val verified = sourceKeys.size == targetKeys.size &&
+      sourceChecksum == targetChecksum &&
+      sourceContentChecksum == targetContentChecksum
+    registry.counter(verificationsId.withTag("success", verified)).increment()
+    if (verified) {
+      log.info(
+        "Verified {} {} objects (checksum: {}, contentChecksum: {})",
+        sourceKeys.size,
+        objectType,
+        sourceChecksum,
+        sourceContentChecksum
+      )
+    } else {
+      // objects changed since the pass started are expected to be caught up by the next one
+      log.warn(
+        "Verification of {} failed (sourceObjectCount: {}, targetObjectCount: {}, missingObjectCount: {}, " +
+          "mismatchedObjectCount: {}, sourceChecksum: {}, targetChecksum: {}, sourceContentChecksum: {}, " +
+          "targetContentChecksum: {})",
+        objectType,
+        sourceKeys.size,
+        targetKeys.size,
+        sourceKeys.count { !targetKeys.contains(it) },
+        mismatchedObjectCount,
+        sourceChecksum,
+        targetChecksum,
+        sourceContentChecksum,
+        targetContentChecksum
+      )
+    }
+    return verified
+  }
+
+  private fun checksum(keys: Set<String>): String {
+    val hasher = Hashing.sha256().newHasher()
+    keys.sorted().forEach { hasher.putKey(it) }
+    return hasher.hash().toString()
+  }
+
+  /**
+   * @return a hash of the contents of every entity tags by key, excluding [storageAssignedFields]
+   */
+  private fun contentHashes(entityTags: List<EntityTags>): Map<String, String> =
+    entityTags.associate { tags ->
+      val content = contentMapper.valueToTree<ObjectNode>(tags).remove(storageAssignedFields)
+      val hash = Hashing.sha256().hashString(contentMapper.writeValueAsString(content), StandardCharsets.UTF_8)
+      tags.id.toLowerCase() to hash.toString()
+    }
+
+  private fun Hasher.putKey(key: String): Hasher = putString(key, StandardCharsets.UTF_8).putByte(0)
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.front50.migrations
+
+import com.netflix.spinnaker.front50.model.ObjectType
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Persists how far the [StorageServiceMigrator] got migrating each [ObjectType], so that a restarted
+ * migration does not redo work that was already completed.
+ *
+ * A checkpoint is a watermark: every source object last modified at or before it had been migrated
+ * when the checkpoint was saved. Migrations that process objects in key order (see
+ * [EntityTagsMigrator]) instead keep a cursor, the last key of an interrupted pass.
+ */
+interface MigrationCheckpointStore {
+  fun load(objectType: ObjectType): Long?
+
+  fun save(objectType: ObjectType, watermark: Long)
+
+  fun loadCursor(objectType: ObjectType): String?
+
+  /**
+   * @param cursor the key up to which the current pass got, null once the pass has completed
+   */
+  fun saveCursor(objectType: ObjectType, cursor: String?)
+}
+
+/**
+ * Only keeps checkpoints for the lifetime of the process, used when no durable store is available.
+ */
+class InMemoryMigrationCheckpointStore : MigrationCheckpointStore {
+  private val checkpoints = ConcurrentHashMap<ObjectType, Long>()
+  private val cursors = ConcurrentHashMap<ObjectType, String>()
+
+  override fun load(objectType: ObjectType): Long? = checkpoints[objectType]
+
+  override fun save(objectType: ObjectType, watermark: Long) {
+    checkpoints[objectType] = watermark
+  }
+
+  override fun loadCursor(objectType: ObjectType): String? = cursors[objectType]
+
+  override fun saveCursor(objectType: ObjectType, cursor: String?) {
+    if (cursor == null) {
+      cursors.remove(objectType)
+    } else {
+      cursors[objectType] = cursor
+    }
+  }
+}
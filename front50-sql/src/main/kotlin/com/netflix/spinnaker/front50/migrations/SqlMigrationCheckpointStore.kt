@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.front50.migrations
+
+import com.netflix.spinnaker.front50.model.ObjectType
+import com.netflix.spinnaker.kork.sql.routing.withPool
+import java.time.Clock
+import org.jooq.DSLContext
+import org.jooq.impl.DSL.field
+import org.jooq.impl.DSL.table
+
+/**
+ * A [MigrationCheckpointStore] backed by the `migration_checkpoints` table.
+ */
+class SqlMigrationCheckpointStore(
+  private val jooq: DSLContext,
+  private val clock: Clock,
+  private val poolName: String
+) : MigrationCheckpointStore {
+
+  companion object {
+    private val checkpointTable = table("migration_checkpoints")
+    private val objectTypeField = field("object_type", String::class.java)
+    private val watermarkField = field("watermark", Long::class.java)
+    private val resumeKeyField = field("resume_key", String::class.java)
+    private val updatedAtField = field("updated_at", Long::class.java)
+  }
+
+  override fun load(objectType: ObjectType): Long? =
+    withPool(poolName) {
+      jooq
+        .select(watermarkField)
+        .from(checkpointTable)
+        .where(objectTypeField.eq(objectType.name))
+        .fetchOne(watermarkField)
+    }
+
+  override fun save(objectType: ObjectType, watermark: Long) {
+    val now = clock.millis()
+    withPool(poolName) {
+      jooq
+        .insertInto(checkpointTable, objectTypeField, watermarkField, updatedAtField)
+        .values(objectType.name, watermark, now)
+        .onDuplicateKeyUpdate()
+        .set(watermarkField, watermark)
+        .set(updatedAtField, now)
+        .execute()
+    }
+  }
+
+  override fun loadCursor(objectType: ObjectType): String? =
+    withPool(poolName) {
+      jooq
+        .select(resumeKeyField)
+        .from(checkpointTable)
+        .where(objectTypeField.eq(objectType.name))
+        .fetchOne(resumeKeyField)
+    }
+
+  override fun saveCursor(objectType: ObjectType, cursor: String?) {
+    val now = clock.millis()
+    withPool(poolName) {
+      jooq
+        .insertInto(checkpointTable, objectTypeField, watermarkField, resumeKeyField, updatedAtField)
+        .values(objectType.name, 0L, cursor, now)
+        .onDuplicateKeyUpdate()
+        .set(resumeKeyField, cursor)
+        .set(updatedAtField, now)
+        .execute()
+    }
+  }
+}
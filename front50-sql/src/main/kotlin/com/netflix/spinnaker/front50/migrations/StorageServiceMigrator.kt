@@ -16,29 +16,40 @@
 
 package com.netflix.spinnaker.front50.migrations
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder
 import com.netflix.spectator.api.Registry
+import com.netflix.spinnaker.config.StorageServiceMigratorConfigurationProperties
 import com.netflix.spinnaker.front50.model.ObjectType
 import com.netflix.spinnaker.front50.model.StorageService
 import com.netflix.spinnaker.front50.api.model.Timestamped
 import com.netflix.spinnaker.front50.model.tag.EntityTagsDAO
 import com.netflix.spinnaker.kork.dynamicconfig.DynamicConfigService
 import com.netflix.spinnaker.kork.web.context.RequestContextProvider
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.Executors
 import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicLong
 import kotlin.system.measureTimeMillis
-import kotlinx.coroutines.GlobalScope
-import kotlinx.coroutines.async
-import kotlinx.coroutines.awaitAll
-import kotlinx.coroutines.runBlocking
 import org.slf4j.LoggerFactory
 import org.springframework.scheduling.annotation.Scheduled
 
+/**
+ * Copies objects from a 'source' to a 'target' [StorageService].
+ *
+ * At most [StorageServiceMigratorConfigurationProperties.concurrency] objects are migrated
+ * concurrently, fewer while writes to 'target' fail (see [AdaptiveConcurrencyLimiter]). Objects are
+ * migrated oldest first and progress is periodically saved to a [MigrationCheckpointStore], so that
+ * a restarted migration picks up where the previous one left off.
+ */
 class StorageServiceMigrator(
   private val dynamicConfigService: DynamicConfigService,
   private val registry: Registry,
   private val target: StorageService,
   private val source: StorageService,
   private val entityTagsDAO: EntityTagsDAO,
-  private val contextProvider: RequestContextProvider
+  private val contextProvider: RequestContextProvider,
+  private val checkpointStore: MigrationCheckpointStore = InMemoryMigrationCheckpointStore(),
+  private val properties: StorageServiceMigratorConfigurationProperties = StorageServiceMigratorConfigurationProperties()
 ) {
 
   companion object {
@@ -46,6 +57,31 @@ class StorageServiceMigrator(
   }
 
   var migratorObjectsId = registry.createId("storageServiceMigrator.objects")
+  private val migratorPendingObjectsId = registry.createId("storageServiceMigrator.pendingObjects")
+  private val migratorDurationId = registry.createId("storageServiceMigrator.duration")
+
+  private val limiter = AdaptiveConcurrencyLimiter(properties.concurrency, properties.errorRateThreshold)
+  private val executor = Executors.newFixedThreadPool(
+    properties.concurrency,
+    ThreadFactoryBuilder()
+      .setNameFormat(StorageServiceMigrator::class.java.simpleName + "-%d")
+      .setDaemon(true)
+      .build()
+  )
+  private val pendingObjects = ConcurrentHashMap<ObjectType, AtomicLong>()
+  private val entityTagsMigrator = EntityTagsMigrator(
+    source,
+    target,
+    checkpointStore,
+    registry,
+    properties.entityTagsPageSize
+  )
+
+  init {
+    registry.gauge(registry.createId("storageServiceMigrator.concurrencyLimit"), limiter) {
+      it.limit.toDouble()
+    }
+  }
 
   fun migrate(objectType: ObjectType) {
     log.info("Migrating {}", objectType)
@@ -94,6 +130,7 @@ class StorageServiceMigrator(
       log.info("Not deleting orphaned objects in {} as deleteOrphans is disabled", source.javaClass.simpleName)
     }
 
+    val checkpoint = checkpointStore.load(objectType)
     val migratableObjectKeys = sourceObjectKeys.filter { e ->
       /*
        * A migratable object is one that:
@@ -101,84 +138,131 @@ class StorageServiceMigrator(
        * or
        * - has been more recently modified in 'source'
        *   (with "some" buffer to account for precision loss on s3 due to RFC 1123 being used for last modified values)
+       *   and has not already been migrated by a previous pass (see checkpoint)
        */
-      !targetObjectKeys.containsKey(e.key) || targetObjectKeys[e.key]!! < (e.value - 1500)
+      !targetObjectKeys.containsKey(e.key) ||
+        ((checkpoint == null || e.value > checkpoint) && targetObjectKeys[e.key]!! < (e.value - 1500))
     }
 
-    if (migratableObjectKeys.isEmpty()) {
+    // oldest first, which allows the checkpoint to advance as the migration progresses
+    val keys = migratableObjectKeys.entries.sortedBy { it.value }
+    val progress = MigrationProgress(
+      keys.map { it.value },
+      sourceObjectKeys.values.maxOrNull() ?: 0
+    ) { saveCheckpoint(objectType, it) }
+
+    if (keys.isEmpty()) {
       log.info(
         "No objects to migrate (objectType: {}, sourceObjectCount: {}, targetObjectCount: {})",
         objectType,
         sourceObjectKeys.size,
         targetObjectKeys.size
       )
+      progress.checkpoint()
 
       return
     }
 
-    val deferred = migratableObjectKeys.keys.map { key ->
-      GlobalScope.async {
-        try {
-          val maxObjectVersions = if (objectType == ObjectType.ENTITY_TAGS) {
-            // current thinking is that ENTITY_TAGS will be separately migrated due to their volume (10-100k+)
-            1
-          } else {
-            // the history api defaults to returning 20 records so its arguably unnecessary to migrate much more than that
-            30
+    val pending = pendingObjects.computeIfAbsent(objectType) {
+      registry.gauge(migratorPendingObjectsId.withTag("objectType", it.name), AtomicLong())
+    }
+    pending.set(keys.size.toLong())
+
+    val migrationDurationMs = measureTimeMillis {
+      val futures = keys.mapIndexed { index, (key, _) ->
+        limiter.acquire()
+        executor.submit(Runnable {
+          var success = false
+          try {
+            success = migrateObject(objectType, key, targetObjectKeys[key])
+          } finally {
+            limiter.release(success)
+            pending.decrementAndGet()
+            progress.completed(index, success)
           }
+        })
+      }
+      futures.forEach { it.get() }
+    }
+    progress.checkpoint()
+
+    registry.timer(migratorDurationId.withTag("objectType", objectType.name))
+      .record(migrationDurationMs, TimeUnit.MILLISECONDS)
+    log.info(
+      "Migration of {} took {}ms (objectCount: {}, concurrencyLimit: {})",
+      objectType,
+      migrationDurationMs,
+      keys.size,
+      limiter.limit
+    )
+  }
+
+  /**
+   * @param targetLastModified when the object was last modified in 'target', if it exists there
+   * @return true if every version of the object was migrated
+   */
+  private fun migrateObject(objectType: ObjectType, key: String, targetLastModified: Long?): Boolean {
+    try {
+      val maxObjectVersions = if (objectType == ObjectType.ENTITY_TAGS) {
+        // ENTITY_TAGS are migrated separately due to their volume (10-100k+), see EntityTagsMigrator
+        1
+      } else {
+        // the history api defaults to returning 20 records so its arguably unnecessary to migrate much more than that
+        properties.maxObjectVersions
+      }
 
-          val objectVersions = mutableListOf<Timestamped>()
+      val objectVersions = mutableListOf<Timestamped>()
 
+      try {
+        objectVersions.addAll(source.listObjectVersions<Timestamped>(objectType, key, maxObjectVersions))
+      } catch (e: Exception) {
+        log.warn(
+          "Unable to list object versions (objectType: {}, objectKey: {}), reason: {}",
+          objectType,
+          key,
+          e.message
+        )
+
+        // we have a number of objects in our production bucket with broken permissions that prevent version lookups
+        // but can be fetched directly w/o versions
+        objectVersions.add(source.loadObject(objectType, key))
+      }
+
+      objectVersions.reversed()
+        .filter {
+          // versions that are already in 'target' were copied by an earlier, interrupted, attempt
+          targetLastModified == null || it.lastModified == null || it.lastModified > targetLastModified
+        }
+        .forEach { obj ->
           try {
-            objectVersions.addAll(source.listObjectVersions<Timestamped>(objectType, key, maxObjectVersions))
+            contextProvider.get().setUser(obj.lastModifiedBy)
+            target.storeObject(objectType, key, obj)
+            registry.counter(
+              migratorObjectsId.withTag("objectType", objectType.name).withTag("success", true)
+            ).increment()
           } catch (e: Exception) {
-            log.warn(
-              "Unable to list object versions (objectType: {}, objectKey: {}), reason: {}",
-              objectType,
-              key,
-              e.message
-            )
-
-            // we have a number of objects in our production bucket with broken permissions that prevent version lookups
-            // but can be fetched directly w/o versions
-            objectVersions.add(source.loadObject(objectType, key))
-          }
+            registry.counter(
+              migratorObjectsId.withTag("objectType", objectType.name).withTag("success", false)
+            ).increment()
 
-          objectVersions.reversed().forEach { obj ->
-            try {
-              contextProvider.get().setUser(obj.lastModifiedBy)
-              target.storeObject(objectType, key, obj)
-              registry.counter(
-                migratorObjectsId.withTag("objectType", objectType.name).withTag("success", true)
-              ).increment()
-            } catch (e: Exception) {
-              registry.counter(
-                migratorObjectsId.withTag("objectType", objectType.name).withTag("success", false)
-              ).increment()
-
-              throw e
-            } finally {
-              contextProvider.get().setUser(null)
-            }
+            throw e
+          } finally {
+            contextProvider.get().setUser(null)
           }
-        } catch (e: Exception) {
-          log.error("Unable to migrate (objectType: {}, objectKey: {})", objectType, key, e)
         }
-      }
+      return true
+    } catch (e: Exception) {
+      log.error("Unable to migrate (objectType: {}, objectKey: {})", objectType, key, e)
+      return false
     }
+  }
 
-    val migrationDurationMs = measureTimeMillis {
-      runBlocking {
-        deferred.awaitAll()
-      }
+  private fun saveCheckpoint(objectType: ObjectType, watermark: Long) {
+    try {
+      checkpointStore.save(objectType, watermark)
+    } catch (e: Exception) {
+      log.warn("Unable to save migration checkpoint (objectType: {}, watermark: {})", objectType, watermark, e)
     }
-
-    log.info(
-      "Migration of {} took {}ms (objectCount: {})",
-      objectType,
-      migrationDurationMs,
-      migratableObjectKeys.size
-    )
   }
 
   @Scheduled(fixedDelay = 60000)
@@ -191,7 +275,7 @@ class StorageServiceMigrator(
     val migrationDurationMs = measureTimeMillis {
       ObjectType.values().forEach {
         if (it != ObjectType.ENTITY_TAGS) {
-          // need an alternative/more performant strategy for entity tags
+          // entity tags are migrated separately, in bulk (see migrateEntityTags())
           migrate(it)
         }
       }
@@ -209,7 +293,7 @@ class StorageServiceMigrator(
 
     val migrationDurationMs = measureTimeMillis {
       try {
-        migrate(ObjectType.ENTITY_TAGS)
+        entityTagsMigrator.migrate()
       } catch (e: Exception) {
         log.info("Entity Tags Migration failed", e)
       }
@@ -218,3 +302,53 @@ class StorageServiceMigrator(
     log.info("Entity Tags Migration complete in {}ms", migrationDurationMs)
   }
 }
+
+/**
+ * Tracks which of the (oldest first) migratable objects have been migrated, in order to derive the
+ * checkpoint: the watermark at or below which every source object has been migrated.
+ */
+private class MigrationProgress(
+  private val lastModifieds: List<Long>,
+  private val maxSourceLastModified: Long,
+  private val saveCheckpoint: (Long) -> Unit
+) {
+  companion object {
+    /**
+     * How many objects are migrated between saving two checkpoints.
+     */
+    private const val CHECKPOINT_INTERVAL = 100
+  }
+
+  private val succeeded = BooleanArray(lastModifieds.size)
+  private var migrated = 0 // length of the prefix of objects that have all been migrated
+  private var completedSinceCheckpoint = 0
+
+  @Synchronized
+  fun completed(index: Int, success: Boolean) {
+    succeeded[index] = success
+    while (migrated < succeeded.size && succeeded[migrated]) {
+      migrated++
+    }
+
+    if (++completedSinceCheckpoint >= CHECKPOINT_INTERVAL) {
+      checkpoint()
+    }
+  }
+
+  /**
+   * Checkpoints are saved while holding the lock, so that they are never saved out of order.
+   */
+  @Synchronized
+  fun checkpoint() {
+    completedSinceCheckpoint = 0
+    saveCheckpoint(
+      if (migrated < lastModifieds.size) {
+        // objects last modified at the same time as the first one that was not migrated may not have been either
+        lastModifieds[migrated] - 1
+      } else {
+        maxSourceLastModified
+      }
+    )
+  }
+}
+
@@ -120,6 +120,11 @@ class CompositeStorageService(
     previous.deleteObject(objectType, objectKey)
   }
 
+  override fun bulkDeleteObjects(objectType: ObjectType, objectKeys: Collection<String>) {
+    primary.bulkDeleteObjects(objectType, objectKeys)
+    previous.bulkDeleteObjects(objectType, objectKeys)
+  }
+
   override fun <T : Timestamped?> storeObject(objectType: ObjectType?, objectKey: String?, item: T) {
     try {
       /*
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.front50.model
+
+import com.google.common.hash.Hashing
+import com.google.common.util.concurrent.ThreadFactoryBuilder
+import com.netflix.spinnaker.config.Front50SqlProperties
+import com.netflix.spinnaker.front50.locks.KeyedLockManager
+import com.netflix.spinnaker.kork.exceptions.SystemException
+import com.netflix.spinnaker.kork.sql.routing.withPool
+import java.nio.charset.StandardCharsets
+import java.time.Clock
+import java.util.UUID
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.function.Supplier
+import org.jooq.DSLContext
+import org.jooq.impl.DSL.field
+import org.jooq.impl.DSL.table
+import org.slf4j.LoggerFactory
+
+/**
+ * A [KeyedLockManager] whose locks are held across every instance sharing the database.
+ *
+ * A lock is a row of the `keyed_locks` table, acquired by inserting it. Locks are leased rather
+ * than held indefinitely, so that an instance that dies while holding a lock does not block others
+ * for longer than [Front50SqlProperties.Locks.leaseMillis]. Leases of held locks are renewed in the
+ * background. A lock whose lease lapsed regardless (and may have been taken over) is logged once the
+ * locked operation completes, without failing it as its writes have already been committed. Callers on the same instance are first serialized by
+ * [localLocks], so only one of them at a time competes for a database lock.
+ */
+class SqlKeyedLockManager(
+  private val jooq: DSLContext,
+  private val clock: Clock,
+  private val poolName: String,
+  private val properties: Front50SqlProperties.Locks,
+  private val localLocks: KeyedLockManager
+) : KeyedLockManager {
+
+  companion object {
+    private val log = LoggerFactory.getLogger(SqlKeyedLockManager::class.java)
+
+    private const val MAX_KEY_LENGTH = 255
+
+    private val lockTable = table("keyed_locks")
+    private val lockKeyField = field("lock_key", String::class.java)
+    private val ownerField = field("owner", String::class.java)
+    private val expiresAtField = field("expires_at", Long::class.java)
+  }
+
+  private val owner = UUID.randomUUID().toString()
+
+  /** Locks currently held by this instance, their leases are renewed by [renewLeases]. */
+  private val heldLockKeys = ConcurrentHashMap.newKeySet<String>()
+
+  private val leaseRenewer = Executors.newSingleThreadScheduledExecutor(
+    ThreadFactoryBuilder()
+      .setNameFormat(SqlKeyedLockManager::class.java.simpleName + "-%d")
+      .setDaemon(true)
+      .build()
+  )
+
+  init {
+    // renewing well before a lease runs out leaves room for a renewal or two to fail
+    val renewIntervalMillis = maxOf(1, properties.leaseMillis / 3)
+    leaseRenewer.scheduleWithFixedDelay(
+      { renewLeases() },
+      renewIntervalMillis,
+      renewIntervalMillis,
+      TimeUnit.MILLISECONDS
+    )
+  }
+
+  override fun <T> withLocks(keys: Collection<String>, action: Supplier<T>): T =
+    localLocks.withLocks(
+      keys,
+      Supplier {
+        // acquiring locks in a consistent order is what keeps overlapping acquisitions deadlock free
+        val lockKeys = keys.map { lockKey(it) }.toSortedSet().toList()
+        val acquired = mutableListOf<String>()
+        try {
+          acquire(lockKeys, acquired)
+          val result = action.get()
+
+          val released = release(acquired)
+          val lapsed = acquired.size - (released ?: acquired.size)
+          acquired.clear()
+          if (lapsed > 0) {
+            // someone else may have acted under the same locks concurrently
+            log.error("{} of the leases of locks {} lapsed while held", lapsed, lockKeys)
+          }
+          result
+        } finally {
+          release(acquired)
+        }
+      }
+    )
+
+  /**
+   * Acquires [lockKeys] (in order), adding every lock that was acquired to [acquired].
+   *
+   * Every attempt tries to acquire all of the missing locks at once. Of the locks it acquired, only
+   * those preceding the first one held by someone else are kept, so that locks are only ever waited
+   * for while holding locks that sort before them.
+   */
+  private fun acquire(lockKeys: List<String>, acquired: MutableList<String>) {
+    val deadline = clock.millis() + properties.timeoutMillis
+    var pending = lockKeys
+    while (true) {
+      val held = tryAcquire(pending)
+      val kept = pending.takeWhile { it in held }
+      acquired.addAll(kept)
+      heldLockKeys.addAll(kept)
+
+      pending = pending.drop(kept.size)
+      if (pending.isEmpty()) {
+        return
+      }
+      release(pending.filter { it in held })
+
+      if (clock.millis() >= deadline) {
+        throw SystemException("Timed out waiting for lock ${pending.first()}").setRetryable(true)
+      }
+      Thread.sleep(properties.retryIntervalMillis)
+    }
+  }
+
+  /**
+   * @return those of [lockKeys] that are held by this instance
+   */
+  private fun tryAcquire(lockKeys: List<String>): Set<String> {
+    val now = clock.millis()
+    return withPool(poolName) {
+      // take over the locks of an instance that did not release them in time
+      val expired = jooq
+        .deleteFrom(lockTable)
+        .where(lockKeyField.`in`(lockKeys).and(expiresAtField.lt(now)))
+        .execute()
+      if (expired > 0) {
+        log.warn("{} of locks {} were not released before their lease expired", expired, lockKeys)
+      }
+
+      var insert = jooq.insertInto(lockTable, lockKeyField, ownerField, expiresAtField)
+      lockKeys.forEach { insert = insert.values(it, owner, now + properties.leaseMillis) }
+      insert.onDuplicateKeyIgnore().execute()
+
+      jooq
+        .select(lockKeyField)
+        .from(lockTable)
+        .where(lockKeyField.`in`(lockKeys).and(ownerField.eq(owner)))
+        .fetch(lockKeyField)
+        .toSet()
+    }
+  }
+
+  /**
+   * @return how many of [lockKeys] were still held by this instance, null if that is unknown
+   */
+  private fun release(lockKeys: Collection<String>): Int? {
+    if (lockKeys.isEmpty()) {
+      return 0
+    }
+
+    heldLockKeys.removeAll(lockKeys)
+    return try {
+      withPool(poolName) {
+        jooq
+          .deleteFrom(lockTable)
+          .where(lockKeyField.`in`(lockKeys).and(ownerField.eq(owner)))
+          .execute()
+      }
+    } catch (e: Exception) {
+      // the leases will expire eventually
+      log.error("Unable to release locks {}", lockKeys, e)
+      null
+    }
+  }
+
+  /** Extends the leases of every held lock, so that long running operations do not outlive them. */
+  private fun renewLeases() {
+    val lockKeys = heldLockKeys.toList()
+    if (lockKeys.isEmpty()) {
+      return
+    }
+
+    try {
+      val renewed = withPool(poolName) {
+        jooq
+          .update(lockTable)
+          .set(expiresAtField, clock.millis() + properties.leaseMillis)
+          .where(lockKeyField.`in`(lockKeys).and(ownerField.eq(owner)))
+          .execute()
+      }
+      if (renewed < lockKeys.size) {
+        // either released in the meantime, or lost (which fails the locked operation)
+        log.debug("Renewed the leases of {} of locks {}", renewed, lockKeys)
+      }
+    } catch (e: Exception) {
+      log.error("Unable to renew the leases of locks {}", lockKeys, e)
+    }
+  }
+
+  /** Stops renewing leases, invoked by Spring (as the inferred destroy method of the bean). */
+  fun shutdown() {
+    leaseRenewer.shutdownNow()
+  }
+
+  private fun lockKey(key: String): String {
+    val normalized = key.toLowerCase()
+    return if (normalized.length <= MAX_KEY_LENGTH) {
+      normalized
+    } else {
+      "sha256:" + Hashing.sha256().hashString(normalized, StandardCharsets.UTF_8).toString()
+    }
+  }
+}
@@ -22,6 +22,8 @@ import com.netflix.spectator.api.Id
 import com.netflix.spectator.api.Registry
 import com.netflix.spinnaker.config.Front50SqlProperties
 import com.netflix.spinnaker.front50.api.model.Timestamped
+import com.netflix.spinnaker.front50.model.ChangeLogStorageService.ObjectChange
+import com.netflix.spinnaker.front50.model.ChangeLogStorageService.SequenceRange
 import com.netflix.spinnaker.front50.model.ObjectType.APPLICATION
 import com.netflix.spinnaker.front50.model.ObjectType.APPLICATION_PERMISSION
 import com.netflix.spinnaker.front50.model.ObjectType.DELIVERY
@@ -58,6 +60,7 @@ import org.jooq.impl.DSL.field
 import org.jooq.impl.DSL.max
 import org.jooq.impl.DSL.table
 import org.slf4j.LoggerFactory
+import org.springframework.scheduling.annotation.Scheduled
 
 class SqlStorageService(
   private val objectMapper: ObjectMapper,
@@ -68,7 +71,7 @@ class SqlStorageService(
   private val chunkSize: Int,
   private val poolName: String,
   private val front50SqlProperties: Front50SqlProperties
-) : StorageService, BulkStorageService, AdminOperations {
+) : StorageService, BulkStorageService, ChangeLogStorageService, AdminOperations {
 
   companion object {
     private val log = LoggerFactory.getLogger(SqlStorageService::class.java)
@@ -91,10 +94,22 @@ class SqlStorageService(
 
     private val bodyField = field("body", String::class.java)
     private val lastModifiedField = field("last_modified_at", Long::class.java)
+
+    private val changeLogTable = table("object_change_log")
+    private val changeLogSequenceField = field("sequence", Long::class.java)
+    private val changeLogObjectTypeField = field("object_type", String::class.java)
+    private val changeLogObjectIdField = field("object_id", String::class.java)
+    private val changeLogRecordedAtField = field("recorded_at", Long::class.java)
   }
 
   private val invalidJsonCounterId: Id = registry.createId("sqlStorageService.invalidJson");
 
+  /**
+   * Object types whose changes are recorded in the change log, only needed by those that are tailed
+   * (see ChangeLogTailer) or pushed to other instances.
+   */
+  var changeLogObjectTypes: Set<ObjectType> = ObjectType.values().toSet()
+
   override fun supportsVersioning(): Boolean {
     return true
   }
@@ -253,6 +268,37 @@ class SqlStorageService(
             .where(field("id", String::class.java).eq(objectKey))
             .execute()
         }
+
+        recordChanges(ctx, objectType, listOf(objectKey))
+      }
+    }
+  }
+
+  override fun bulkDeleteObjects(objectType: ObjectType, objectKeys: Collection<String>) {
+    if (objectKeys.isEmpty()) {
+      return
+    }
+
+    withPool(poolName) {
+      jooq.transactional(sqlRetryProperties.transactions) { ctx ->
+        // all or nothing, chunked to bound the size of every statement
+        objectKeys.distinct().chunked(chunkSize).forEach { keys ->
+          if (definitionsByType[objectType]!!.supportsHistory) {
+            ctx
+              .update(table(definitionsByType[objectType]!!.tableName))
+              .set(field("is_deleted", Boolean::class.java), true)
+              .set(field("last_modified_at", Long::class.java), clock.millis())
+              .where(field("id", String::class.java).`in`(keys))
+              .execute()
+          } else {
+            ctx
+              .delete(table(definitionsByType[objectType]!!.tableName))
+              .where(field("id", String::class.java).`in`(keys))
+              .execute()
+          }
+
+          recordChanges(ctx, objectType, keys)
+        }
       }
     }
   }
@@ -309,6 +355,8 @@ class SqlStorageService(
               }
             }
           }
+
+          recordChanges(ctx, objectType, items.map { it.id.toLowerCase() })
         }
       }
     }
@@ -354,6 +402,8 @@ class SqlStorageService(
               storeSingleObjectHistory(objectType, objectKey, item)
             }
           }
+
+          recordChanges(ctx, objectType, listOf(objectKey))
         }
       }
     } catch (e: Exception) {
@@ -466,11 +516,89 @@ class SqlStorageService(
         if (updatedCount == 0) {
           throw NotFoundException("Object ${operation.objectType}:${operation.objectId} was not found")
         }
+
+        recordChanges(ctx, objectType, listOf(operation.objectId.toLowerCase()))
       }
     }
     log.info("Object ${operation.objectType}:${operation.objectId} was recovered")
   }
 
+  override fun getLatestChangeSequence(): Long {
+    return withPool(poolName) {
+      jooq.withRetry(sqlRetryProperties.reads) { ctx ->
+        ctx
+          .select(max(changeLogSequenceField))
+          .from(changeLogTable)
+          .fetchOne(0, Long::class.java)
+      }
+    } ?: 0L
+  }
+
+  override fun loadChanges(sequences: List<SequenceRange>, limit: Int): List<ObjectChange> {
+    if (sequences.isEmpty()) {
+      return emptyList()
+    }
+
+    val result = withPool(poolName) {
+      jooq.withRetry(sqlRetryProperties.reads) { ctx ->
+        ctx
+          .select(changeLogSequenceField, changeLogObjectTypeField, changeLogObjectIdField)
+          .from(changeLogTable)
+          .where(DSL.or(sequences.map { changeLogSequenceField.between(it.from, it.to) }))
+          .orderBy(changeLogSequenceField)
+          .limit(limit)
+          .fetch()
+      }
+    }
+
+    return result.map {
+      ObjectChange(
+        it.get(changeLogSequenceField),
+        ObjectType.valueOf(it.get(changeLogObjectTypeField)),
+        it.get(changeLogObjectIdField)
+      )
+    }
+  }
+
+  /**
+   * Prune change log entries older than `sql.change-log-retention-millis`.
+   */
+  @Scheduled(fixedDelayString = "\${sql.change-log-prune-interval-millis:3600000}")
+  fun pruneChangeLog() {
+    val threshold = clock.millis() - front50SqlProperties.changeLogRetentionMillis
+    val deletedCount = withPool(poolName) {
+      jooq.withRetry(sqlRetryProperties.transactions) { ctx ->
+        ctx
+          .delete(changeLogTable)
+          .where(changeLogRecordedAtField.lt(threshold))
+          .execute()
+      }
+    }
+
+    log.debug("Pruned {} change log entries recorded before {}", deletedCount, threshold)
+  }
+
+  /**
+   * Record changes to [objectKeys] in the change log, as part of the transaction making them.
+   *
+   * This is the last statement of every writing transaction, minimizing the time between a sequence
+   * number being assigned and the change becoming visible.
+   */
+  private fun recordChanges(ctx: DSLContext, objectType: ObjectType, objectKeys: Collection<String>) {
+    if (objectKeys.isEmpty() || objectType !in changeLogObjectTypes) {
+      return
+    }
+
+    val recordedAt = clock.millis()
+    objectKeys
+      .fold(
+        ctx.insertInto(changeLogTable, changeLogObjectTypeField, changeLogObjectIdField, changeLogRecordedAtField)
+      ) { insert, objectKey ->
+        insert.values(objectType.name, objectKey, recordedAt)
+      }
+      .execute()
+  }
+
   private fun storeSingleObject(objectType: ObjectType, objectKey: String, item: Timestamped) {
     val insertPairs = definitionsByType[objectType]!!.getInsertPairs(objectMapper, objectKey, item)
     val updatePairs = definitionsByType[objectType]!!.getUpdatePairs(insertPairs)
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.front50.migrations
+
+import com.netflix.spectator.api.NoopRegistry
+import com.netflix.spinnaker.front50.model.ObjectType
+import com.netflix.spinnaker.front50.model.SqlStorageService
+import com.netflix.spinnaker.front50.model.StorageService
+import com.netflix.spinnaker.front50.model.tag.EntityTags
+import dev.minutest.junit.JUnit5Minutests
+import dev.minutest.rootContext
+import io.mockk.*
+import strikt.api.expectThat
+import strikt.api.expectThrows
+import strikt.assertions.isEqualTo
+import strikt.assertions.isFalse
+import strikt.assertions.isNull
+
+class EntityTagsMigratorTests : JUnit5Minutests {
+  private val source: StorageService = mockk(relaxUnitFun = true)
+  private val target: SqlStorageService = mockk(relaxUnitFun = true)
+
+  private val checkpointStore = InMemoryMigrationCheckpointStore()
+
+  private val subject = EntityTagsMigrator(source, target, checkpointStore, NoopRegistry(), 2)
+
+  fun tests() = rootContext {
+    after {
+      clearMocks(source, target)
+      checkpointStore.saveCursor(ObjectType.ENTITY_TAGS, null)
+    }
+
+    before {
+      every {
+        source.listObjectKeys(ObjectType.ENTITY_TAGS)
+      } returns mapOf("a" to 100_000L, "b" to 100_000L, "c" to 100_000L, "d" to 100_000L, "e" to 100_000L)
+
+      every {
+        source.loadObjects<EntityTags>(ObjectType.ENTITY_TAGS, any())
+      } answers { secondArg<List<String>>().map { entityTags(it) } }
+
+      // storage services assign timestamps of their own when writing, which verification ignores
+      every {
+        target.loadObjects<EntityTags>(ObjectType.ENTITY_TAGS, any())
+      } answers {
+        secondArg<List<String>>().map {
+          entityTags(it).apply {
+            lastModified = 200_000L
+            lastModifiedBy = "migrator"
+          }
+        }
+      }
+    }
+
+    context("migrate()") {
+      test("should only migrate missing or outdated entity tags, a page at a time") {
+        every {
+          target.listObjectKeys(ObjectType.ENTITY_TAGS)
+        } returns mapOf("a" to 100_000L, "b" to 1L, "d" to 99_000L)
+
+        expectThat(subject.migrate().migrated).isEqualTo(3)
+
+        verifyOrder {
+          target.listObjectKeys(ObjectType.ENTITY_TAGS)
+          target.storeObjects(ObjectType.ENTITY_TAGS, match<List<EntityTags>> { ids(it) == listOf("b", "c") })
+          target.storeObjects(ObjectType.ENTITY_TAGS, match<List<EntityTags>> { ids(it) == listOf("e") })
+          target.listObjectKeys(ObjectType.ENTITY_TAGS)
+        }
+        verify(exactly = 2) {
+          target.storeObjects(ObjectType.ENTITY_TAGS, any())
+        }
+
+        // the pass completed
+        expectThat(checkpointStore.loadCursor(ObjectType.ENTITY_TAGS)).isNull()
+      }
+
+      test("should resume after the saved cursor") {
+        checkpointStore.saveCursor(ObjectType.ENTITY_TAGS, "c")
+
+        every {
+          target.listObjectKeys(ObjectType.ENTITY_TAGS)
+        } returns mapOf("a" to 100_000L, "b" to 100_000L, "c" to 100_000L)
+
+        expectThat(subject.migrate().migrated).isEqualTo(2)
+
+        verify(exactly = 1) {
+          target.storeObjects(ObjectType.ENTITY_TAGS, match<List<EntityTags>> { ids(it) == listOf("d", "e") })
+        }
+      }
+
+      test("should keep the cursor of the last migrated page when a page fails") {
+        every {
+          target.listObjectKeys(ObjectType.ENTITY_TAGS)
+        } returns mapOf()
+
+        every {
+          target.storeObjects(ObjectType.ENTITY_TAGS, match<List<EntityTags>> { ids(it) == listOf("c", "d") })
+        } throws IllegalStateException("failed")
+
+        expectThrows<IllegalStateException> { subject.migrate() }
+
+        expectThat(checkpointStore.loadCursor(ObjectType.ENTITY_TAGS)).isEqualTo("b")
+      }
+
+      test("should verify that target matches source once the pass completes") {
+        every {
+          target.listObjectKeys(ObjectType.ENTITY_TAGS)
+        } returns mapOf("a" to 100_000L, "b" to 100_000L, "c" to 100_000L, "d" to 100_000L, "e" to 100_000L)
+
+        expectThat(subject.migrate()).isEqualTo(EntityTagsMigrator.Result(migrated = 0, verified = true))
+
+        // nothing was migrated, contents are not compared
+        verify(exactly = 0) {
+          source.loadObjects<EntityTags>(ObjectType.ENTITY_TAGS, any())
+          target.loadObjects<EntityTags>(ObjectType.ENTITY_TAGS, any())
+        }
+      }
+
+      test("should flag a target whose keys differ from source") {
+        every {
+          target.listObjectKeys(ObjectType.ENTITY_TAGS)
+        } returns mapOf("a" to 100_000L, "b" to 100_000L, "c" to 100_000L, "d" to 100_000L, "e" to 100_000L, "f" to 1L)
+
+        expectThat(subject.migrate().verified).isFalse()
+      }
+
+      test("should flag a target whose contents differ from source once something was migrated") {
+        every {
+          target.listObjectKeys(ObjectType.ENTITY_TAGS)
+        } returns mapOf("a" to 100_000L, "b" to 100_000L, "c" to 100_000L, "d" to 100_000L, "e" to 1L)
+
+        every {
+          target.loadObjects<EntityTags>(ObjectType.ENTITY_TAGS, any())
+        } answers {
+          secondArg<List<String>>().map { key ->
+            entityTags(key).apply {
+              if (key == "c") {
+                idPattern = "{{entityType}}__{{entityId}}"
+              }
+            }
+          }
+        }
+
+        expectThat(subject.migrate()).isEqualTo(EntityTagsMigrator.Result(migrated = 1, verified = false))
+      }
+
+      test("should load entity tags one at a time when bulk loads are unsupported") {
+        every {
+          target.listObjectKeys(ObjectType.ENTITY_TAGS)
+        } returns mapOf("a" to 100_000L, "b" to 100_000L, "c" to 100_000L, "d" to 100_000L)
+
+        every {
+          source.loadObjects<EntityTags>(ObjectType.ENTITY_TAGS, any())
+        } throws UnsupportedOperationException()
+
+        every {
+          source.loadObject<EntityTags>(ObjectType.ENTITY_TAGS, any())
+        } answers { entityTags(secondArg()) }
+
+        expectThat(subject.migrate().migrated).isEqualTo(1)
+
+        verify(exactly = 1) {
+          target.storeObjects(ObjectType.ENTITY_TAGS, match<List<EntityTags>> { ids(it) == listOf("e") })
+        }
+      }
+    }
+  }
+
+  private fun entityTags(id: String) = EntityTags().apply {
+    this.id = id
+    this.lastModified = 100_000L
+  }
+
+  private fun ids(entityTags: List<EntityTags>) = entityTags.map { it.id }
+}
@@ -17,6 +17,8 @@
 package com.netflix.spinnaker.front50.migrations
 
 import com.netflix.spectator.api.NoopRegistry
+import com.netflix.spinnaker.front50.api.model.Timestamped
+import com.netflix.spinnaker.front50.api.model.pipeline.Pipeline
 import com.netflix.spinnaker.front50.model.ObjectType
 import com.netflix.spinnaker.front50.model.SqlStorageService
 import com.netflix.spinnaker.front50.model.tag.EntityTagsDAO
@@ -26,6 +28,8 @@ import dev.minutest.junit.JUnit5Minutests
 import dev.minutest.rootContext
 import io.mockk.*
 import java.util.concurrent.TimeUnit
+import strikt.api.expectThat
+import strikt.assertions.isEqualTo
 
 class StorageServiceMigratorTests : JUnit5Minutests {
   private val dynamicConfigService: DynamicConfigService = mockk(relaxUnitFun = true)
@@ -34,7 +38,11 @@ class StorageServiceMigratorTests : JUnit5Minutests {
   private val entityTagsDAO: EntityTagsDAO = mockk(relaxUnitFun = true)
   private val contextProvider: RequestContextProvider = mockk(relaxUnitFun = true)
 
-  private val subject = StorageServiceMigrator(dynamicConfigService, NoopRegistry(), target, source, entityTagsDAO, contextProvider)
+  private val checkpointStore = InMemoryMigrationCheckpointStore()
+
+  private val subject = StorageServiceMigrator(
+    dynamicConfigService, NoopRegistry(), target, source, entityTagsDAO, contextProvider, checkpointStore
+  )
 
   fun tests() = rootContext {
     after {
@@ -114,5 +122,100 @@ class StorageServiceMigratorTests : JUnit5Minutests {
         }
       }
     }
+
+    context("checkpoints") {
+      before {
+        every {
+          dynamicConfigService.getConfig(
+            Boolean::class.java,
+            "spinnaker.migration.compositeStorageService.deleteOrphans",
+            any()
+          )
+        } returns false
+        every { contextProvider.get() } returns mockk(relaxUnitFun = true)
+        checkpointStore.save(ObjectType.PIPELINE, 0)
+      }
+
+      test("should not migrate objects again that were migrated by a previous pass") {
+        checkpointStore.save(ObjectType.PIPELINE, 10_000)
+
+        every {
+          source.listObjectKeys(ObjectType.PIPELINE)
+        } returns mapOf("migrated" to 10_000L, "modified" to 20_000L)
+
+        every {
+          target.listObjectKeys(ObjectType.PIPELINE)
+        } returns mapOf("migrated" to 5_000L, "modified" to 5_000L)
+
+        every {
+          source.listObjectVersions<Timestamped>(ObjectType.PIPELINE, "modified", any())
+        } returns listOf(pipeline("modified", 20_000))
+
+        subject.migrate(ObjectType.PIPELINE)
+
+        verify(exactly = 1) {
+          target.storeObject(ObjectType.PIPELINE, "modified", any<Timestamped>())
+        }
+        verify(exactly = 0) {
+          target.storeObject(ObjectType.PIPELINE, "migrated", any<Timestamped>())
+        }
+        expectThat(checkpointStore.load(ObjectType.PIPELINE)).isEqualTo(20_000L)
+      }
+
+      test("should only migrate versions that are newer than the one in target") {
+        every {
+          source.listObjectKeys(ObjectType.PIPELINE)
+        } returns mapOf("id" to 30_000L)
+
+        every {
+          target.listObjectKeys(ObjectType.PIPELINE)
+        } returns mapOf("id" to 20_000L)
+
+        val newest = pipeline("id", 30_000)
+        every {
+          source.listObjectVersions<Timestamped>(ObjectType.PIPELINE, "id", any())
+        } returns listOf(newest, pipeline("id", 20_000), pipeline("id", 10_000))
+
+        subject.migrate(ObjectType.PIPELINE)
+
+        verify(exactly = 1) {
+          target.storeObject(ObjectType.PIPELINE, "id", any<Timestamped>())
+        }
+        verify {
+          target.storeObject(ObjectType.PIPELINE, "id", newest)
+        }
+      }
+
+      test("should not advance the checkpoint past objects that failed to migrate") {
+        every {
+          source.listObjectKeys(ObjectType.PIPELINE)
+        } returns mapOf("first" to 10_000L, "failed" to 20_000L, "last" to 30_000L)
+
+        every {
+          target.listObjectKeys(ObjectType.PIPELINE)
+        } returns mapOf()
+
+        every {
+          source.listObjectVersions<Timestamped>(ObjectType.PIPELINE, any(), any())
+        } answers { listOf(pipeline(secondArg(), 10_000)) }
+
+        every {
+          target.storeObject(ObjectType.PIPELINE, "failed", any<Timestamped>())
+        } throws IllegalStateException("unavailable")
+
+        subject.migrate(ObjectType.PIPELINE)
+
+        verify(exactly = 1) {
+          target.storeObject(ObjectType.PIPELINE, "last", any<Timestamped>())
+        }
+        expectThat(checkpointStore.load(ObjectType.PIPELINE)).isEqualTo(19_999L)
+      }
+    }
   }
+
+  private fun pipeline(id: String, lastModified: Long) =
+    Pipeline().apply {
+      this.id = id
+      this.lastModified = lastModified
+    }
 }
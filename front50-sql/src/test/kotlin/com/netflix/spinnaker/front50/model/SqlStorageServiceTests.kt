@@ -19,10 +19,12 @@ package com.netflix.spinnaker.front50.model
 import com.fasterxml.jackson.databind.ObjectMapper
 import com.netflix.spectator.api.DefaultRegistry
 import com.netflix.spinnaker.config.Front50SqlProperties
+import com.netflix.spinnaker.front50.locks.StripedKeyedLockManager
 import com.netflix.spinnaker.front50.api.model.Timestamped
 import com.netflix.spinnaker.front50.api.model.pipeline.Pipeline;
 import com.netflix.spinnaker.front50.model.application.Application
 import com.netflix.spinnaker.front50.model.tag.EntityTags
+import com.netflix.spinnaker.kork.exceptions.SystemException
 import com.netflix.spinnaker.kork.sql.config.SqlRetryProperties
 import com.netflix.spinnaker.kork.web.exceptions.NotFoundException
 import dev.minutest.ContextBuilder
@@ -44,6 +46,7 @@ import strikt.assertions.isNotEqualTo
 import strikt.assertions.isNotNull
 import strikt.assertions.isTrue
 import java.time.Instant
+import java.util.concurrent.atomic.AtomicBoolean
 
 internal object SqlStorageServiceTests : JUnit5Minutests {
 
@@ -227,6 +230,35 @@ internal object SqlStorageServiceTests : JUnit5Minutests {
           expectThat(storedPipelines.map { it.id }).isEqualTo(pipelines.map { it.id })
         }
 
+        test("bulk delete pipelines") {
+          val pipelines = (1..5).map { idx ->
+            Pipeline().apply {
+              id = "pipeline${idx}"
+              name = "pipeline${idx}"
+              lastModified = 100 + idx.toLong()
+              lastModifiedBy = "test"
+              setApplication("application")
+            }
+          }
+          sqlStorageService.storeObjects(ObjectType.PIPELINE, pipelines)
+          val initialSequence = sqlStorageService.getLatestChangeSequence()
+
+          sqlStorageService.bulkDeleteObjects(ObjectType.PIPELINE, listOf("pipeline1", "pipeline3", "unknown"))
+
+          expectThat(sqlStorageService.listObjectKeys(ObjectType.PIPELINE).keys)
+            .isEqualTo(setOf("pipeline2", "pipeline4", "pipeline5"))
+          expectThrows<NotFoundException> {
+            sqlStorageService.loadObject<Pipeline>(ObjectType.PIPELINE, "pipeline1")
+          }
+
+          // deletes are recorded in the change log
+          val changes = sqlStorageService.loadChanges(
+            listOf(ChangeLogStorageService.SequenceRange(initialSequence + 1, Long.MAX_VALUE)),
+            10
+          )
+          expectThat(changes.map { it.objectKey }.toSet()).isEqualTo(setOf("pipeline1", "pipeline3", "unknown"))
+        }
+
         var lastModifiedMs : Long = 100
         test("loadObjects basic behavior") {
           val objectKeys = mutableSetOf<String>()
@@ -521,6 +553,187 @@ internal object SqlStorageServiceTests : JUnit5Minutests {
           expectThat(entityTags.id).isEqualTo("id-entitytags1of2")
         }
       }
+
+      context("Change log") {
+        test("writes and deletes are recorded in the change log") {
+          val initialSequence = sqlStorageService.getLatestChangeSequence()
+
+          sqlStorageService.storeObject(
+            ObjectType.PIPELINE,
+            "id-pipeline001",
+            Pipeline().apply {
+              id = "id-pipeline001"
+              name = "pipeline001"
+              lastModified = 100
+            }
+          )
+          sqlStorageService.storeObjects(
+            ObjectType.PIPELINE,
+            listOf(
+              Pipeline().apply {
+                id = "ID-pipeline002"
+                name = "pipeline002"
+                lastModified = 100
+              }
+            )
+          )
+          sqlStorageService.deleteObject(ObjectType.PIPELINE, "id-pipeline001")
+
+          // sequence numbers are shared by every object type
+          sqlStorageService.storeObject(
+            ObjectType.APPLICATION,
+            "application001",
+            Application().apply {
+              name = "application001"
+            }
+          )
+
+          val latestSequence = sqlStorageService.getLatestChangeSequence()
+          val changes = sqlStorageService.loadChanges(
+            listOf(ChangeLogStorageService.SequenceRange(initialSequence + 1, Long.MAX_VALUE)),
+            10
+          )
+          expectThat(changes.map { "${it.objectType}:${it.objectKey}" }).isEqualTo(
+            listOf(
+              "PIPELINE:id-pipeline001",
+              "PIPELINE:id-pipeline002",
+              "PIPELINE:id-pipeline001",
+              "APPLICATION:application001"
+            )
+          )
+          expectThat(changes.last().sequence).isEqualTo(latestSequence)
+
+          // ranges are inclusive, results are ordered by sequence and limited
+          val firstChange = changes.first().sequence
+          val lastChange = changes.last().sequence
+          val rangedChanges = sqlStorageService.loadChanges(
+            listOf(
+              ChangeLogStorageService.SequenceRange(lastChange, lastChange),
+              ChangeLogStorageService.SequenceRange(firstChange, firstChange)
+            ),
+            1
+          )
+          expectThat(rangedChanges.map { it.sequence }).isEqualTo(listOf(firstChange))
+
+          // nothing is old enough to be pruned
+          sqlStorageService.pruneChangeLog()
+          expectThat(sqlStorageService.getLatestChangeSequence()).isEqualTo(latestSequence)
+        }
+
+        test("only changes of object types that need them are recorded") {
+          val initialSequence = sqlStorageService.getLatestChangeSequence()
+          sqlStorageService.changeLogObjectTypes = setOf(ObjectType.APPLICATION)
+          try {
+            sqlStorageService.storeObject(
+              ObjectType.PIPELINE,
+              "id-pipeline001",
+              Pipeline().apply {
+                id = "id-pipeline001"
+                name = "pipeline001"
+                lastModified = 100
+              }
+            )
+          } finally {
+            sqlStorageService.changeLogObjectTypes = ObjectType.values().toSet()
+          }
+
+          expectThat(sqlStorageService.getLatestChangeSequence()).isEqualTo(initialSequence)
+        }
+      }
+
+      context("Keyed locks") {
+        // each manager stands in for a separate instance, sharing nothing but the database
+        fun lockManager(timeoutMillis: Long = 5000, leaseMillis: Long = 60000) =
+          SqlKeyedLockManager(
+            jooq,
+            Clock.systemDefaultZone(),
+            "default",
+            Front50SqlProperties.Locks().apply {
+              this.timeoutMillis = timeoutMillis
+              this.leaseMillis = leaseMillis
+              this.retryIntervalMillis = 10
+            },
+            StripedKeyedLockManager(16)
+          )
+
+        test("a lock is held by a single instance at a time") {
+          val first = lockManager()
+          val second = lockManager(timeoutMillis = 100)
+
+          first.withLock("pipeline:app:name") {
+            expectThrows<SystemException> {
+              second.withLock("PIPELINE:app:name") { }
+            }
+
+            // unrelated keys are not affected
+            expectThat(second.withLock("pipeline:app:other") { true }).isTrue()
+          }
+
+          // released once the action completes
+          expectThat(second.withLock("pipeline:app:name") { true }).isTrue()
+        }
+
+        test("a lock is released when the action fails") {
+          val first = lockManager()
+          val second = lockManager(timeoutMillis = 100)
+
+          expectThrows<IllegalStateException> {
+            first.withLocks(listOf("pipeline:app:a", "pipeline:app:b")) {
+              throw IllegalStateException("failed")
+            }
+          }
+
+          expectThat(second.withLocks(listOf("pipeline:app:a", "pipeline:app:b")) { true }).isTrue()
+        }
+
+        test("an expired lease is taken over, without failing the operation that held it") {
+          val first = lockManager(leaseMillis = -1)
+          val second = lockManager(timeoutMillis = 100)
+
+          // the operation completed (and committed) regardless, the lapse is only logged
+          val result = first.withLock("pipeline:app:name") {
+            expectThat(second.withLock("pipeline:app:name") { true }).isTrue()
+            "completed"
+          }
+          expectThat(result).isEqualTo("completed")
+        }
+
+        test("the lease of a held lock is renewed") {
+          val first = lockManager(leaseMillis = 300)
+          val second = lockManager(timeoutMillis = 100)
+
+          val result = first.withLocks(listOf("pipeline:app:a", "pipeline:app:b")) {
+            Thread.sleep(900)
+            expectThrows<SystemException> {
+              second.withLock("pipeline:app:b") { }
+            }
+            true
+          }
+          expectThat(result).isTrue()
+        }
+
+        test("locks partially held by someone else are acquired once released") {
+          val first = lockManager()
+          val second = lockManager(timeoutMillis = 5000)
+
+          val secondAcquired = AtomicBoolean()
+          val waiting = Thread {
+            second.withLocks(listOf("pipeline:app:a", "pipeline:app:b", "pipeline:app:c")) {
+              secondAcquired.set(true)
+            }
+          }
+
+          first.withLock("pipeline:app:b") {
+            waiting.start()
+            Thread.sleep(200)
+
+            // only the lock preceding the one that is waited for is kept
+            expectThat(first.withLock("pipeline:app:c") { true }).isTrue()
+          }
+          waiting.join(5000)
+          expectThat(secondAcquired.get()).isTrue()
+        }
+      }
     }
 
     after {
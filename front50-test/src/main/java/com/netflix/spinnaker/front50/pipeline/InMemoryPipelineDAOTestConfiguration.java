@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.front50.pipeline;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.netflix.spectator.api.NoopRegistry;
+import com.netflix.spinnaker.front50.api.model.pipeline.Pipeline;
+import com.netflix.spinnaker.front50.config.StorageServiceConfigurationProperties;
+import com.netflix.spinnaker.front50.jackson.Front50ApiModule;
+import com.netflix.spinnaker.front50.model.DefaultObjectKeyLoader;
+import com.netflix.spinnaker.front50.model.InMemoryStorageService;
+import com.netflix.spinnaker.front50.model.ObjectType;
+import com.netflix.spinnaker.front50.model.pipeline.DefaultPipelineDAO;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import java.time.Clock;
+import java.util.List;
+import rx.schedulers.Schedulers;
+
+public class InMemoryPipelineDAOTestConfiguration {
+
+  /**
+   * A pipeline DAO whose cache (and secondary indexes) are populated from {@code pipelines}, so
+   * that lookups by application, trigger or template work the same way they do outside of tests.
+   */
+  public static DefaultPipelineDAO createPipelineDAO(Pipeline... pipelines) {
+    InMemoryStorageService storageService =
+        new InMemoryStorageService(
+            new ObjectMapper().registerModule(new Front50ApiModule()), Clock.systemUTC());
+    storageService.storeObjects(ObjectType.PIPELINE, List.of(pipelines));
+
+    return new DefaultPipelineDAO(
+        storageService,
+        Schedulers.immediate(),
+        new DefaultObjectKeyLoader(storageService),
+        new StorageServiceConfigurationProperties.PerObjectType(),
+        new NoopRegistry(),
+        CircuitBreakerRegistry.ofDefaults());
+  }
+}
@@ -32,4 +32,16 @@ public class PipelineControllerConfig {
     /** This controls whether cache should be refreshes while checking for duplicate pipelines */
     boolean refreshCacheOnDuplicatesCheck = true;
   }
+
+  /** Holds the configurations to be used for the batchUpdate controller mapping */
+  private BatchUpdatePipelineConfiguration batchUpdate = new BatchUpdatePipelineConfiguration();
+
+  @Data
+  public static class BatchUpdatePipelineConfiguration {
+    /**
+     * Maximum number of pipelines of a single batch that are deserialized and validated
+     * concurrently, 1 validates them sequentially on the request thread
+     */
+    int validationParallelism = 8;
+  }
 }
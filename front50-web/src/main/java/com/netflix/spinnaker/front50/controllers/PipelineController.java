@@ -22,6 +22,7 @@ import static java.lang.String.format;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Strings;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.netflix.spinnaker.fiat.shared.FiatPermissionEvaluator;
 import com.netflix.spinnaker.front50.ServiceAccountsService;
 import com.netflix.spinnaker.front50.api.model.pipeline.Pipeline;
@@ -33,11 +34,13 @@ import com.netflix.spinnaker.front50.exception.BadRequestException;
 import com.netflix.spinnaker.front50.exceptions.DuplicateEntityException;
 import com.netflix.spinnaker.front50.exceptions.InvalidEntityException;
 import com.netflix.spinnaker.front50.exceptions.InvalidRequestException;
+import com.netflix.spinnaker.front50.locks.KeyedLockManager;
 import com.netflix.spinnaker.front50.model.pipeline.PipelineDAO;
 import com.netflix.spinnaker.front50.model.pipeline.PipelineTemplateDAO;
 import com.netflix.spinnaker.front50.model.pipeline.TemplateConfiguration;
 import com.netflix.spinnaker.front50.model.pipeline.V2TemplateConfiguration;
 import com.netflix.spinnaker.kork.annotations.VisibleForTesting;
+import com.netflix.spinnaker.kork.exceptions.SystemException;
 import com.netflix.spinnaker.kork.web.exceptions.NotFoundException;
 import com.netflix.spinnaker.kork.web.exceptions.ValidationException;
 import com.netflix.spinnaker.security.AuthenticatedRequest;
@@ -47,13 +50,24 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import javax.annotation.PreDestroy;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.slf4j.Logger;
@@ -61,6 +75,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.security.access.prepost.PostAuthorize;
 import org.springframework.security.access.prepost.PostFilter;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.concurrent.DelegatingSecurityContextCallable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -84,6 +99,10 @@ public class PipelineController {
   private final PipelineControllerConfig pipelineControllerConfig;
   private final FiatPermissionEvaluator fiatPermissionEvaluator;
   private final AuthorizationSupport authorizationSupport;
+  private final KeyedLockManager lockManager;
+
+  /** Shared by every batchUpdate request, null when batches are validated sequentially. */
+  private final ExecutorService validationExecutor;
 
   public PipelineController(
       PipelineDAO pipelineDAO,
@@ -93,7 +112,8 @@ public class PipelineController {
       Optional<PipelineTemplateDAO> pipelineTemplateDAO,
       PipelineControllerConfig pipelineControllerConfig,
       FiatPermissionEvaluator fiatPermissionEvaluator,
-      AuthorizationSupport authorizationSupport) {
+      AuthorizationSupport authorizationSupport,
+      KeyedLockManager lockManager) {
     this.pipelineDAO = pipelineDAO;
     this.objectMapper = objectMapper;
     this.serviceAccountsService = serviceAccountsService;
@@ -102,6 +122,34 @@ public class PipelineController {
     this.pipelineControllerConfig = pipelineControllerConfig;
     this.fiatPermissionEvaluator = fiatPermissionEvaluator;
     this.authorizationSupport = authorizationSupport;
+    this.lockManager = lockManager;
+
+    int validationParallelism =
+        pipelineControllerConfig.getBatchUpdate().getValidationParallelism();
+    if (validationParallelism > 1) {
+      ThreadPoolExecutor executor =
+          new ThreadPoolExecutor(
+              validationParallelism,
+              validationParallelism,
+              60,
+              TimeUnit.SECONDS,
+              new LinkedBlockingQueue<>(),
+              new ThreadFactoryBuilder()
+                  .setNameFormat(PipelineController.class.getSimpleName() + "-validation-%d")
+                  .setDaemon(true)
+                  .build());
+      executor.allowCoreThreadTimeOut(true);
+      this.validationExecutor = executor;
+    } else {
+      this.validationExecutor = null;
+    }
+  }
+
+  @PreDestroy
+  void shutdownValidationExecutor() {
+    if (validationExecutor != null) {
+      validationExecutor.shutdownNow();
+    }
   }
 
   @PreAuthorize("#restricted ? @fiatPermissionEvaluator.storeWholePermission() : true")
@@ -114,11 +162,11 @@ public class PipelineController {
       @RequestParam(required = false, value = "enabledPipelines") Boolean enabledPipelines,
       @RequestParam(required = false, value = "enabledTriggers") Boolean enabledTriggers,
       @RequestParam(required = false, value = "triggerTypes") String triggerTypes) {
-    Collection<Pipeline> pipelines = pipelineDAO.all(refresh);
+    Collection<Pipeline> pipelines = pipelineDAO.allReadOnly(refresh);
 
     if ((enabledPipelines == null) && (enabledTriggers == null) && (triggerTypes == null)) {
-      // no filtering, return all pipelines
-      return pipelines;
+      // no filtering, return all pipelines (as a copy, @PostFilter filters in place)
+      return new ArrayList<>(pipelines);
     }
 
     List<String> triggerTypeList =
@@ -145,8 +193,20 @@ public class PipelineController {
               && pipeline.getTriggers().stream().anyMatch(triggerPredicate);
         };
 
+    Collection<Pipeline> candidates = pipelines;
+    if (Boolean.TRUE.equals(enabledPipelines)
+        && Boolean.TRUE.equals(enabledTriggers)
+        && (triggerTypes != null)) {
+      // only pipelines indexed under one of the requested trigger types can match
+      Set<Pipeline> indexed = Collections.newSetFromMap(new IdentityHashMap<>());
+      for (String triggerType : triggerTypeList) {
+        indexed.addAll(pipelineDAO.getEnabledPipelinesByTriggerType(triggerType, false));
+      }
+      candidates = indexed;
+    }
+
     List<Pipeline> retval =
-        pipelines.stream().filter(pipelinePredicate).collect(Collectors.toList());
+        candidates.stream().filter(pipelinePredicate).collect(Collectors.toList());
 
     log.debug("returning {} of {} total pipeline(s)", retval.size(), pipelines.size());
 
@@ -169,7 +229,7 @@ public class PipelineController {
           boolean restricted,
       @RequestParam(required = false, value = "refresh", defaultValue = "true") boolean refresh) {
 
-    Collection<Pipeline> pipelines = pipelineDAO.all(refresh);
+    Collection<Pipeline> pipelines = pipelineDAO.getPipelinesTriggeredBy(id, refresh);
 
     Predicate<Trigger> triggerPredicate =
         trigger -> {
@@ -288,7 +348,7 @@ public class PipelineController {
           + "and hasPermission(#pipeline.application, 'APPLICATION', 'WRITE') "
           + "and @authorizationSupport.hasRunAsUserPermission(#pipeline)")
   @RequestMapping(value = "", method = RequestMethod.POST)
-  public synchronized Pipeline save(
+  public Pipeline save(
       @RequestBody Pipeline pipeline,
       @RequestParam(value = "staleCheck", required = false, defaultValue = "false")
           Boolean staleCheck) {
@@ -302,14 +362,21 @@ public class PipelineController {
     log.debug("Running validation before saving pipeline {}", pipeline.getName());
     long validationStartTime = System.currentTimeMillis();
     validatePipeline(pipeline, staleCheck);
-    checkForDuplicatePipeline(
-        pipeline.getApplication(), pipeline.getName().trim(), pipeline.getId());
-    log.debug(
-        "Successfully validated pipeline {} in {}ms",
-        pipeline.getName(),
-        System.currentTimeMillis() - validationStartTime);
 
-    Pipeline savedPipeline = pipelineDAO.create(pipeline.getId(), pipeline);
+    // the duplicate check and the save must not interleave with a save of an equally named pipeline
+    Pipeline savedPipeline =
+        lockManager.withLock(
+            lockKey(pipeline),
+            () -> {
+              checkForDuplicatePipeline(
+                  pipeline.getApplication(), pipeline.getName().trim(), pipeline.getId());
+              log.debug(
+                  "Successfully validated pipeline {} in {}ms",
+                  pipeline.getName(),
+                  System.currentTimeMillis() - validationStartTime);
+
+              return pipelineDAO.create(pipeline.getId(), pipeline);
+            });
     log.info(
         "Successfully saved pipeline {} in application {} in {}ms",
         savedPipeline.getName(),
@@ -348,7 +415,40 @@ public class PipelineController {
 
     // List of pipelines in the provided request body which don't adhere to the schema
     List<Pipeline> invalidPipelines = new ArrayList<>();
-    validatePipelines(pipelines, staleCheck, pipelinesToSave, invalidPipelines);
+
+    // validation errors by position, null for pipelines that are (so far) valid
+    List<String> validationErrors = validatePipelines(pipelines, staleCheck);
+
+    // pipelines that already failed validation are not saved, and need no lock
+    Set<String> lockKeys = new HashSet<>();
+    for (int i = 0; i < pipelines.size(); i++) {
+      if (validationErrors.get(i) == null) {
+        lockKeys.add(lockKey(pipelines.get(i)));
+      }
+    }
+    lockManager.withLocks(
+        lockKeys,
+        () -> {
+          checkForDuplicatePipelines(pipelines, validationErrors);
+          for (int i = 0; i < pipelines.size(); i++) {
+            Pipeline pipeline = pipelines.get(i);
+            if (validationErrors.get(i) == null) {
+              pipelinesToSave.add(pipeline);
+            } else {
+              pipeline.setAny("errorMsg", validationErrors.get(i));
+              invalidPipelines.add(pipeline);
+            }
+          }
+
+          long bulkImportStartTime = System.currentTimeMillis();
+          log.debug("Bulk importing the following pipelines: {}", pipelinesToSave);
+          pipelineDAO.bulkImport(pipelinesToSave);
+          log.debug(
+              "Bulk imported {} pipelines successfully in {}ms",
+              pipelinesToSave.size(),
+              System.currentTimeMillis() - bulkImportStartTime);
+          return null;
+        });
 
     TypeReference<Map<String, Object>> mapType = new TypeReference<>() {};
     failedPipelines.addAll(
@@ -356,14 +456,6 @@ public class PipelineController {
             .map((pipeline) -> objectMapper.convertValue(pipeline, mapType))
             .collect(Collectors.toList()));
 
-    long bulkImportStartTime = System.currentTimeMillis();
-    log.debug("Bulk importing the following pipelines: {}", pipelinesToSave);
-    pipelineDAO.bulkImport(pipelinesToSave);
-    log.debug(
-        "Bulk imported {} pipelines successfully in {}ms",
-        pipelinesToSave.size(),
-        System.currentTimeMillis() - bulkImportStartTime);
-
     List<String> savedPipelines =
         pipelinesToSave.stream().map(Pipeline::getName).collect(Collectors.toList());
     returnData.put("successful_pipelines_count", savedPipelines.size());
@@ -422,14 +514,19 @@ public class PipelineController {
     }
 
     validatePipeline(pipeline, staleCheck);
-    checkForDuplicatePipeline(
-        pipeline.getApplication(), pipeline.getName().trim(), pipeline.getId());
 
-    pipeline.setLastModified(System.currentTimeMillis());
+    return lockManager.withLock(
+        lockKey(pipeline),
+        () -> {
+          checkForDuplicatePipeline(
+              pipeline.getApplication(), pipeline.getName().trim(), pipeline.getId());
 
-    pipelineDAO.update(id, pipeline);
+          pipeline.setLastModified(System.currentTimeMillis());
 
-    return pipeline;
+          pipelineDAO.update(id, pipeline);
+
+          return pipeline;
+        });
   }
 
   /**
@@ -445,31 +542,43 @@ public class PipelineController {
     List<Map<String, Object>> failedPipelines = new ArrayList<>();
 
     log.trace("Deserializing the following pipeline maps into pipeline objects: {}", pipelinesMap);
-    pipelinesMap.forEach(
-        pipelineMap -> {
-          try {
-            Pipeline pipeline = objectMapper.convertValue(pipelineMap, Pipeline.class);
-            if (!authorizationSupport.hasRunAsUserPermission(pipeline)) {
-              String errorMessage =
-                  String.format(
-                      "Validation of runAsUser permissions for pipeline %s in the application %s failed.",
-                      pipeline.getName(), pipeline.getApplication());
-              log.error(errorMessage);
-              pipelineMap.put("errorMsg", errorMessage);
-              failedPipelines.add(pipelineMap);
-            } else {
-              pipelines.add(pipeline);
-            }
-          } catch (IllegalArgumentException e) {
-            log.error(
-                "Failed to deserialize pipeline map from the provided json: {}", pipelineMap, e);
-            pipelineMap.put(
-                "errorMsg",
-                String.format(
-                    "Failed to deserialize the pipeline json into a valid pipeline: %s", e));
-            failedPipelines.add(pipelineMap);
-          }
-        });
+    // maps that fail to deserialize (or lack runAsUser permissions) are mapped to null
+    List<Pipeline> deserialized =
+        mapInParallel(
+            pipelinesMap,
+            pipelineMap -> {
+              try {
+                Pipeline pipeline = objectMapper.convertValue(pipelineMap, Pipeline.class);
+                if (!authorizationSupport.hasRunAsUserPermission(pipeline)) {
+                  String errorMessage =
+                      String.format(
+                          "Validation of runAsUser permissions for pipeline %s in the application %s failed.",
+                          pipeline.getName(), pipeline.getApplication());
+                  log.error(errorMessage);
+                  pipelineMap.put("errorMsg", errorMessage);
+                  return null;
+                }
+                return pipeline;
+              } catch (IllegalArgumentException e) {
+                log.error(
+                    "Failed to deserialize pipeline map from the provided json: {}",
+                    pipelineMap,
+                    e);
+                pipelineMap.put(
+                    "errorMsg",
+                    String.format(
+                        "Failed to deserialize the pipeline json into a valid pipeline: %s", e));
+                return null;
+              }
+            });
+
+    for (int i = 0; i < pipelinesMap.size(); i++) {
+      if (deserialized.get(i) == null) {
+        failedPipelines.add(pipelinesMap.get(i));
+      } else {
+        pipelines.add(deserialized.get(i));
+      }
+    }
 
     return ImmutablePair.of(pipelines, failedPipelines);
   }
@@ -573,6 +682,11 @@ public class PipelineController {
     }
   }
 
+  /** Pipelines are locked by application and (case-insensitive) name while being saved. */
+  private static String lockKey(Pipeline pipeline) {
+    return KeyedLockManager.key("pipeline", pipeline.getApplication(), pipeline.getName().trim());
+  }
+
   @VisibleForTesting
   void checkForDuplicatePipeline(String application, String name, String id) {
     log.debug(
@@ -603,111 +717,160 @@ public class PipelineController {
         .forEach(it -> it.put("id", UUID.randomUUID().toString()));
   }
 
-  /** * Fetches all the pipelines and groups then into a map indexed by applications */
-  private Map<String, List<Pipeline>> getAllPipelinesByApplication() {
-    Map<String, List<Pipeline>> appToPipelines = new HashMap<>();
-    pipelineDAO
-        .all(false)
-        .forEach(
-            pipeline ->
-                appToPipelines
-                    .computeIfAbsent(pipeline.getApplication(), k -> new ArrayList<>())
-                    .add(pipeline));
-    return appToPipelines;
+  /**
+   * Fetches all the pipelines and indexes their ids by application and (lower-cased) name, which
+   * is what duplicates are checked by.
+   */
+  private Map<String, Map<String, List<String>>> getPipelineIdsByApplicationAndName() {
+    Map<String, Map<String, List<String>>> index = new HashMap<>();
+    for (Pipeline pipeline : pipelineDAO.all(false)) {
+      if (pipeline.getName() == null) {
+        continue;
+      }
+      index
+          .computeIfAbsent(pipeline.getApplication(), k -> new HashMap<>())
+          .computeIfAbsent(pipeline.getName().toLowerCase(), k -> new ArrayList<>())
+          .add(pipeline.getId());
+    }
+    return index;
   }
 
   /**
-   * Validates the provided list of pipelines and populates the provided valid and invalid pipelines
-   * accordingly. Following validations are performed: Check if user has permissions to write the
-   * pipeline; Check if duplicate pipeline exists in the same app; Validate pipeline id
+   * Validates the provided list of pipelines, concurrently. Following validations are performed:
+   * Validate the pipeline itself (see {@link #validatePipeline(Pipeline, Boolean)}); Check if user
+   * has permissions to write the pipeline. Checks that depend on other pipelines are left to
+   * {@link #checkForDuplicatePipelines(List, List)}.
    *
    * @param pipelines List of {@link Pipeline} to be validated
-   * @param validPipelines Result list of {@link Pipeline} that passed validations
-   * @param invalidPipelines Result list of {@link Pipeline} that failed validations
+   * @return the error message of every pipeline that failed validation, by position, or null
    */
-  private void validatePipelines(
-      List<Pipeline> pipelines,
-      Boolean staleCheck,
-      List<Pipeline> validPipelines,
-      List<Pipeline> invalidPipelines) {
-
-    Map<String, List<Pipeline>> pipelinesByApp = getAllPipelinesByApplication();
-    Map<String, Boolean> appPermissionForUser = new HashMap<>();
-    Set<String> uniqueIdSet = new HashSet<>();
+  private List<String> validatePipelines(List<Pipeline> pipelines, Boolean staleCheck) {
+    // permissions are evaluated once per application for the duration of the request, which is
+    // made on behalf of a single user
+    Map<String, Boolean> appPermissionForUser = new ConcurrentHashMap<>();
 
     final Authentication auth = SecurityContextHolder.getContext().getAuthentication();
     String user = AuthenticatedRequest.getSpinnakerUser().orElse("anonymous");
 
     long validationStartTime = System.currentTimeMillis();
     log.debug("Running validations before saving");
-    for (Pipeline pipeline : pipelines) {
-      try {
-        validatePipeline(pipeline, staleCheck);
-
-        String app = pipeline.getApplication();
-        String pipelineName = pipeline.getName();
-
-        // Check if user has permissions to write the pipeline
-        if (!appPermissionForUser.computeIfAbsent(
-            app,
-            key ->
-                fiatPermissionEvaluator.hasPermission(
-                    auth, pipeline.getApplication(), "APPLICATION", "WRITE"))) {
-          String errorMessage =
-              String.format(
-                  "User %s does not have WRITE permission to save the pipeline %s in the application %s.",
-                  user, pipeline.getName(), pipeline.getApplication());
-          log.error(errorMessage);
-          pipeline.setAny("errorMsg", errorMessage);
-          invalidPipelines.add(pipeline);
-          continue;
-        }
+    List<String> validationErrors =
+        mapInParallel(
+            pipelines,
+            pipeline -> {
+              try {
+                validatePipeline(pipeline, staleCheck);
+
+                // Check if user has permissions to write the pipeline
+                if (!appPermissionForUser.computeIfAbsent(
+                    pipeline.getApplication(),
+                    app ->
+                        fiatPermissionEvaluator.hasPermission(
+                            auth, app, "APPLICATION", "WRITE"))) {
+                  String errorMessage =
+                      String.format(
+                          "User %s does not have WRITE permission to save the pipeline %s in the application %s.",
+                          user, pipeline.getName(), pipeline.getApplication());
+                  log.error(errorMessage);
+                  return errorMessage;
+                }
+                return null;
+              } catch (Exception e) {
+                String errorMessage =
+                    String.format(
+                        "Encountered the following error when validating pipeline %s in the application %s: %s",
+                        pipeline.getName(), pipeline.getApplication(), e.getMessage());
+                log.error(errorMessage, e);
+                return errorMessage;
+              }
+            });
+    log.debug(
+        "Validated {} pipelines in {}ms",
+        pipelines.size(),
+        System.currentTimeMillis() - validationStartTime);
+    return validationErrors;
+  }
 
-        // Check if duplicate pipeline exists in the same app
-        List<Pipeline> appPipelines = pipelinesByApp.getOrDefault(app, new ArrayList<>());
-        if (appPipelines.stream()
-            .anyMatch(
-                existingPipeline ->
-                    existingPipeline.getName().equalsIgnoreCase(pipeline.getName())
-                        && !existingPipeline.getId().equals(pipeline.getId()))) {
-          String errorMessage =
-              String.format(
-                  "A pipeline with name %s already exists in the application %s",
-                  pipelineName, app);
-          log.error(errorMessage);
-          pipeline.setAny("errorMsg", errorMessage);
-          invalidPipelines.add(pipeline);
-          continue;
-        }
+  /**
+   * Checks the pipelines that passed {@link #validatePipelines(List, Boolean)} against existing
+   * pipelines and each other. Following validations are performed: Check if duplicate pipeline
+   * exists in the same app; Validate pipeline id
+   *
+   * @param pipelines List of {@link Pipeline} to be validated
+   * @param validationErrors error message of every pipeline, by position, updated in place
+   */
+  private void checkForDuplicatePipelines(List<Pipeline> pipelines, List<String> validationErrors) {
+    Map<String, Map<String, List<String>>> pipelineIdsByAppAndName =
+        getPipelineIdsByApplicationAndName();
+    Set<String> uniqueIdSet = new HashSet<>();
 
-        // Validate pipeline id
-        String id = pipeline.getId();
-        if (Strings.isNullOrEmpty(id)) {
-          pipeline.setId(UUID.randomUUID().toString());
-        } else if (!uniqueIdSet.add(id)) {
-          String errorMessage =
-              String.format(
-                  "Duplicate pipeline id %s found when processing pipeline %s in the application %s",
-                  id, pipeline.getName(), pipeline.getApplication());
-          log.error(errorMessage);
-          invalidPipelines.add(pipeline);
-          pipeline.setAny("errorMsg", errorMessage);
-          continue;
-        }
-        validPipelines.add(pipeline);
-      } catch (Exception e) {
+    for (int i = 0; i < pipelines.size(); i++) {
+      if (validationErrors.get(i) != null) {
+        continue;
+      }
+
+      Pipeline pipeline = pipelines.get(i);
+      String app = pipeline.getApplication();
+      String pipelineName = pipeline.getName();
+
+      // Check if duplicate pipeline exists in the same app
+      List<String> existingIds =
+          pipelineIdsByAppAndName
+              .getOrDefault(app, Collections.emptyMap())
+              .getOrDefault(pipelineName.toLowerCase(), Collections.emptyList());
+      if (existingIds.stream().anyMatch(existingId -> !existingId.equals(pipeline.getId()))) {
         String errorMessage =
             String.format(
-                "Encountered the following error when validating pipeline %s in the application %s: %s",
-                pipeline.getName(), pipeline.getApplication(), e.getMessage());
-        log.error(errorMessage, e);
-        pipeline.setAny("errorMsg", errorMessage);
-        invalidPipelines.add(pipeline);
+                "A pipeline with name %s already exists in the application %s", pipelineName, app);
+        log.error(errorMessage);
+        validationErrors.set(i, errorMessage);
+        continue;
+      }
+
+      // Validate pipeline id
+      String id = pipeline.getId();
+      if (Strings.isNullOrEmpty(id)) {
+        pipeline.setId(UUID.randomUUID().toString());
+      } else if (!uniqueIdSet.add(id)) {
+        String errorMessage =
+            String.format(
+                "Duplicate pipeline id %s found when processing pipeline %s in the application %s",
+                id, pipeline.getName(), pipeline.getApplication());
+        log.error(errorMessage);
+        validationErrors.set(i, errorMessage);
       }
     }
-    log.debug(
-        "Validated {} pipelines in {}ms",
-        pipelines.size(),
-        System.currentTimeMillis() - validationStartTime);
+  }
+
+  /**
+   * Applies {@code function} to every input on the validation executor, on behalf of the user of
+   * the current request. Failures are expected to be handled by {@code function}.
+   *
+   * @return the result for every input, in input order
+   */
+  private <I, O> List<O> mapInParallel(List<I> inputs, Function<I, O> function) {
+    if (validationExecutor == null || inputs.size() <= 1) {
+      return inputs.stream().map(function).collect(Collectors.toList());
+    }
+
+    List<Callable<O>> tasks = new ArrayList<>(inputs.size());
+    for (I input : inputs) {
+      tasks.add(
+          new DelegatingSecurityContextCallable<>(
+              AuthenticatedRequest.propagate(() -> function.apply(input))));
+    }
+
+    try {
+      List<O> results = new ArrayList<>(inputs.size());
+      for (Future<O> future : validationExecutor.invokeAll(tasks)) {
+        results.add(future.get());
+      }
+      return results;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SystemException("Interrupted while validating pipelines", e);
+    } catch (ExecutionException e) {
+      throw new SystemException("Failed to validate pipelines", e.getCause());
+    }
   }
 }
@@ -15,10 +15,8 @@
  */
 package com.netflix.spinnaker.front50.controllers;
 
-import static com.netflix.spinnaker.front50.api.model.pipeline.Pipeline.TYPE_TEMPLATED;
 import static com.netflix.spinnaker.front50.model.pipeline.TemplateConfiguration.TemplateSource.SPINNAKER_PREFIX;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.annotations.VisibleForTesting;
 import com.netflix.spinnaker.front50.api.model.pipeline.Pipeline;
 import com.netflix.spinnaker.front50.exception.BadRequestException;
@@ -28,7 +26,6 @@ import com.netflix.spinnaker.front50.exceptions.InvalidRequestException;
 import com.netflix.spinnaker.front50.model.pipeline.PipelineDAO;
 import com.netflix.spinnaker.front50.model.pipeline.PipelineTemplate;
 import com.netflix.spinnaker.front50.model.pipeline.PipelineTemplateDAO;
-import com.netflix.spinnaker.front50.model.pipeline.TemplateConfiguration;
 import com.netflix.spinnaker.kork.web.exceptions.NotFoundException;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -53,8 +50,6 @@ public class PipelineTemplateController {
 
   @Autowired PipelineDAO pipelineDAO;
 
-  @Autowired ObjectMapper objectMapper;
-
   // TODO rz - Add fiat authz
 
   @RequestMapping(value = "", method = RequestMethod.GET)
@@ -103,39 +98,19 @@ public class PipelineTemplateController {
       @PathVariable String id,
       @RequestParam(required = false, value = "recursive", defaultValue = "false")
           boolean recursive) {
-    List<String> dependentConfigsIds = getDependentConfigs(id, recursive);
-
-    return pipelineDAO.all().stream()
-        .filter(pipeline -> dependentConfigsIds.contains(pipeline.getId()))
-        .collect(Collectors.toList());
+    return new ArrayList<>(getDependentPipelines(id, recursive));
   }
 
   @VisibleForTesting
   List<String> getDependentConfigs(String templateId, boolean recursive) {
-    List<String> dependentConfigIds = new ArrayList<>();
-
-    List<String> templateIds = convertAllTemplateIdsToSources(templateId, recursive);
-
-    pipelineDAO.all().stream()
-        .filter(pipeline -> pipeline.getType() != null && pipeline.getType().equals(TYPE_TEMPLATED))
-        .forEach(
-            templatedPipeline -> {
-              String source;
-              try {
-                TemplateConfiguration config =
-                    objectMapper.convertValue(
-                        templatedPipeline.getConfig(), TemplateConfiguration.class);
-
-                source = config.getPipeline().getTemplate().getSource();
-              } catch (Exception e) {
-                return;
-              }
-
-              if (source != null && containsAnyIgnoreCase(source, templateIds)) {
-                dependentConfigIds.add(templatedPipeline.getId());
-              }
-            });
-    return dependentConfigIds;
+    return getDependentPipelines(templateId, recursive).stream()
+        .map(Pipeline::getId)
+        .collect(Collectors.toList());
+  }
+
+  private Collection<Pipeline> getDependentPipelines(String templateId, boolean recursive) {
+    return pipelineDAO.getPipelinesByTemplateSource(
+        convertAllTemplateIdsToSources(templateId, recursive), true);
   }
 
   private List<String> convertAllTemplateIdsToSources(String rootTemplateId, boolean recursive) {
@@ -149,15 +124,6 @@ public class PipelineTemplateController {
     return templateIds;
   }
 
-  private static boolean containsAnyIgnoreCase(String source, List<String> templateIds) {
-    for (String templateId : templateIds) {
-      if (source.equalsIgnoreCase(templateId)) {
-        return true;
-      }
-    }
-    return false;
-  }
-
   @VisibleForTesting
   void checkForDependentConfigs(String templateId, boolean recursive) {
     List<String> dependentConfigIds = getDependentConfigs(templateId, recursive);
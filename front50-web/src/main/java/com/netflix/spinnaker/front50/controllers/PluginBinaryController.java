@@ -16,11 +16,19 @@
 package com.netflix.spinnaker.front50.controllers;
 
 import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingInputStream;
+import com.google.common.io.ByteStreams;
 import com.netflix.spinnaker.front50.plugins.PluginBinaryStorageService;
 import com.netflix.spinnaker.kork.exceptions.SystemException;
+import com.netflix.spinnaker.kork.web.exceptions.NotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Optional;
 import lombok.SneakyThrows;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
@@ -35,6 +43,10 @@ public class PluginBinaryController {
     this.pluginBinaryStorageService = pluginBinaryStorageService;
   }
 
+  /**
+   * Uploads are spooled to disk by the multipart resolver, which allows the checksum to be verified
+   * before anything is stored, streaming the binary twice rather than holding it in memory.
+   */
   @SneakyThrows
   @PostMapping("/{id}/{version}")
   @ResponseStatus(HttpStatus.CREATED)
@@ -43,20 +55,32 @@ public class PluginBinaryController {
       @PathVariable String version,
       @RequestParam("sha512sum") String sha512sum,
       @RequestParam("plugin") MultipartFile body) {
-    byte[] bytes = body.getBytes();
-    verifyChecksum(bytes, sha512sum);
-    storageService().store(storageService().getKey(id, version), bytes);
+    try (InputStream binary = body.getInputStream()) {
+      verifyChecksum(binary, sha512sum);
+    }
+    try (InputStream binary = body.getInputStream()) {
+      storageService().store(storageService().getKey(id, version), binary, body.getSize());
+    }
   }
 
   @GetMapping("/{id}/{version}")
-  ResponseEntity<byte[]> getBinary(@PathVariable String id, @PathVariable String version) {
+  ResponseEntity<Resource> getBinary(@PathVariable String id, @PathVariable String version) {
+    String key = storageService().getKey(id, version);
+    InputStream binary = storageService().openStream(key);
+    if (binary == null) {
+      throw new NotFoundException("Plugin binary not found: " + key);
+    }
+
+    // the resource is closed once it has been copied to the response
     return ResponseEntity.ok()
-        .header("Content-Type", "application/octet-stream")
-        .body(storageService().load(storageService().getKey(id, version)));
+        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+        .body(new InputStreamResource(binary));
   }
 
-  private void verifyChecksum(byte[] body, String sha512sum) {
-    String sha = Hashing.sha512().hashBytes(body).toString();
+  private void verifyChecksum(InputStream body, String sha512sum) throws IOException {
+    HashingInputStream hashingInputStream = new HashingInputStream(Hashing.sha512(), body);
+    ByteStreams.exhaust(hashingInputStream);
+    String sha = hashingInputStream.hash().toString();
     if (!sha.equals(sha512sum)) {
       throw new SystemException("Plugin binary checksum does not match expected checksum value")
           .setRetryable(true);
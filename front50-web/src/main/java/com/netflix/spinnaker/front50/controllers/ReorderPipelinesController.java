@@ -16,11 +16,8 @@
 package com.netflix.spinnaker.front50.controllers;
 
 import com.netflix.spinnaker.fiat.shared.FiatPermissionEvaluator;
-import com.netflix.spinnaker.front50.api.model.pipeline.Pipeline;
 import com.netflix.spinnaker.front50.exceptions.InvalidRequestException;
-import com.netflix.spinnaker.front50.model.ItemDAO;
 import com.netflix.spinnaker.front50.model.pipeline.*;
-import com.netflix.spinnaker.kork.web.exceptions.NotFoundException;
 import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
@@ -47,7 +44,7 @@ class ReorderPipelinesController {
   }
 
   private void handlePipelineReorder(
-      Map<String, Object> requestBody, ItemDAO<Pipeline> pipelineItemDAO) {
+      Map<String, Object> requestBody, ReorderablePipelineDAO pipelineItemDAO) {
     String application = (String) requestBody.get("application");
     Map<String, Integer> idsToIndices = (Map<String, Integer>) requestBody.get("idsToIndices");
 
@@ -67,21 +64,6 @@ class ReorderPipelinesController {
           "Application write permission is required to reorder pipelines");
     }
 
-    for (String id : idsToIndices.keySet()) {
-      Pipeline pipeline = pipelineItemDAO.findById(id);
-
-      if (pipeline == null) {
-        throw new NotFoundException(String.format("No pipeline of id %s found", id));
-      }
-
-      if (!pipeline.getApplication().equals(application)) {
-        throw new InvalidRequestException(
-            String.format(
-                "Pipeline with id %s does not belong to application %s", id, application));
-      }
-
-      pipeline.setIndex(idsToIndices.get(id));
-      pipelineItemDAO.update(id, pipeline);
-    }
+    pipelineItemDAO.reorder(application, idsToIndices);
   }
 }
@@ -17,7 +17,6 @@
 
 package com.netflix.spinnaker.front50.controllers;
 
-import static com.netflix.spinnaker.front50.api.model.pipeline.Pipeline.TYPE_TEMPLATED;
 import static com.netflix.spinnaker.front50.model.pipeline.TemplateConfiguration.TemplateSource.SPINNAKER_PREFIX;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -31,13 +30,13 @@ import com.netflix.spinnaker.front50.exceptions.InvalidRequestException;
 import com.netflix.spinnaker.front50.model.pipeline.PipelineDAO;
 import com.netflix.spinnaker.front50.model.pipeline.PipelineTemplate;
 import com.netflix.spinnaker.front50.model.pipeline.PipelineTemplateDAO;
-import com.netflix.spinnaker.front50.model.pipeline.V2TemplateConfiguration;
 import com.netflix.spinnaker.kork.web.exceptions.NotFoundException;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
@@ -174,38 +173,18 @@ public class V2PipelineTemplateController {
 
   @RequestMapping(value = "{id}/dependentPipelines", method = RequestMethod.GET)
   List<Pipeline> listDependentPipelines(@PathVariable String id) {
-    List<String> dependentConfigsIds = getDependentConfigs(id);
-
-    return pipelineDAO.all().stream()
-        .filter(pipeline -> dependentConfigsIds.contains(pipeline.getId()))
-        .collect(Collectors.toList());
+    return new ArrayList<>(getDependentPipelines(id));
   }
 
   @VisibleForTesting
   List<String> getDependentConfigs(String templateId) {
-    List<String> dependentConfigIds = new ArrayList<>();
-
-    String prefixedId = SPINNAKER_PREFIX + templateId;
-
-    pipelineDAO.all().stream()
-        .filter(pipeline -> pipeline.getType() != null && pipeline.getType().equals(TYPE_TEMPLATED))
-        .forEach(
-            templatedPipeline -> {
-              String source;
-              try {
-
-                V2TemplateConfiguration config =
-                    objectMapper.convertValue(templatedPipeline, V2TemplateConfiguration.class);
-                source = config.getTemplate().getReference();
-              } catch (Exception e) {
-                return;
-              }
-
-              if (source != null && source.startsWith(prefixedId)) {
-                dependentConfigIds.add(templatedPipeline.getId());
-              }
-            });
-    return dependentConfigIds;
+    return getDependentPipelines(templateId).stream()
+        .map(Pipeline::getId)
+        .collect(Collectors.toList());
+  }
+
+  private Collection<Pipeline> getDependentPipelines(String templateId) {
+    return pipelineDAO.getPipelinesByTemplateReference(SPINNAKER_PREFIX + templateId, true);
   }
 
   @VisibleForTesting
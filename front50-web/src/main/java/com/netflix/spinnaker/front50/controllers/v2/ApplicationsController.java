@@ -80,7 +80,7 @@ public class ApplicationsController {
         applicationPermissionDAO
             .map(
                 apd ->
-                    apd.all().stream()
+                    apd.allReadOnly(true).stream()
                         .filter(it -> it.getPermissions().isRestricted())
                         .collect(Collectors.groupingBy(it -> it.getName().toLowerCase())))
             .orElseGet(HashMap::new);
@@ -88,7 +88,7 @@ public class ApplicationsController {
     List<Application> applications;
     if (params.isEmpty()) {
       applications =
-          applicationDAO.all().stream()
+          applicationDAO.allReadOnly(true).stream()
               .sorted(Comparator.comparing(Application::getName))
               .collect(Collectors.toList());
     } else {
@@ -8,7 +8,6 @@ import com.netflix.spinnaker.front50.model.tag.EntityTags;
 import com.netflix.spinnaker.front50.model.tag.EntityTagsDAO;
 import com.netflix.spinnaker.kork.web.exceptions.NotFoundException;
 import java.util.*;
-import java.util.stream.Collectors;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
@@ -42,25 +41,20 @@ public class EntityTagsController {
       throw new BadRequestException("Either 'prefix' or 'ids' parameter is required");
     }
 
+    boolean refreshFlag = (refresh == null) ? true : refresh;
+
     if (!tagIds.isEmpty()) {
-      return findAllByIds(tagIds);
+      return findAllByIds(tagIds, refreshFlag);
     }
 
-    boolean refreshFlag = (refresh == null) ? true : refresh;
-
     return taggedEntityDAO
         .map(
-            dao ->
-                dao.all(refreshFlag).stream()
-                    .filter(
-                        it -> {
-                          if (Strings.isNullOrEmpty(prefix)) {
-                            return true;
-                          } else {
-                            return it.getId().startsWith(prefix);
-                          }
-                        })
-                    .collect(Collectors.toSet()))
+            dao -> {
+              if (Strings.isNullOrEmpty(prefix)) {
+                return new HashSet<>(dao.allReadOnly(refreshFlag));
+              }
+              return new HashSet<>(dao.findAllByIdPrefix(prefix, refreshFlag));
+            })
         .orElse(null);
   }
 
@@ -112,22 +106,9 @@ public class EntityTagsController {
     response.setStatus(HttpStatus.NO_CONTENT.value());
   }
 
-  private Set<EntityTags> findAllByIds(Collection<String> ids) {
+  private Set<EntityTags> findAllByIds(Collection<String> ids, boolean refresh) {
     return taggedEntityDAO
-        .map(
-            dao ->
-                ids.stream()
-                    .map(
-                        it -> {
-                          try {
-                            return dao.findById(it);
-                          } catch (Exception e) {
-                            // ignored
-                            return null;
-                          }
-                        })
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.toSet()))
+        .map(dao -> new HashSet<>(dao.findAllByIds(ids, refresh)))
         .orElseGet(HashSet::new);
   }
 }
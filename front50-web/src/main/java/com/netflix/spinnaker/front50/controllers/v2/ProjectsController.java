@@ -19,19 +19,16 @@ import static java.lang.String.format;
 
 import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
-import com.netflix.spinnaker.front50.UntypedUtils;
 import com.netflix.spinnaker.front50.exceptions.InvalidRequestException;
-import com.netflix.spinnaker.front50.model.SearchUtils;
+import com.netflix.spinnaker.front50.model.SearchIndex;
+import com.netflix.spinnaker.front50.model.SearchIndexer;
 import com.netflix.spinnaker.front50.model.project.Project;
 import com.netflix.spinnaker.front50.model.project.ProjectDAO;
 import com.netflix.spinnaker.kork.web.exceptions.NotFoundException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.*;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 import javax.servlet.http.HttpServletResponse;
-import lombok.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
@@ -42,8 +39,11 @@ import org.springframework.web.bind.annotation.*;
 public class ProjectsController {
 
   private static final Splitter COMMA_SPLITTER = Splitter.on(',');
+  private static final String CLUSTER_APPLICATIONS = "clusters.applications";
 
   private final ProjectDAO projectDAO;
+  private final SearchIndexer<Project> searchIndexer =
+      new SearchIndexer<>(ProjectsController::attributes);
 
   public ProjectsController(ProjectDAO projectDAO) {
     this.projectDAO = projectDAO;
@@ -55,13 +55,10 @@ public class ProjectsController {
       description =
           "Search for projects given one or more attributes.\n\n- /search?q=ProjectName\n- /search?q=ApplicationName\n")
   public Set<Project> search(@RequestParam("q") final String query) {
-    return projectDAO.all().stream()
-        .filter(
-            p ->
-                p.getName().toLowerCase().contains(query.toLowerCase())
-                    || p.getConfig().getApplications().stream()
-                        .anyMatch(it -> it.toLowerCase().contains(query.toLowerCase())))
-        .collect(Collectors.toSet());
+    SearchIndex<Project> index = searchIndexer.indexFor(projectDAO.allReadOnly(true));
+    Set<Project> projects = new HashSet<>(index.matching("name", query));
+    projects.addAll(index.matching("applications", query));
+    return projects;
   }
 
   @Operation(
@@ -74,7 +71,9 @@ public class ProjectsController {
       @RequestParam Map<String, String> params) {
     params.remove("pageSize");
     List<Project> projects =
-        params.isEmpty() ? new ArrayList<>(projectDAO.all()) : filter(projectDAO.all(), params);
+        params.isEmpty()
+            ? new ArrayList<>(projectDAO.allReadOnly(true))
+            : filter(projectDAO.allReadOnly(true), params);
     return (pageSize == null) ? projects : projects.subList(0, Math.min(pageSize, projects.size()));
   }
 
@@ -134,72 +133,51 @@ public class ProjectsController {
       }
     }
 
-    List<Project> items = new ArrayList<>();
+    SearchIndex<Project> index = searchIndexer.indexFor(projects);
+    Set<Project> items = new LinkedHashSet<>();
 
     if (normalizedAttributes.containsKey("applications")) {
-      List<String> applications =
-          COMMA_SPLITTER.splitToList(normalizedAttributes.get("applications"));
-      // TODO(rz): LOL converting Groovy with elvis operators everywhere. :grimacing:
-      //  Do you know what's going on here? I certainly don't. Good thing there's tests?
-      items =
-          projects.stream()
-              .filter(
-                  project ->
-                      Optional.ofNullable(project.getConfig().getApplications())
-                              .map(
-                                  projectApps ->
-                                      projectApps.stream()
-                                          .anyMatch(
-                                              app -> projectApplicationMatches(app, applications)))
-                              .orElse(false)
-                          || Optional.ofNullable(project.getConfig().getClusters())
-                              .map(
-                                  projectClusters ->
-                                      projectClusters.stream()
-                                          .anyMatch(
-                                              cluster ->
-                                                  clusterHasMatchingApplication(
-                                                      cluster, applications)))
-                              .orElse(false))
-              .collect(Collectors.toList());
-      normalizedAttributes.remove("applications");
+      // matches projects with any of the applications, either directly or through a cluster
+      for (String application :
+          COMMA_SPLITTER.splitToList(normalizedAttributes.remove("applications"))) {
+        items.addAll(index.matching("applications", application));
+        items.addAll(index.matching(CLUSTER_APPLICATIONS, application));
+      }
     }
 
-    items.addAll(
-        projects.stream()
-            .filter(
-                project ->
-                    normalizedAttributes.entrySet().stream()
-                        .anyMatch(
-                            it ->
-                                FUZZY_SEARCH_PREDICATE.test(
-                                    new FuzzySearch(project, it.getKey(), it.getValue()))))
-            .collect(Collectors.toList()));
-
-    return items.stream()
-        .distinct()
-        .sorted(
-            (a, b) ->
-                SearchUtils.score(b, normalizedAttributes)
-                    - SearchUtils.score(a, normalizedAttributes))
-        .collect(Collectors.toList());
-  }
+    items.addAll(index.matchingAny(normalizedAttributes));
 
-  private static boolean projectApplicationMatches(String app, List<String> applications) {
-    return applications.stream().anyMatch(it -> app.toLowerCase().contains(it.toLowerCase()));
+    return index.rank(items, normalizedAttributes);
   }
 
-  private static boolean clusterHasMatchingApplication(
-      Project.ClusterConfig cluster, List<String> applications) {
-    return Optional.ofNullable(cluster.getApplications())
-        .map(
-            clusterApplications ->
-                clusterApplications.stream()
-                    .anyMatch(
-                        app ->
-                            applications.stream()
-                                .anyMatch(it -> app.toLowerCase().contains(it.toLowerCase()))))
-        .orElse(false);
+  /**
+   * The searchable attributes of a project (keyed by lower case name), cluster attributes are
+   * attributed to the project.
+   */
+  private static void attributes(Project project, SearchIndex.Attributes attributes) {
+    attributes
+        .add("id", project.getId())
+        .add("name", project.getName())
+        .add("email", project.getEmail())
+        .add("updatets", project.getUpdateTs())
+        .add("createts", project.getCreateTs())
+        .add("lastmodifiedby", project.getLastModifiedBy());
+
+    Project.ProjectConfig config = project.getConfig();
+    if (config == null) {
+      return;
+    }
+    attributes.addAll("applications", config.getApplications());
+    if (config.getClusters() == null) {
+      return;
+    }
+    for (Project.ClusterConfig cluster : config.getClusters()) {
+      attributes
+          .add("account", cluster.getAccount())
+          .add("stack", cluster.getStack())
+          .add("detail", cluster.getDetail())
+          .addAll(CLUSTER_APPLICATIONS, cluster.getApplications());
+    }
   }
 
   @Operation(summary = "", description = "Delete a project")
@@ -215,34 +193,4 @@ public class ProjectsController {
     projectDAO.bulkImport(projects);
     response.setStatus(HttpStatus.ACCEPTED.value());
   }
-
-  private static final Predicate<FuzzySearch> FUZZY_SEARCH_PREDICATE =
-      fuzzySearch -> {
-        boolean matches =
-            SearchUtils.matchesIgnoreCase(
-                UntypedUtils.getProperties(fuzzySearch.project),
-                fuzzySearch.key,
-                fuzzySearch.value);
-        if (!matches) {
-          return Optional.ofNullable(fuzzySearch.project.getConfig().getClusters())
-              .map(
-                  c ->
-                      c.stream()
-                          .anyMatch(
-                              it ->
-                                  SearchUtils.matchesIgnoreCase(
-                                      UntypedUtils.getProperties(it),
-                                      fuzzySearch.key,
-                                      fuzzySearch.value)))
-              .orElse(false);
-        }
-        return true;
-      };
-
-  @Value
-  private static class FuzzySearch {
-    Project project;
-    String key;
-    String value;
-  }
 }
@@ -7,6 +7,8 @@ import com.netflix.spinnaker.front50.api.validator.PipelineValidator
 import com.netflix.spinnaker.front50.api.validator.ValidatorErrors
 import com.netflix.spinnaker.front50.config.controllers.PipelineControllerConfig
 import com.netflix.spinnaker.front50.exceptions.DuplicateEntityException
+import com.netflix.spinnaker.front50.locks.KeyedLockManager
+import com.netflix.spinnaker.front50.locks.StripedKeyedLockManager
 import com.netflix.spinnaker.front50.model.pipeline.PipelineDAO
 import com.netflix.spinnaker.kork.web.exceptions.ExceptionMessageDecorator
 import com.netflix.spinnaker.kork.web.exceptions.GenericExceptionHandlers
@@ -89,7 +91,7 @@ class PipelineControllerSpec extends Specification {
 
     def pipelineController = new PipelineController(
       pipelineDAO, new ObjectMapper(), Optional.empty(), [], Optional.empty(), pipelineControllerConfig,
-      localFiatPermissionEvaluator, authorizationSupport)
+      localFiatPermissionEvaluator, authorizationSupport, new StripedKeyedLockManager(16))
 
     when: "staleCheck is true and conditions are met"
     def response = pipelineController.batchUpdate(pipelinesBatch1, staleCheck_true)
@@ -140,7 +142,7 @@ class PipelineControllerSpec extends Specification {
 
     def pipelineController = new PipelineController(
       pipelineDAO, new ObjectMapper(), Optional.empty(), [], Optional.empty(), pipelineControllerConfig,
-      fiatPermissionEvaluator, authorizationSupport)
+      fiatPermissionEvaluator, authorizationSupport, new StripedKeyedLockManager(16))
 
     when:
     pipelineControllerConfig.getSave().refreshCacheOnDuplicatesCheck = true
@@ -236,7 +238,8 @@ class PipelineControllerSpec extends Specification {
           Optional.empty(),
           pipelineControllerConfig,
           fiatPermissionEvaluator,
-          authorizationSupport
+          authorizationSupport,
+          new StripedKeyedLockManager(16)
         )
       )
       .setControllerAdvice(
@@ -279,7 +282,7 @@ class PipelineControllerSpec extends Specification {
 
     def mockMvcWithController = MockMvcBuilders.standaloneSetup(new PipelineController(
       pipelineDAO, new ObjectMapper(), Optional.empty(), [], Optional.empty(), pipelineControllerConfig,
-      fiatPermissionEvaluator, authorizationSupport
+      fiatPermissionEvaluator, authorizationSupport, new StripedKeyedLockManager(16)
     )).build()
 
     when:
@@ -318,7 +321,7 @@ class PipelineControllerSpec extends Specification {
 
     def mockMvcWithController = MockMvcBuilders.standaloneSetup(new PipelineController(
       pipelineDAO, new ObjectMapper(), Optional.empty(), [], Optional.empty(), pipelineControllerConfig,
-      fiatPermissionEvaluator, authorizationSupport
+      fiatPermissionEvaluator, authorizationSupport, new StripedKeyedLockManager(16)
     )).build()
 
     when:
@@ -344,6 +347,11 @@ class PipelineControllerSpec extends Specification {
     FiatPermissionEvaluator fiatPermissionEvaluator() {
       detachedMockFactory.Stub(FiatPermissionEvaluator)
     }
+
+    @Bean
+    KeyedLockManager keyedLockManager() {
+      new StripedKeyedLockManager(16)
+    }
   }
 
   private class MockValidator implements PipelineValidator {
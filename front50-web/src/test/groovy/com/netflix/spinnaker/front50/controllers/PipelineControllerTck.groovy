@@ -23,6 +23,7 @@ import com.netflix.spinnaker.front50.api.model.pipeline.Trigger
 import com.netflix.spinnaker.front50.config.StorageServiceConfigurationProperties
 import com.netflix.spinnaker.front50.config.controllers.PipelineControllerConfig
 import com.netflix.spinnaker.front50.jackson.Front50ApiModule
+import com.netflix.spinnaker.front50.locks.StripedKeyedLockManager
 import com.netflix.spinnaker.kork.sql.test.SqlTestUtil
 
 import com.netflix.spinnaker.front50.pipeline.SqlPipelineDAOTestConfiguration
@@ -100,7 +101,8 @@ abstract class PipelineControllerTck extends Specification {
           Optional.empty(),
           pipelineControllerConfig,
           fiatPermissionEvaluator,
-          authorizationSupport
+          authorizationSupport,
+          new StripedKeyedLockManager(16)
         )
       )
       .setMessageConverters(mappingJackson2HttpMessageConverter)
@@ -535,6 +537,35 @@ abstract class PipelineControllerTck extends Specification {
     ]
   }
 
+  def "should validate large batches concurrently, evaluating permissions once per application"() {
+    given:
+    def pipelines = (1..50).collect {
+      new Pipeline([name: "Pipeline ${it}", application: "test${it % 2}", id: "id${it}", triggers: []])
+    }
+    pipelines[10].name = "Existing Pipeline"
+
+    when:
+    def response = mockMvc.perform(post('/pipelines/batchUpdate')
+      .contentType(MediaType.APPLICATION_JSON)
+      .content(objectMapper.writeValueAsString(pipelines)))
+      .andReturn()
+      .response
+
+    then:
+    1 * pipelineDAO.all(false) >> [
+      [name: "existing pipeline", application: "test1", id: "existing_pipeline_id"] as Pipeline
+    ]
+    1 * fiatPermissionEvaluator.hasPermission(_, "test0", "APPLICATION", "WRITE") >> true
+    1 * fiatPermissionEvaluator.hasPermission(_, "test1", "APPLICATION", "WRITE") >> true
+    1 * pipelineDAO.bulkImport(pipelines - pipelines[10]) >> null
+    response.status == OK
+
+    def result = new JsonSlurper().parseText(response.getContentAsString())
+    // results are reported in request order regardless of the order they were validated in
+    result.successful_pipelines == (pipelines - pipelines[10])*.name
+    result.failed_pipelines*.id == ["id11"]
+  }
+
   @Unroll
   void "pipeline with limitConcurrent = #limitConcurrent and maxConcurrentExecutions = #maxConcurrentExecutions"() {
     def appName = "test"
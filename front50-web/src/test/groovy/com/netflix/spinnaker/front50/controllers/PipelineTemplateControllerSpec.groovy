@@ -16,11 +16,11 @@
 
 package com.netflix.spinnaker.front50.controllers
 
-import com.fasterxml.jackson.databind.ObjectMapper
 import com.netflix.spinnaker.front50.exceptions.InvalidRequestException
 
 import com.netflix.spinnaker.front50.api.model.pipeline.Pipeline;
 import com.netflix.spinnaker.front50.model.pipeline.PipelineDAO
+import com.netflix.spinnaker.front50.pipeline.InMemoryPipelineDAOTestConfiguration
 import com.netflix.spinnaker.front50.model.pipeline.PipelineTemplate
 import com.netflix.spinnaker.front50.model.pipeline.PipelineTemplateDAO
 import spock.lang.Specification
@@ -37,7 +37,6 @@ class PipelineTemplateControllerSpec extends Specification {
   def controller = new PipelineTemplateController(
     pipelineDAO: pipelineDAO,
     pipelineTemplateDAO: pipelineTemplateDAO,
-    objectMapper: new ObjectMapper(),
   )
 
   def "should reject delete request if template has dependent configs"() {
@@ -45,24 +44,55 @@ class PipelineTemplateControllerSpec extends Specification {
     def template = new PipelineTemplate(
       id: "myTemplate"
     )
-    def pipeline = new Pipeline(
-      type: TYPE_TEMPLATED,
-      config: [
-        pipeline: [
-          template: [
-            source: SPINNAKER_PREFIX + "myTemplate"
-          ]
-        ]
-      ]
+    controller.pipelineDAO = InMemoryPipelineDAOTestConfiguration.createPipelineDAO(
+      templatedPipeline("dependentPipeline", SPINNAKER_PREFIX + "myTemplate"),
+      templatedPipeline("unrelatedPipeline", SPINNAKER_PREFIX + "myOtherTemplate"),
+      new Pipeline(id: "untemplatedPipeline")
     )
 
     when:
     pipelineTemplateDAO.all() >> { [template] }
-    pipelineDAO.all() >> { [pipeline] }
     controller.checkForDependentConfigs(template.getId(), true)
 
     then:
-    thrown(InvalidRequestException)
+    def e = thrown(InvalidRequestException)
+    e.message.contains("dependentPipeline")
+    !e.message.contains("unrelatedPipeline")
+  }
+
+  def "should find configs that depend on a template or any of its dependent templates"() {
+    given:
+    def rootTemplate = new PipelineTemplate(id: "rootTemplate")
+    def childTemplate = new PipelineTemplate(id: "childTemplate", source: SPINNAKER_PREFIX + "rootTemplate")
+    def unrelatedTemplate = new PipelineTemplate(id: "unrelatedTemplate")
+    controller.pipelineDAO = InMemoryPipelineDAOTestConfiguration.createPipelineDAO(
+      templatedPipeline("rootPipeline", SPINNAKER_PREFIX + "rootTemplate"),
+      templatedPipeline("childPipeline", SPINNAKER_PREFIX + "childTemplate"),
+      templatedPipeline("unrelatedPipeline", SPINNAKER_PREFIX + "unrelatedTemplate"),
+      new Pipeline(id: "untemplatedPipeline")
+    )
+    pipelineTemplateDAO.all() >> { [rootTemplate, childTemplate, unrelatedTemplate] }
+
+    expect:
+    controller.getDependentConfigs("rootTemplate", true).sort() == ["childPipeline", "rootPipeline"]
+    controller.getDependentConfigs("rootTemplate", false) == ["rootPipeline"]
+    controller.getDependentConfigs("childTemplate", true) == ["childPipeline"]
+  }
+
+  def "should allow delete request if no configs depend on the template"() {
+    given:
+    def template = new PipelineTemplate(id: "myTemplate")
+    controller.pipelineDAO = InMemoryPipelineDAOTestConfiguration.createPipelineDAO(
+      templatedPipeline("unrelatedPipeline", SPINNAKER_PREFIX + "myOtherTemplate"),
+      new Pipeline(id: "untemplatedPipeline")
+    )
+
+    when:
+    pipelineTemplateDAO.all() >> { [template] }
+    controller.checkForDependentConfigs(template.getId(), true)
+
+    then:
+    noExceptionThrown()
   }
 
   def "should reject delete request if template has dependent templates"() {
@@ -105,4 +135,19 @@ class PipelineTemplateControllerSpec extends Specification {
     then:
     result == ['childTemplate', 'grandchildTemplate']
   }
+
+  private static Pipeline templatedPipeline(String id, String source) {
+    return new Pipeline(
+      id: id,
+      type: TYPE_TEMPLATED,
+      config: [
+        pipeline: [
+          template: [
+            source: source
+          ]
+        ]
+      ]
+    )
+  }
+
 }
@@ -25,6 +25,7 @@ import static com.netflix.spinnaker.front50.model.pipeline.TemplateConfiguration
 import com.netflix.spinnaker.front50.api.model.pipeline.Pipeline;
 import com.netflix.spinnaker.front50.model.pipeline.V2TemplateConfiguration;
 import com.netflix.spinnaker.front50.model.pipeline.PipelineDAO
+import com.netflix.spinnaker.front50.pipeline.InMemoryPipelineDAOTestConfiguration
 import com.netflix.spinnaker.front50.model.pipeline.PipelineTemplate
 import com.netflix.spinnaker.front50.model.pipeline.PipelineTemplateDAO
 import com.netflix.spinnaker.front50.model.pipeline.TemplateConfiguration
@@ -200,7 +201,7 @@ class V2PipelineTemplateControllerSpec extends Specification {
 
   def "getDependentConfigs returns empty list when there are no templated pipelines"() {
     given:
-    pipelineDAO.all() >> []
+    controller.pipelineDAO = InMemoryPipelineDAOTestConfiguration.createPipelineDAO()
 
     when:
     List<String> dependentConfigIds = controller.getDependentConfigs("myPipelineTemplateId")
@@ -211,9 +212,9 @@ class V2PipelineTemplateControllerSpec extends Specification {
 
   def "getDependentConfigs returns empty list when templated pipelines have no dependencies"() {
     given:
-    Pipeline normalPipeline = new Pipeline()
+    Pipeline normalPipeline = new Pipeline(id: "normalPipeline")
     Pipeline templatedPipeline = new Pipeline(id: "id-of-my-templated-pipeline", type: TYPE_TEMPLATED)
-    pipelineDAO.all() >> [normalPipeline, templatedPipeline]
+    controller.pipelineDAO = InMemoryPipelineDAOTestConfiguration.createPipelineDAO(normalPipeline, templatedPipeline)
 
     when:
     List<String> dependentConfigIds = controller.getDependentConfigs("a-different-pipeline-template-id")
@@ -251,13 +252,40 @@ class V2PipelineTemplateControllerSpec extends Specification {
       ]
     )
 
-    pipelineDAO.all() >> [normalPipeline, templatedPipeline, oneOtherTemplatedPipeline]
+    def taggedTemplatedPipeline = new Pipeline(
+      id: "id-of-my-tagged-templated-pipeline",
+      name: "name-of-my-tagged-templated-pipeline",
+      application: "application",
+      type: TYPE_TEMPLATED,
+      schema: "v2",
+      template: [
+        reference: SPINNAKER_PREFIX + "myPipelineTemplateId:stable"
+      ]
+    )
+    def similarlyNamedTemplatedPipeline = new Pipeline(
+      id: "id-of-a-similarly-named-templated-pipeline",
+      name: "name-of-a-similarly-named-templated-pipeline",
+      application: "application",
+      type: TYPE_TEMPLATED,
+      schema: "v2",
+      template: [
+        reference: SPINNAKER_PREFIX + "myPipelineTemplateId2"
+      ]
+    )
+
+    controller.pipelineDAO = InMemoryPipelineDAOTestConfiguration.createPipelineDAO(
+      normalPipeline,
+      templatedPipeline,
+      oneOtherTemplatedPipeline,
+      taggedTemplatedPipeline,
+      similarlyNamedTemplatedPipeline
+    )
 
     when:
     List<String> dependentConfigIds = controller.getDependentConfigs("myPipelineTemplateId")
 
     then:
-    dependentConfigIds == ["id-of-my-templated-pipeline"]
+    dependentConfigIds.sort() == ["id-of-my-tagged-templated-pipeline", "id-of-my-templated-pipeline"]
   }
 
   @Unroll
@@ -271,4 +299,5 @@ class V2PipelineTemplateControllerSpec extends Specification {
     where:
     id << [null, "", "    "]
   }
+
 }